@@ -74,6 +74,12 @@
             exclude(".cache/")
         }
     }
+
+    // Gametests that only report timings, run on demand with runBenchmark
+    create("benchmark") {
+        compileClasspath += main.get().compileClasspath + main.get().output
+        runtimeClasspath += main.get().runtimeClasspath + main.get().output
+    }
 }
 
 group = modGroup
@@ -135,6 +141,13 @@
             property("fabric-api.gametest.report-file", "${project.layout.buildDirectory.get().file("junit.xml")}")
         }
 
+        register("benchmark") {
+            server()
+            name("Benchmark")
+            source(sourceSets.getByName("benchmark"))
+            property("fabric-api.gametest")
+        }
+
         afterEvaluate {
             val mixinJarFile = configurations.runtimeClasspath.get().incoming.artifactView {
                 componentFilter {
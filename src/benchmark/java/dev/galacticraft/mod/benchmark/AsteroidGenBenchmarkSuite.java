@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.benchmark;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.world.gen.custom.AsteroidPlacementIndex;
+
+import java.util.Random;
+
+public class AsteroidGenBenchmarkSuite extends SimpleGameTest {
+    private static final int CHUNKS = 32;
+
+    @BasicTest(batch = "asteroid")
+    public void placementBenchmark() {
+        NoiseModule density = new Billowed(new Random(1000L).nextLong(), 2, .25F);
+        density.setFrequency(.009F);
+        density.amplitude = .6F;
+        AsteroidPlacementIndex index = new AsteroidPlacementIndex(density);
+        int chunks = CHUNKS * CHUNKS;
+        int found = 0;
+
+        // the 6x6 chunk neighbourhood scan the generator used to run for every chunk
+        long start = System.nanoTime();
+        for (int chunkX = 0; chunkX < CHUNKS; chunkX++) {
+            for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++) {
+                for (int x = (chunkX - 3) << 4; x < (chunkX + 3) << 4; x += 2) {
+                    for (int z = (chunkZ - 3) << 4; z < (chunkZ + 3) << 4; z += 2) {
+                        if (index.isAsteroidCentre(x, z)) {
+                            found++;
+                        }
+                    }
+                }
+            }
+        }
+        long scan = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int chunkX = 0; chunkX < CHUNKS; chunkX++) {
+            for (int chunkZ = 0; chunkZ < CHUNKS; chunkZ++) {
+                found += index.query(chunkX << 4, chunkZ << 4, (chunkX << 4) + 16, (chunkZ << 4) + 16).size();
+            }
+        }
+        long indexed = System.nanoTime() - start;
+
+        Constant.LOGGER.info("Asteroid placement: scan {} chunks/s, index {} chunks/s ({} candidates)",
+                chunks * 1_000_000_000L / Math.max(scan, 1), chunks * 1_000_000_000L / Math.max(indexed, 1), found);
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.benchmark;
+
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
+import dev.galacticraft.mod.misc.footprint.FootprintMesh;
+
+public class FootprintBenchmarkSuite extends SimpleGameTest {
+    private static final int CHUNKS = 64;
+    private static final int FRAMES = 100;
+
+    @BasicTest(batch = "footprint")
+    public void meshBuildBenchmark() {
+        FootprintChunk[] chunks = new FootprintChunk[CHUNKS];
+        for (int c = 0; c < chunks.length; c++) {
+            chunks[c] = new FootprintChunk();
+            for (int i = 0; i < FootprintChunk.CAPACITY; i++) {
+                chunks[c].add((c << 4) + (i & 15) + 0.5, 64, (i >> 4) + 0.5, i * 7 % 360, 0, i);
+            }
+        }
+
+        float[] sum = new float[1];
+        FootprintMesh.VertexSink sink = (x, y, z, u, v, colour) -> sum[0] += x + z + colour;
+        int quads = 0;
+        long start = System.nanoTime();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            for (FootprintChunk chunk : chunks) {
+                quads += FootprintMesh.build(chunk, 512.0, 64.0, 8.0, 1000 + frame, sink);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Constant.LOGGER.info("Footprint mesh: {} quads/frame in {} us/frame ({})",
+                quads / FRAMES, elapsed / 1000 / FRAMES, sum[0]);
+    }
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.benchmark;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.Constant;
+
+public class NoiseBenchmarkSuite extends SimpleGameTest {
+    private static final int SIZE = 64;
+    private static final int ROUNDS = 500;
+
+    @BasicTest(batch = "noise")
+    public void fillBenchmark() {
+        NoiseModule module = new Gradient(3L, 1, 1);
+        module.amplitude = 8;
+        float[] out = new float[SIZE * SIZE];
+
+        long start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            for (int i = 0; i < SIZE; i++) {
+                for (int j = 0; j < SIZE; j++) {
+                    out[i * SIZE + j] = module.getNoise(i + round, j);
+                }
+            }
+        }
+        long points = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int round = 0; round < ROUNDS; round++) {
+            module.fill2d(out, round, 0, 1, 1, SIZE, SIZE);
+        }
+        long grid = System.nanoTime() - start;
+
+        long samples = (long) ROUNDS * SIZE * SIZE;
+        Constant.LOGGER.info("Noise sampling: getNoise {} samples/ms, fill2d {} samples/ms",
+                samples * 1_000_000L / Math.max(points, 1), samples * 1_000_000L / Math.max(grid, 1));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.benchmark;
+
+import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
+import dev.galacticraft.impl.oxygen.SectionMasks;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.data.OxygenBlockDataManager;
+import net.minecraft.network.VarInt;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+
+public class OxygenBenchmarkSuite extends SimpleGameTest {
+    private static final int ROUNDS = 50;
+    private static final int BUBBLE_STEPS = 12;
+
+    @BasicTest(batch = "oxygen")
+    public void oxygenLookupBenchmark() {
+        List<BlockState> states = new ArrayList<>();
+        Block.BLOCK_STATE_REGISTRY.forEach(states::add);
+        int lookups = states.size() * ROUNDS;
+        float total = 0;
+
+        // the map lookup and fallback checks getOxygen used to run for every block
+        long start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            for (BlockState state : states) {
+                total += OxygenBlockDataManager.computeOxygen(state);
+            }
+        }
+        long rules = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            for (BlockState state : states) {
+                total += OxygenBlockDataManager.getOxygen(state);
+            }
+        }
+        long baked = System.nanoTime() - start;
+
+        Constant.LOGGER.info("Oxygen lookup: rules {} ns/op, baked {} ns/op ({})",
+                (double) rules / lookups, (double) baked / lookups, total);
+    }
+
+    @BasicTest(batch = "oxygen")
+    public void oxygenSyncBandwidthBenchmark() {
+        long[] storage = new long[SectionMasks.WORDS];
+        long[] previous = new long[SectionMasks.WORDS];
+        long fullBytes = 0;
+        long deltaBytes = 0;
+
+        // a bubble growing by one block per step inside a single section
+        for (int radius = 1; radius <= BUBBLE_STEPS; radius++) {
+            System.arraycopy(storage, 0, previous, 0, SectionMasks.WORDS);
+            SectionMasks.shell(storage, 8, 8, 8, -1, radius * radius);
+
+            long dirty = 0;
+            for (int i = 0; i < SectionMasks.WORDS; i++) {
+                if (storage[i] != previous[i]) {
+                    dirty |= 1L << i;
+                }
+            }
+
+            // the whole section BitSet that used to be sent for every change
+            byte[] bits = BitSet.valueOf(storage).toByteArray();
+            fullBytes += VarInt.getByteSize(bits.length) + bits.length + 1;
+            deltaBytes += OxygenUpdatePayload.OxygenData.of(0, dirty, storage).getSerializedSize();
+        }
+
+        Constant.LOGGER.info("Oxygen sync: full sections {} bytes, deltas {} bytes over {} steps ({} set)",
+                fullBytes, deltaBytes, BUBBLE_STEPS, Arrays.stream(storage).map(Long::bitCount).sum());
+    }
+}
@@ -0,0 +1,110 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.benchmark;
+
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.world.biome.GCBiomes;
+import dev.galacticraft.mod.world.gen.GCNoiseGeneratorSettings;
+import dev.galacticraft.mod.world.gen.PlanetChunkGenerator;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.FixedBiomeSource;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.chunk.status.ChunkStatus;
+import net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.blending.Blender;
+
+import java.util.Optional;
+
+public class PlanetGenBenchmarkSuite extends SimpleGameTest {
+    private static final int GRID = 8;
+    private static final long SEED = 1000L;
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void fillBenchmark(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        // the noise settings the Moon is generated with, so both generators build comparable terrain
+        RandomState randomState = RandomState.create(level.registryAccess(), GCNoiseGeneratorSettings.MOON, SEED);
+        NoiseBasedChunkGenerator noise = new NoiseBasedChunkGenerator(createBiomeSource(level), level.registryAccess().registryOrThrow(Registries.NOISE_SETTINGS).getHolderOrThrow(GCNoiseGeneratorSettings.MOON));
+        PlanetChunkGenerator planet = createPlanetGenerator(level);
+
+        ChunkPos origin = new ChunkPos(context.absolutePos(BlockPos.ZERO));
+        ChunkPos[] positions = new ChunkPos[GRID * GRID];
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = new ChunkPos(origin.x + i % GRID, origin.z + i / GRID);
+            // The noise based generator looks up structure references in the level, so those chunks are loaded up front
+            level.getChunk(positions[i].x, positions[i].z, ChunkStatus.STRUCTURE_REFERENCES);
+        }
+
+        // warm up both generators away from the measured chunks
+        ChunkPos warmUp = new ChunkPos(origin.x - 1, origin.z - 1);
+        level.getChunk(warmUp.x, warmUp.z, ChunkStatus.STRUCTURE_REFERENCES);
+        fill(level, noise, randomState, warmUp);
+        fill(level, createPlanetGenerator(level), randomState, warmUp);
+
+        long start = System.nanoTime();
+        for (ChunkPos pos : positions) {
+            fill(level, noise, randomState, pos);
+        }
+        long noiseTime = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (ChunkPos pos : positions) {
+            fill(level, planet, randomState, pos);
+        }
+        long planetTime = System.nanoTime() - start;
+
+        Constant.LOGGER.info("Chunk fill: noise based {} chunks/s, planet {} chunks/s",
+                positions.length * 1_000_000_000L / Math.max(noiseTime, 1), positions.length * 1_000_000_000L / Math.max(planetTime, 1));
+        context.succeed();
+    }
+
+    private static ProtoChunk fill(ServerLevel level, ChunkGenerator generator, RandomState randomState, ChunkPos pos) {
+        ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, level, level.registryAccess().registryOrThrow(Registries.BIOME), null);
+        generator.fillFromNoise(Blender.empty(), randomState, level.structureManager(), chunk).join();
+        return chunk;
+    }
+
+    private static BiomeSource createBiomeSource(ServerLevel level) {
+        return new FixedBiomeSource(level.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(GCBiomes.Moon.LUNAR_HIGHLANDS));
+    }
+
+    private static PlanetChunkGenerator createPlanetGenerator(ServerLevel level) {
+        return new PlanetChunkGenerator(createBiomeSource(level), new PlanetChunkGenerator.TerrainSettings(
+                level.getMinBuildHeight(), level.getHeight(), 64, 24, .01F, 4, .5F,
+                GCBlocks.MOON_ROCK.defaultBlockState(), GCBlocks.MOON_TURF.defaultBlockState(), GCBlocks.MOON_DIRT.defaultBlockState(), 3,
+                Optional.of(new PlanetChunkGenerator.CraterSettings(.05F, 8, 32))
+        ));
+    }
+}
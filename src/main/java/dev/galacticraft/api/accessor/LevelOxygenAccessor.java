@@ -55,4 +55,71 @@ default void setBreathable(int x, int y, int z, boolean value) {
     default void setBreathableChunk(LevelChunk chunk, int x, int y, int z, boolean value) {
         throw new RuntimeException("This should be overridden by mixin!");
     }
+
+    /**
+     * Sets the breathable state of every position of a mask within one chunk section
+     *
+     * @param chunk    the chunk containing the section
+     * @param sectionY the section coordinate on the Y-axis
+     * @param mask     64 words of position bits, indexed as {@code x + (y << 4) + (z << 8)} relative to the section
+     * @param value    whether the masked positions are breathable
+     */
+    default void setBreathableSection(LevelChunk chunk, int sectionY, long[] mask, boolean value) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    /**
+     * Copies the breathable state of every position of a chunk section into a mask.
+     * Rooms sealed by oxygen sealers are not included.
+     *
+     * @param chunk    the chunk containing the section
+     * @param sectionY the section coordinate on the Y-axis
+     * @param out      64 words to write the position bits to, indexed as {@code x + (y << 4) + (z << 8)} relative to the section
+     */
+    default void getBreathableSection(LevelChunk chunk, int sectionY, long[] out) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    /**
+     * Sets the breathable state of every position within a box
+     *
+     * @param minX  the minimum X coordinate (inclusive)
+     * @param minY  the minimum Y coordinate (inclusive)
+     * @param minZ  the minimum Z coordinate (inclusive)
+     * @param maxX  the maximum X coordinate (inclusive)
+     * @param maxY  the maximum Y coordinate (inclusive)
+     * @param maxZ  the maximum Z coordinate (inclusive)
+     * @param value whether the positions are breathable
+     */
+    default void setBreathableBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, boolean value) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
+
+    /**
+     * Sets the breathable state of every position within a sphere
+     *
+     * @param x        the centre of the sphere on the X-axis
+     * @param y        the centre of the sphere on the Y-axis
+     * @param z        the centre of the sphere on the Z-axis
+     * @param radiusSq the squared radius of the sphere
+     * @param value    whether the positions are breathable
+     */
+    default void setBreathableSphere(int x, int y, int z, int radiusSq, boolean value) {
+        this.setBreathableShell(x, y, z, -1, radiusSq, value);
+    }
+
+    /**
+     * Sets the breathable state of every position whose squared distance to a centre
+     * is greater than {@code innerRadiusSq} and at most {@code outerRadiusSq}
+     *
+     * @param x             the centre of the shell on the X-axis
+     * @param y             the centre of the shell on the Y-axis
+     * @param z             the centre of the shell on the Z-axis
+     * @param innerRadiusSq the squared radius of the hollow part of the shell, or a negative value for a full sphere
+     * @param outerRadiusSq the squared radius of the shell
+     * @param value         whether the positions are breathable
+     */
+    default void setBreathableShell(int x, int y, int z, int innerRadiusSq, int outerRadiusSq, boolean value) {
+        throw new RuntimeException("This should be overridden by mixin!");
+    }
 }
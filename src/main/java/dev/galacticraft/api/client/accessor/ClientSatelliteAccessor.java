@@ -24,13 +24,31 @@
 
 import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.network.s2c.SatelliteCataloguePayload;
+import dev.galacticraft.impl.satellite.SatelliteIndex;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Map;
 
 @Environment(EnvType.CLIENT)
 public interface ClientSatelliteAccessor extends SatelliteAccessor {
+    /**
+     * Returns every satellite the server knows of. Unlike {@link #galacticraft$getSatellites()},
+     * this includes satellites whose full config hasn't been fetched yet.
+     */
+    Map<ResourceLocation, SatelliteIndex> galacticraft$getSatelliteCatalogue();
+
+    void galacticraft$updateCatalogue(SatelliteCataloguePayload payload);
+
+    /**
+     * Asks the server for the configs of all catalogued satellites that haven't been fetched yet.
+     */
+    void galacticraft$requestSatellites();
+
     void addListener(SatelliteListener listener);
 
     void removeListener(SatelliteListener listener);
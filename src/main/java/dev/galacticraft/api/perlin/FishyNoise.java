@@ -29,6 +29,10 @@ public class FishyNoise {
 
     public float[][] grad2d = new float[][]{{1, 0}, {.9239F, .3827F}, {.707107F, 0.707107F}, {.3827F, .9239F}, {0, 1}, {-.3827F, .9239F}, {-.707107F, 0.707107F}, {-.9239F, .3827F}, {-1, 0}, {-.9239F, -.3827F}, {-.707107F, -0.707107F}, {-.3827F, -.9239F}, {0, -1}, {.3827F, -.9239F}, {.707107F, -0.707107F}, {.9239F, -.3827F}};
 
+    // grad2d split by component, so the grid kernel doesn't chase a row pointer for every sample
+    private final float[] grad2dX = new float[16];
+    private final float[] grad2dY = new float[16];
+
     public int[][] grad3d = new int[][]{{1, 1, 0}, {-1, 1, 0}, {1, -1, 0}, {-1, -1, 0}, {1, 0, 1}, {-1, 0, 1}, {1, 0, -1}, {-1, 0, -1}, {0, 1, 1}, {0, -1, 1}, {0, 1, -1}, {0, -1, -1}, {1, 1, 0}, {-1, 1, 0}, {0, -1, 1}, {0, -1, -1}};
 
     public FishyNoise(long seed) {
@@ -46,6 +50,11 @@ public FishyNoise(long seed) {
         }
 
         System.arraycopy(this.perm, 0, this.perm, 256, 256);
+
+        for (int i = 0; i < 16; i++) {
+            this.grad2dX[i] = this.grad2d[i][0];
+            this.grad2dY[i] = this.grad2d[i][1];
+        }
     }
 
     private static float lerp(float x, float y, float n) {
@@ -94,6 +103,61 @@ public float noise2d(float x, float y) {
         return lerpX0 + v * (grad01 + u * (grad11 - grad01) - lerpX0);
     }
 
+    /**
+     * Samples {@link #noise2d(float, float)} over every combination of the given coordinates, with the second coordinate varying fastest:
+     * {@code out[i * ys.length + j] = noise2d(xs[i] + offsetX, ys[j] + offsetY)}.
+     * The floor, fraction and fade of each coordinate are only worked out once per row or column.
+     */
+    public void noise2d(float[] out, float[] xs, float offsetX, float[] ys, float offsetY) {
+        final int height = ys.length;
+        final float[] fracY = new float[height];
+        final float[] fadeY = new float[height];
+        final int[] permY = new int[height];
+        final int[] permY1 = new int[height];
+        for (int j = 0; j < height; j++) {
+            float y = ys[j] + offsetY;
+            int largeY = y > 0 ? (int) y : (int) y - 1;
+            y -= largeY;
+            largeY &= 255;
+            fracY[j] = y;
+            fadeY[j] = y * y * y * (y * (y * 6 - 15) + 10);
+            permY[j] = this.perm[largeY];
+            permY1[j] = this.perm[largeY + 1];
+        }
+
+        final int[] perm = this.perm;
+        final float[] gradX = this.grad2dX;
+        final float[] gradY = this.grad2dY;
+        for (int i = 0; i < xs.length; i++) {
+            float x = xs[i] + offsetX;
+            int largeX = x > 0 ? (int) x : (int) x - 1;
+            x -= largeX;
+            largeX &= 255;
+            final float u = x * x * x * (x * (x * 6 - 15) + 10);
+            final float x1 = x - 1;
+            final int row = i * height;
+
+            for (int j = 0; j < height; j++) {
+                final float y = fracY[j];
+                final float y1 = y - 1;
+                final int randY = permY[j] + largeX;
+                final int randY1 = permY1[j] + largeX;
+
+                int g = perm[randY] & 15;
+                final float grad00 = gradX[g] * x + gradY[g] * y;
+                g = perm[randY1] & 15;
+                final float grad01 = gradX[g] * x + gradY[g] * y1;
+                g = perm[1 + randY1] & 15;
+                final float grad11 = gradX[g] * x1 + gradY[g] * y1;
+                g = perm[1 + randY] & 15;
+                final float grad10 = gradX[g] * x1 + gradY[g] * y;
+
+                final float lerpX0 = grad00 + u * (grad10 - grad00);
+                out[row + j] = lerpX0 + fadeY[j] * (grad01 + u * (grad11 - grad01) - lerpX0);
+            }
+        }
+    }
+
     public float noise3d(float x, float y, float z) {
         int unitX = x > 0 ? (int) x : (int) x - 1;
         int unitY = y > 0 ? (int) y : (int) y - 1;
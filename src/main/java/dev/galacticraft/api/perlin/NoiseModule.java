@@ -34,6 +34,40 @@ public abstract class NoiseModule {
 
     public abstract float getNoise(float i, float j, float k);
 
+    /**
+     * Samples 2D noise over a grid, so that work shared between neighbouring samples is only done once.
+     * The second coordinate varies fastest: {@code out[i * height + j] = getNoise(originX + i * stepX, originY + j * stepY)}.
+     * Gives exactly the same values as calling {@link #getNoise(float, float)} for each point.
+     */
+    public void fill2d(float[] out, float originX, float originY, float stepX, float stepY, int width, int height) {
+        for (int i = 0; i < width; i++) {
+            float x = originX + i * stepX;
+            for (int j = 0; j < height; j++) {
+                out[i * height + j] = this.getNoise(x, originY + j * stepY);
+            }
+        }
+    }
+
+    /**
+     * Fills the sample coordinates of one grid axis, already scaled by the frequency.
+     */
+    protected static float[] axis(float origin, float step, int size, float frequency) {
+        float[] axis = new float[size];
+        for (int i = 0; i < size; i++) {
+            axis[i] = (origin + i * step) * frequency;
+        }
+        return axis;
+    }
+
+    /**
+     * Moves the sample coordinates of one grid axis up an octave.
+     */
+    protected static void doubleAxis(float[] axis) {
+        for (int i = 0; i < axis.length; i++) {
+            axis[i] *= 2;
+        }
+    }
+
     public void setFrequency(float frequency) {
         this.frequencyX = frequency;
         this.frequencyY = frequency;
@@ -25,6 +25,7 @@
 import dev.galacticraft.api.perlin.FishyNoise;
 import dev.galacticraft.api.perlin.NoiseModule;
 
+import java.util.Arrays;
 import java.util.Random;
 
 public class Gradient extends NoiseModule {
@@ -77,6 +78,33 @@ public float getNoise(float i, float j) {
         return val;
     }
 
+    @Override
+    public void fill2d(float[] out, float originX, float originY, float stepX, float stepY, int width, int height) {
+        final float[] xs = axis(originX, stepX, width, this.frequencyX);
+        final float[] ys = axis(originY, stepY, height, this.frequencyY);
+        final int size = width * height;
+        if (this.numOctaves == 1) {
+            this.noiseGen.noise2d(out, xs, this.offsetX, ys, this.offsetY);
+            for (int n = 0; n < size; n++) {
+                out[n] *= this.amplitude;
+            }
+            return;
+        }
+
+        final float[] octave = new float[size];
+        Arrays.fill(out, 0, size, 0);
+        float curAmplitude = this.amplitude;
+        for (int n = 0; n < this.numOctaves; n++) {
+            this.noiseGen.noise2d(octave, xs, this.offsetX, ys, this.offsetY);
+            for (int k = 0; k < size; k++) {
+                out[k] += octave[k] * curAmplitude;
+            }
+            doubleAxis(xs);
+            doubleAxis(ys);
+            curAmplitude *= this.persistance;
+        }
+    }
+
     @Override
     public float getNoise(float i, float j, float k) {
         if (this.numOctaves == 1) {
@@ -25,6 +25,7 @@
 import dev.galacticraft.api.perlin.FishyNoise;
 import dev.galacticraft.api.perlin.NoiseModule;
 
+import java.util.Arrays;
 import java.util.Random;
 
 public class RidgedMulti extends NoiseModule {
@@ -105,6 +106,32 @@ public float getNoise(float i, float j) {
         return val;
     }
 
+    @Override
+    public void fill2d(float[] out, float originX, float originY, float stepX, float stepY, int width, int height) {
+        final float[] xs = axis(originX, stepX, width, this.frequencyX);
+        final float[] ys = axis(originY, stepY, height, this.frequencyY);
+        final int size = width * height;
+        final float[] octave = new float[size];
+        final float[] weights = new float[size];
+        Arrays.fill(out, 0, size, 0F);
+        Arrays.fill(weights, 1.0F);
+        final float offset = 1.0F;
+        final float gain = 2.0F;
+        for (int n = 0; n < this.numOctaves; n++) {
+            this.noiseGen.noise2d(octave, xs, this.offsetX, ys, this.offsetY);
+            for (int k = 0; k < size; k++) {
+                float noise = offset - this.absolute(octave[k]);
+                noise *= noise;
+                noise *= weights[k];
+
+                weights[k] = Math.min(Math.max(noise * gain, 0F), 1F);
+                out[k] += noise;
+            }
+            doubleAxis(xs);
+            doubleAxis(ys);
+        }
+    }
+
     @Override
     public float getNoise(float i, float j, float k) {
         i *= this.frequencyX;
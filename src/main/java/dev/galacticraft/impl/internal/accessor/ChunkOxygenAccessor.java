@@ -42,4 +42,21 @@ public interface ChunkOxygenAccessor {
      * @param inverted whether the supplied position is breathable
      */
     void galacticraft$setInverted(int x, int y, int z, boolean inverted);
+
+    /**
+     * Sets the breathable state for entities for every position of a mask within one section
+     *
+     * @param sectionIndex the index of the section in the chunk
+     * @param mask         64 words of position bits, indexed as {@code x + (y << 4) + (z << 8)}
+     * @param inverted     whether the masked positions are breathable
+     */
+    void galacticraft$applyMask(int sectionIndex, long[] mask, boolean inverted);
+
+    /**
+     * Copies the inverted positions of one section into a mask
+     *
+     * @param sectionIndex the index of the section in the chunk
+     * @param out          64 words to write the position bits to
+     */
+    void galacticraft$getMask(int sectionIndex, long[] out);
 }
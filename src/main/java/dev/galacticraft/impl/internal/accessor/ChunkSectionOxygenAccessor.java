@@ -25,9 +25,6 @@
 import net.minecraft.network.FriendlyByteBuf;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.NotNull;
-import org.jetbrains.annotations.Nullable;
-
-import java.util.BitSet;
 
 @ApiStatus.Internal
 public interface ChunkSectionOxygenAccessor {
@@ -43,11 +40,35 @@ public interface ChunkSectionOxygenAccessor {
 
     void galacticraft$setInverted(int pos, boolean value);
 
-    boolean galacticraft$isEmpty();
+    /**
+     * Sets or clears every position of a mask at once.
+     *
+     * @param mask     64 words of position bits, indexed as {@code x + (y << 4) + (z << 8)}
+     * @param inverted whether the masked positions should be inverted
+     * @return a bit for each of the 64 words that changed
+     */
+    long galacticraft$applyMask(long[] mask, boolean inverted);
+
+    /**
+     * Copies the inverted positions of this section into a mask.
+     *
+     * @param out 64 words to write the position bits to
+     */
+    void galacticraft$getMask(long[] out);
 
-    @Nullable BitSet galacticraft$getBits();
+    /**
+     * Replaces the inverted positions of this section.
+     *
+     * @param mask 64 words of position bits
+     */
+    void galacticraft$setMask(long[] mask);
+
+    boolean galacticraft$isEmpty();
 
-    void galacticraft$setBits(@Nullable BitSet set);
+    /**
+     * @return the number of inverted positions in this section
+     */
+    int galacticraft$getCount();
 
     void galacticraft$writeOxygenPacket(@NotNull FriendlyByteBuf buf);
 
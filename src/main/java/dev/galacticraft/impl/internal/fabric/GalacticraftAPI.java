@@ -33,6 +33,7 @@
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
+import dev.galacticraft.impl.internal.accessor.SatelliteCatalogueProvider;
 import dev.galacticraft.impl.internal.command.GCApiCommands;
 import dev.galacticraft.impl.network.GCApiPackets;
 import dev.galacticraft.impl.network.GCApiServerPacketReceivers;
@@ -43,6 +44,7 @@
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistries;
 import net.fabricmc.fabric.api.event.registry.DynamicRegistrySetupCallback;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayConnectionEvents;
 import net.minecraft.core.Registry;
 import net.minecraft.core.registries.BuiltInRegistries;
 import net.minecraft.server.MinecraftServer;
@@ -81,6 +83,9 @@ public void onInitialize() {
         BuiltInRocketRegistries.initialize();
         GcApiEntityAttributes.init();
         ServerLifecycleEvents.SERVER_STARTED.register(this::onServerStarted);
+        ServerPlayConnectionEvents.JOIN.register((handler, sender, server) -> {
+            ((SatelliteCatalogueProvider) server).galacticraft$getSatelliteCatalogue().sendTo(handler.player, server);
+        });
 
         DynamicDimensionLoadCallback.register((minecraftServer, dynamicDimensionLoader) -> {
             ((SatelliteAccessor) minecraftServer).galacticraft$loadSatellites(dynamicDimensionLoader);
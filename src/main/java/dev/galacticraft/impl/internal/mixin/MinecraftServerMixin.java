@@ -23,21 +23,32 @@
 package dev.galacticraft.impl.internal.mixin;
 
 import com.google.common.collect.ImmutableMap;
-import com.mojang.datafixers.util.Pair;
-import com.mojang.serialization.DataResult;
 import dev.galacticraft.api.accessor.SatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.dynamicdimensions.api.DynamicDimensionRegistry;
 import dev.galacticraft.dynamicdimensions.api.event.DynamicDimensionLoadCallback;
+import dev.galacticraft.impl.internal.accessor.SatelliteCatalogueProvider;
+import dev.galacticraft.impl.internal.accessor.SatelliteLevelLoader;
+import dev.galacticraft.impl.satellite.SatelliteCatalogue;
+import dev.galacticraft.impl.satellite.SatelliteStorage;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import dev.galacticraft.mod.Constant;
-import net.fabricmc.fabric.api.util.NbtType;
-import net.minecraft.nbt.*;
+import dev.galacticraft.mod.Galacticraft;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.resources.ResourceKey;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.Level;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelResource;
 import net.minecraft.world.level.storage.LevelStorageSource;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
@@ -48,20 +59,41 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 @Mixin(MinecraftServer.class)
-public abstract class MinecraftServerMixin implements SatelliteAccessor {
+public abstract class MinecraftServerMixin implements SatelliteAccessor, SatelliteLevelLoader, SatelliteCatalogueProvider {
+    @Unique
+    private static final String FORCED_CHUNKS_FILE = "chunks.dat";
+    @Unique
+    private static final String FORCED_CHUNKS_KEY = "Forced";
     @Unique
     private final Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
+    @Unique
+    private @Nullable SatelliteStorage satelliteStorage = null;
+    @Unique
+    private final SatelliteCatalogue satelliteCatalogue = new SatelliteCatalogue();
+    // the tick each loaded satellite last had a player or forced chunk in it
+    @Unique
+    private final Object2IntMap<ResourceLocation> satelliteLastActive = new Object2IntOpenHashMap<>();
 
     @Shadow
     @Final
     protected LevelStorageSource.LevelStorageAccess storageSource;
 
+    @Shadow
+    public abstract @Nullable ServerLevel getLevel(ResourceKey<Level> key);
+
+    @Shadow
+    public abstract int getTickCount();
+
     @Override
     public @Unmodifiable Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
         return ImmutableMap.copyOf(this.satellites);
@@ -70,56 +102,129 @@ public abstract class MinecraftServerMixin implements SatelliteAccessor {
     @Override
     public void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
         this.satellites.put(id, satellite);
+        this.satelliteCatalogue.onAdded(id, satellite.config());
     }
 
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
-        this.satellites.remove(id);
+        if (this.satellites.remove(id) != null) {
+            this.galacticraft$getSatelliteStorage().delete(id);
+            this.satelliteCatalogue.onRemoved(id);
+        }
     }
 
     @Inject(method = "saveEverything", at = @At("RETURN"))
     private void galacticraft_saveSatellites(boolean suppressLogs, boolean bl, boolean bl2, CallbackInfoReturnable<Boolean> cir) {
-        Path path = this.storageSource.getLevelPath(LevelResource.ROOT);
-        ListTag nbt = new ListTag();
-        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
-            CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(entry.getValue().config(), NbtOps.INSTANCE, new CompoundTag()).getOrThrow();
-            compound.putString("id", entry.getKey().toString());
-            nbt.add(compound);
-        }
-        CompoundTag compound = new CompoundTag();
-        compound.put("satellites", nbt);
-        try {
-            NbtIo.writeCompressed(compound, path.resolve("satellites.dat"));
-        } catch (Throwable exception) {
-            Constant.LOGGER.fatal("Failed to write satellite data!", exception);
-        }
+        this.galacticraft$saveSatellites();
+    }
+
+    @Inject(method = "stopServer", at = @At("RETURN"))
+    private void galacticraft_flushSatellites(CallbackInfo ci) {
+        this.galacticraft$saveSatellites();
+        this.galacticraft$getSatelliteStorage().flush();
     }
 
     @Inject(method = "runServer", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/MinecraftServer;initServer()Z", shift = At.Shift.AFTER))
     private void galacticraft_loadSatellites(CallbackInfo ci) {
-        Path worldFile = this.storageSource.getLevelPath(LevelResource.ROOT);
-        if (Files.exists(worldFile.resolve("satellites.dat"))) {
-            try {
-                ListTag nbt = NbtIo.readCompressed(worldFile.resolve("satellites.dat"), NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
-                for (Tag compound : nbt) {
-                    assert compound instanceof CompoundTag : "Not a compound?!";
-                    ResourceLocation id = ResourceLocation.parse(((CompoundTag) compound).getString("id"));
-                    DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
-                    if (decode.error().isPresent()) {
-                        Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
-                        continue;
-                    }
-                    this.satellites.put(id, new CelestialBody<>(SatelliteType.INSTANCE, decode.getOrThrow().getFirst()));
-                }
-            } catch (Throwable exception) {
-                throw new RuntimeException("Failed to read satellite data!", exception);
+        for (Map.Entry<ResourceLocation, SatelliteConfig> entry : this.galacticraft$getSatelliteStorage().load().entrySet()) {
+            this.satellites.put(entry.getKey(), new CelestialBody<>(SatelliteType.INSTANCE, entry.getValue()));
+        }
+    }
+
+    @Inject(method = "tickChildren", at = @At("TAIL"))
+    private void galacticraft_syncSatelliteCatalogue(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        this.satelliteCatalogue.flush((MinecraftServer) (Object) this);
+    }
+
+    @Override
+    public SatelliteCatalogue galacticraft$getSatelliteCatalogue() {
+        return this.satelliteCatalogue;
+    }
+
+    @Inject(method = "tickChildren", at = @At("TAIL"))
+    private void galacticraft_unloadIdleSatellites(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        long delay = Galacticraft.CONFIG.satelliteUnloadDelay();
+        int tick = this.getTickCount();
+        if (delay <= 0 || tick % 20 != 0) return;
+
+        List<ResourceLocation> idle = new ArrayList<>();
+        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : this.satellites.values()) {
+            ResourceKey<Level> key = satellite.config().getWorld();
+            ServerLevel level = this.getLevel(key);
+            if (level == null) {
+                this.satelliteLastActive.removeInt(key.location());
+            } else if (!level.players().isEmpty() || !level.getForcedChunks().isEmpty()) {
+                this.satelliteLastActive.put(key.location(), tick);
+            } else if (tick - this.satelliteLastActive.computeIfAbsent(key.location(), id -> tick) >= delay) {
+                idle.add(key.location());
+            }
+        }
+
+        DynamicDimensionRegistry registry = DynamicDimensionRegistry.from((MinecraftServer) (Object) this);
+        for (ResourceLocation id : idle) {
+            // Removing keeps the dimension's files, so it can be loaded again on the next visit
+            Constant.LOGGER.debug("Unloading idle satellite {}", id);
+            registry.removeDynamicDimension(id, (server, player) -> {});
+            this.satelliteLastActive.removeInt(id);
+        }
+    }
+
+    @Override
+    public @Nullable ServerLevel galacticraft$getOrLoadLevel(ResourceKey<Level> key) {
+        ServerLevel level = this.getLevel(key);
+        if (level != null) return level;
+
+        for (CelestialBody<SatelliteConfig, SatelliteType> satellite : this.satellites.values()) {
+            if (satellite.config().getWorld().equals(key)) {
+                Constant.LOGGER.debug("Loading dormant satellite {}", key.location());
+                LevelStem levelStem = satellite.config().getOptions();
+                level = DynamicDimensionRegistry.from((MinecraftServer) (Object) this).createDynamicDimension(key.location(), levelStem.generator(), levelStem.type().value());
+                this.satelliteLastActive.put(key.location(), this.getTickCount());
+                return level;
             }
         }
+        return null;
+    }
+
+    @Unique
+    private boolean galacticraft$hasForcedChunks(ResourceKey<Level> key) {
+        // The file is kept once a chunk has been forced, even after every chunk is unforced again
+        Path path = this.storageSource.getDimensionPath(key).resolve("data").resolve(FORCED_CHUNKS_FILE);
+        if (!Files.exists(path)) return false;
+
+        try {
+            CompoundTag tag = NbtIo.readCompressed(path, NbtAccounter.unlimitedHeap());
+            return tag.getCompound("data").getLongArray(FORCED_CHUNKS_KEY).length > 0;
+        } catch (IOException e) {
+            // Load the satellite anyway rather than leave its forced chunks unloaded
+            Constant.LOGGER.error("Failed to read forced chunks of {}", key.location(), e);
+            return true;
+        }
+    }
+
+    @Unique
+    private void galacticraft$saveSatellites() {
+        Map<ResourceLocation, SatelliteConfig> configs = new HashMap<>(this.satellites.size());
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
+            configs.put(entry.getKey(), entry.getValue().config());
+        }
+        this.galacticraft$getSatelliteStorage().save(configs);
+    }
+
+    @Unique
+    private SatelliteStorage galacticraft$getSatelliteStorage() {
+        if (this.satelliteStorage == null) {
+            this.satelliteStorage = new SatelliteStorage(this.storageSource.getLevelPath(LevelResource.ROOT));
+        }
+        return this.satelliteStorage;
     }
 
     @Override
     public void galacticraft$loadSatellites(DynamicDimensionLoadCallback.DynamicDimensionLoader dynamicDimensionLoader) {
+        // Dormant satellites are loaded on their first visit, unless they have to keep chunks loaded
+        boolean dormant = Galacticraft.CONFIG.satelliteUnloadDelay() > 0;
         for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : this.satellites.entrySet()) {
+            if (dormant && !this.galacticraft$hasForcedChunks(entry.getValue().config().getWorld())) continue;
             LevelStem levelStem = entry.getValue().config().getOptions();
             dynamicDimensionLoader.loadDynamicDimension(entry.getKey(), levelStem.generator(), levelStem.type().value());
         }
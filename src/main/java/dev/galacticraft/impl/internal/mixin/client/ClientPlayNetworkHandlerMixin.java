@@ -24,25 +24,30 @@
 
 import dev.galacticraft.api.client.accessor.ClientSatelliteAccessor;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.network.c2s.RequestSatellitesPayload;
+import dev.galacticraft.impl.network.s2c.SatelliteCataloguePayload;
+import dev.galacticraft.impl.satellite.SatelliteIndex;
 import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
 import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
 import net.fabricmc.api.EnvType;
 import net.fabricmc.api.Environment;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
 import net.minecraft.client.multiplayer.ClientPacketListener;
 import net.minecraft.resources.ResourceLocation;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Unique;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
 
 @Environment(EnvType.CLIENT)
 @Mixin(ClientPacketListener.class)
 public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAccessor {
     private final @Unique Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = new HashMap<>();
     private final @Unique List<SatelliteListener> listeners = new ArrayList<>();
+    private final @Unique Map<ResourceLocation, SatelliteIndex> catalogue = new HashMap<>();
+    // satellites whose config was asked for but hasn't arrived yet
+    private final @Unique Set<ResourceLocation> requested = new HashSet<>();
+    private @Unique int catalogueVersion = -1;
 
     @Override
     public Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> galacticraft$getSatellites() {
@@ -52,6 +57,7 @@ public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAc
     @Override
     public void galacticraft$addSatellite(ResourceLocation id, CelestialBody<SatelliteConfig, SatelliteType> satellite) {
         this.satellites.put(id, satellite);
+        this.requested.remove(id);
         for (SatelliteListener listener : this.listeners) {
             listener.onSatelliteUpdated(satellite, true);
         }
@@ -60,11 +66,69 @@ public abstract class ClientPlayNetworkHandlerMixin implements ClientSatelliteAc
     @Override
     public void galacticraft$removeSatellite(ResourceLocation id) {
         CelestialBody<SatelliteConfig, SatelliteType> removed = this.satellites.remove(id);
+        if (removed == null) return;
         for (SatelliteListener listener : this.listeners) {
             listener.onSatelliteUpdated(removed, false);
         }
     }
 
+    @Override
+    public Map<ResourceLocation, SatelliteIndex> galacticraft$getSatelliteCatalogue() {
+        return this.catalogue;
+    }
+
+    @Override
+    public void galacticraft$updateCatalogue(SatelliteCataloguePayload payload) {
+        if (payload.reset()) {
+            this.catalogue.clear();
+            for (SatelliteIndex index : payload.added()) {
+                this.catalogue.put(index.id(), index);
+            }
+            // Drop configs of satellites that are gone, the rest are still valid
+            for (ResourceLocation id : new ArrayList<>(this.satellites.keySet())) {
+                if (!this.catalogue.containsKey(id)) {
+                    this.galacticraft$removeSatellite(id);
+                }
+            }
+        } else if (payload.version() != this.catalogueVersion + 1) {
+            // An update was missed, so start over from the whole catalogue
+            ClientPlayNetworking.send(new RequestSatellitesPayload(List.of(), true));
+            return;
+        }
+
+        this.catalogueVersion = payload.version();
+        for (ResourceLocation id : payload.removed()) {
+            this.catalogue.remove(id);
+            this.requested.remove(id);
+            this.galacticraft$removeSatellite(id);
+        }
+        for (SatelliteIndex index : payload.added()) {
+            this.catalogue.put(index.id(), index);
+        }
+
+        // Satellites are only fetched for open screens, which listen for them
+        if (!this.listeners.isEmpty()) {
+            this.galacticraft$requestSatellites();
+        }
+    }
+
+    @Override
+    public void galacticraft$requestSatellites() {
+        List<ResourceLocation> missing = new ArrayList<>();
+        for (ResourceLocation id : this.catalogue.keySet()) {
+            if (!this.satellites.containsKey(id) && this.requested.add(id)) {
+                missing.add(id);
+                if (missing.size() == RequestSatellitesPayload.MAX_SATELLITES) {
+                    ClientPlayNetworking.send(new RequestSatellitesPayload(List.copyOf(missing), false));
+                    missing.clear();
+                }
+            }
+        }
+        if (!missing.isEmpty()) {
+            ClientPlayNetworking.send(new RequestSatellitesPayload(missing, false));
+        }
+    }
+
     @Override
     public void addListener(SatelliteListener listener) {
         this.listeners.add(listener);
@@ -31,6 +31,7 @@
 import dev.galacticraft.api.item.OxygenGear;
 import dev.galacticraft.api.item.OxygenMask;
 import dev.galacticraft.mod.tag.GCTags;
+import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
 import dev.galacticraft.impl.internal.fabric.GalacticraftAPI;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberPart;
@@ -43,7 +44,7 @@
 import net.fabricmc.fabric.api.transfer.v1.item.InventoryStorage;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
 import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
-import net.minecraft.core.Direction;
+import net.minecraft.core.BlockPos;
 import net.minecraft.core.registries.Registries;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.tags.FluidTags;
@@ -61,6 +62,7 @@
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -73,6 +75,8 @@ public LivingEntityMixin(EntityType<?> type, Level world) {
     }
 
     private int lastHurtBySuffocationTimestamp;
+    private @Unique int breathabilityTick = -1;
+    private @Unique boolean eyeBreathable;
 
     @Shadow
     protected abstract int increaseAirSupply(int air);
@@ -82,9 +86,11 @@ public LivingEntityMixin(EntityType<?> type, Level world) {
 
     @Inject(method = "baseTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;isEyeInFluid(Lnet/minecraft/tags/TagKey;)Z"))
     private void galacticraft_oxygenCheck(CallbackInfo ci) {
+        if (this.galacticraft_isEyeBreathable()) return;
+
         LivingEntity entity = ((LivingEntity) (Object) this);
         AttributeInstance attribute = entity.getAttribute(GcApiEntityAttributes.CAN_BREATHE_IN_SPACE);
-        if (!entity.level().isBreathable(entity.blockPosition().relative(Direction.UP, (int) Math.floor(entity.getEyeHeight(entity.getPose())))) && !(attribute != null && attribute.getValue() >= 0.99D)) {
+        if (!(attribute != null && attribute.getValue() >= 0.99D)) {
             if (!entity.isEyeInFluid(GCTags.NON_BREATHABLE) && (!(entity instanceof Player player) || !player.getAbilities().invulnerable)) {
                 entity.setAirSupply(this.decreaseAirSupply(entity.getAirSupply()));
                 if (entity.getAirSupply() == -20) {
@@ -109,7 +115,25 @@ private boolean galacticraft_testForBreathability(boolean original) {
             this.lastHurtBySuffocationTimestamp = this.tickCount;
             return false;
         }
-        return original || this.isEyeInFluid(GCTags.NON_BREATHABLE) || !entity.level().isBreathable(entity.blockPosition().relative(Direction.UP, (int) Math.floor(this.getEyeHeight(entity.getPose()))));
+        return original || this.isEyeInFluid(GCTags.NON_BREATHABLE) || !this.galacticraft_isEyeBreathable();
+    }
+
+    /**
+     * Whether the block at eye level is breathable. Both baseTick hooks need this, so it is only looked up once per tick.
+     */
+    @Unique
+    private boolean galacticraft_isEyeBreathable() {
+        if (this.breathabilityTick != this.tickCount) {
+            this.breathabilityTick = this.tickCount;
+            Level level = this.level();
+            if (((InternalLevelOxygenAccessor) level).getDefaultBreathable()) {
+                this.eyeBreathable = true;
+            } else {
+                BlockPos pos = this.blockPosition();
+                this.eyeBreathable = level.isBreathable(pos.getX(), pos.getY() + (int) Math.floor(this.getEyeHeight()), pos.getZ());
+            }
+        }
+        return this.eyeBreathable;
     }
 
     @ModifyExpressionValue(method = "baseTick", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/LivingEntity;canBreatheUnderwater()Z"))
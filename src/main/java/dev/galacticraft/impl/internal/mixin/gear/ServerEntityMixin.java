@@ -23,38 +23,32 @@
 package dev.galacticraft.impl.internal.mixin.gear;
 
 import dev.galacticraft.impl.network.s2c.GearInvPayload;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import dev.galacticraft.mod.world.inventory.GearInventory;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
-import net.minecraft.network.Connection;
+import net.minecraft.server.level.ServerEntity;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.server.network.CommonListenerCookie;
-import net.minecraft.server.players.PlayerList;
-import net.minecraft.world.Container;
-import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.entity.Entity;
+import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Collection;
+@Mixin(ServerEntity.class)
+public abstract class ServerEntityMixin {
+    @Shadow
+    @Final
+    private Entity entity;
 
-@Mixin(PlayerList.class)
-public abstract class PlayerListMixin {
-    @Inject(method = "placeNewPlayer", at = @At("RETURN"))
-    private void syncGearInventory(Connection connection, ServerPlayer player, CommonListenerCookie cookie, CallbackInfo ci) {
-        Container inventory = player.galacticraft$getGearInv();
-        ItemStack[] stacks = new ItemStack[inventory.getContainerSize()];
-        for (int i = 0; i < inventory.getContainerSize(); i++) {
-            stacks[i] = inventory.getItem(i);
-        }
-        GearInvPayload gearInvPayload = new GearInvPayload(player.getId(), stacks);
-
-        Collection<ServerPlayer> tracking = PlayerLookup.tracking(player);
-        if (!tracking.contains(player)) {
-            ServerPlayNetworking.send(player, gearInvPayload);
-        }
-        for (ServerPlayer remote : tracking) {
-            ServerPlayNetworking.send(remote, gearInvPayload);
+    /**
+     * Gear updates only contain the slots that changed, so a player that starts tracking another
+     * player needs to be sent their visible gear once.
+     */
+    @Inject(method = "addPairing", at = @At("TAIL"))
+    private void galacticraft_syncVisibleGear(ServerPlayer player, CallbackInfo ci) {
+        if (this.entity instanceof ServerPlayer owner) {
+            ServerPlayNetworking.send(player, GearInvPayload.of(owner.getId(), owner.galacticraft$getGearInv(), GearInventory.VISIBLE_SLOTS));
         }
     }
 }
@@ -40,8 +40,11 @@
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.Unique;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.Collection;
+import java.util.Arrays;
 
 @Mixin(ServerPlayer.class)
 public abstract class ServerPlayerMixin implements GearInventoryProvider {
@@ -55,29 +58,65 @@ public abstract class ServerPlayerMixin implements GearInventoryProvider {
     private final @Unique Container tankInv = MappedInventory.create(this.gearInv, 4, 5);
     private final @Unique Container thermalArmorInv = MappedInventory.create(this.gearInv, 0, 1, 2, 3);
     private final @Unique Container accessoryInv = MappedInventory.create(this.gearInv, 6, 7, 8, 9, 10, 11);
+    // The stacks the client last received, starting out empty so that the first sync sends everything
+    private final @Unique ItemStack[] syncedGear = galacticraft_createSyncedGear(this.gearInv.getContainerSize());
+    private @Unique boolean gearChanged = true;
 
     @Unique
     private SimpleContainer galacticraft_createGearInventory() {
         SimpleContainer inv = new GearInventory();
-        inv.addListener((inventory) -> {
-            ItemStack[] stacks = new ItemStack[inventory.getContainerSize()];
-            for (int i = 0; i < inventory.getContainerSize(); i++) {
-                stacks[i] = inventory.getItem(i);
+        inv.addListener((inventory) -> this.gearChanged = true);
+        return inv;
+    }
+
+    @Unique
+    private static ItemStack[] galacticraft_createSyncedGear(int size) {
+        ItemStack[] stacks = new ItemStack[size];
+        Arrays.fill(stacks, ItemStack.EMPTY);
+        return stacks;
+    }
+
+    /**
+     * Sends the gear slots that changed this tick, so that oxygen tanks draining several times a tick
+     * only result in one small packet. Other players only receive the slots they can see.
+     */
+    @Inject(method = "doTick", at = @At("TAIL"))
+    private void galacticraft_syncGear(CallbackInfo ci) {
+        if (!this.gearChanged || this.connection == null) return;
+        this.gearChanged = false;
+
+        int changed = 0;
+        for (int i = 0; i < this.syncedGear.length; i++) {
+            ItemStack stack = this.gearInv.getItem(i);
+            if (!ItemStack.matches(this.syncedGear[i], stack)) {
+                this.syncedGear[i] = stack.copy();
+                changed |= 1 << i;
             }
-            ServerPlayer player = (ServerPlayer) (Object) this;
-            GearInvPayload payload = new GearInvPayload(player.getId(), stacks);
+        }
+        if (changed == 0) return;
 
-            if (this.connection != null) {
-                Collection<ServerPlayer> tracking = PlayerLookup.tracking(player);
-                if (!tracking.contains(player)) {
-                    ServerPlayNetworking.send(player, payload);
-                }
-                for (ServerPlayer remote : tracking) {
+        ServerPlayer player = (ServerPlayer) (Object) this;
+        ServerPlayNetworking.send(player, GearInvPayload.of(player.getId(), this.gearInv, changed));
+
+        int visible = changed & GearInventory.VISIBLE_SLOTS;
+        if (visible != 0) {
+            GearInvPayload payload = GearInvPayload.of(player.getId(), this.gearInv, visible);
+            for (ServerPlayer remote : PlayerLookup.tracking(player)) {
+                if (remote != player) {
                     ServerPlayNetworking.send(remote, payload);
                 }
             }
-        });
-        return inv;
+        }
+    }
+
+    /**
+     * The client builds a new player with empty gear when it is sent to another level,
+     * so everything has to be sent again even though nothing changed on the server.
+     */
+    @Inject(method = "setServerLevel", at = @At("HEAD"))
+    private void galacticraft_resyncGearInNewLevel(ServerLevel level, CallbackInfo ci) {
+        Arrays.fill(this.syncedGear, ItemStack.EMPTY);
+        this.gearChanged = true;
     }
 
     @Override
@@ -24,6 +24,7 @@
 
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
 import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
+import dev.galacticraft.mod.Galacticraft;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.protocol.Packet;
 import net.minecraft.server.level.ChunkHolder;
@@ -34,6 +35,7 @@
 import org.spongepowered.asm.mixin.Final;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
@@ -49,10 +51,22 @@ public abstract class ChunkHolderMixin {
     @Final
     private ChunkHolder.PlayerProvider playerProvider;
 
+    // Far enough in the past that the first flush goes through, without overflowing the interval check
+    private @Unique long lastOxygenSync = Long.MIN_VALUE / 2;
+
     @Inject(method = "broadcastChanges", at = @At("HEAD"))
     private void galacticraft_flushOxygenPackets(LevelChunk chunk, CallbackInfo ci) {
+        // Changes keep accumulating in the chunk's dirty words until the next flush, so fast
+        // updates (e.g. a growing bubble) are coalesced into one packet per interval.
+        // The limit is kept per chunk rather than per player: the dirty words belong to the chunk and
+        // one packet goes to every watching player, so holding a flush back for one player would hold it
+        // back for all of them. Each player still gets at most one oxygen packet per watched chunk per interval.
+        long time = chunk.getLevel().getGameTime();
+        if (time - this.lastOxygenSync < Galacticraft.CONFIG.oxygenSyncInterval()) return;
+
         OxygenUpdatePayload.OxygenData[] data = ((ChunkOxygenSyncer) chunk).galacticraft$syncOxygenPacketsToClient();
         if (data != null) {
+            this.lastOxygenSync = time;
             ChunkPos pos = ((GenerationChunkHolder) (Object) this).getPos();
             this.broadcast(this.playerProvider.getPlayers(pos, false), ServerPlayNetworking.createS2CPacket(new OxygenUpdatePayload(pos.toLong(), data)));
         }
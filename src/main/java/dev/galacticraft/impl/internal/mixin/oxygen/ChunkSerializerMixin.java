@@ -24,6 +24,7 @@
 
 import com.mojang.serialization.Codec;
 import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.oxygen.SectionMasks;
 import dev.galacticraft.mod.Constant;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
@@ -42,22 +43,27 @@
 import net.minecraft.world.level.levelgen.blending.BlendingData;
 import net.minecraft.world.level.lighting.LevelLightEngine;
 import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.asm.mixin.injection.callback.LocalCapture;
 
+import java.util.Arrays;
 import java.util.BitSet;
-import java.util.Objects;
 
 @Mixin(ChunkSerializer.class)
 public abstract class ChunkSerializerMixin {
+    private static final @Unique long[] NO_OXYGEN = new long[SectionMasks.WORDS];
+
     @Inject(method = "write", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/level/chunk/LevelChunkSection;getStates()Lnet/minecraft/world/level/chunk/PalettedContainer;"), locals = LocalCapture.CAPTURE_FAILHARD)
     private static void galacticraft_serializeOxygen(ServerLevel world, ChunkAccess chunk, CallbackInfoReturnable<CompoundTag> cir, ChunkPos chunkPos, CompoundTag nbtCompound, BlendingData blendingData, BelowZeroRetrogen belowZeroRetrogen, UpgradeData upgradeData, LevelChunkSection[] chunkSections, ListTag nbtList, LevelLightEngine lightingProvider, Registry<Biome> registry, Codec<PalettedContainerRO<Holder<Biome>>> codec, boolean bl, int i, int j, boolean bl2, DataLayer chunkNibbleArray, DataLayer chunkNibbleArray2, CompoundTag nbtCompound2, LevelChunkSection section) {
         var accessor = (ChunkSectionOxygenAccessor) section;
         if (!accessor.galacticraft$isEmpty()) {
             CompoundTag nbt = new CompoundTag();
-            nbt.putByteArray(Constant.Nbt.OXYGEN, Objects.requireNonNull(accessor.galacticraft$getBits()).toByteArray());
+            long[] words = new long[SectionMasks.WORDS];
+            accessor.galacticraft$getMask(words);
+            nbt.putLongArray(Constant.Nbt.OXYGEN, words);
             nbtCompound2.put(Constant.Nbt.GC_API, nbt);
         }
     }
@@ -65,10 +71,15 @@ private static void galacticraft_serializeOxygen(ServerLevel world, ChunkAccess
     @Inject(method = "read", at = @At(value = "INVOKE", target = "Lnet/minecraft/world/entity/ai/village/poi/PoiManager;checkConsistencyWithBlocks(Lnet/minecraft/core/SectionPos;Lnet/minecraft/world/level/chunk/LevelChunkSection;)V"), locals = LocalCapture.CAPTURE_FAILHARD)
     private static void galacticraft_deserializeOxygen(ServerLevel world, PoiManager poiStorage, RegionStorageInfo key, ChunkPos chunkPos, CompoundTag nbt, CallbackInfoReturnable<ProtoChunk> cir, ChunkPos chunkPos2, UpgradeData upgradeData, boolean bl, ListTag listTag, int i, LevelChunkSection[] levelChunkSections, boolean bl2, ChunkSource chunkSource, LevelLightEngine levelLightEngine, Registry registry, Codec codec, boolean bl3, int j, CompoundTag compoundTag, int k, int l, PalettedContainer palettedContainer, PalettedContainerRO palettedContainerRO, LevelChunkSection levelChunkSection, SectionPos sectionPos) {
         CompoundTag apiCompound = compoundTag.getCompound(Constant.Nbt.GC_API);
-        if (apiCompound.contains(Constant.Nbt.OXYGEN, Tag.TAG_BYTE_ARRAY)) {
-            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$setBits(BitSet.valueOf(apiCompound.getByteArray(Constant.Nbt.OXYGEN)));
+        var accessor = (ChunkSectionOxygenAccessor) levelChunkSection;
+        if (apiCompound.contains(Constant.Nbt.OXYGEN, Tag.TAG_LONG_ARRAY)) {
+            accessor.galacticraft$setMask(Arrays.copyOf(apiCompound.getLongArray(Constant.Nbt.OXYGEN), SectionMasks.WORDS));
+        } else if (apiCompound.contains(Constant.Nbt.OXYGEN, Tag.TAG_BYTE_ARRAY)) {
+            // sections saved before the fixed layout store a variable length BitSet
+            long[] words = BitSet.valueOf(apiCompound.getByteArray(Constant.Nbt.OXYGEN)).toLongArray();
+            accessor.galacticraft$setMask(Arrays.copyOf(words, SectionMasks.WORDS));
         } else {
-            ((ChunkSectionOxygenAccessor) levelChunkSection).galacticraft$setBits(null);
+            accessor.galacticraft$setMask(NO_OXYGEN);
         }
     }
 }
@@ -27,6 +27,8 @@
 import net.minecraft.world.level.chunk.EmptyLevelChunk;
 import org.spongepowered.asm.mixin.Mixin;
 
+import java.util.Arrays;
+
 @Mixin(EmptyLevelChunk.class)
 public abstract class EmptyLevelChunkMixin implements ChunkOxygenSyncer, ChunkOxygenAccessor {
     @Override
@@ -37,4 +39,13 @@ public abstract class EmptyLevelChunkMixin implements ChunkOxygenSyncer, ChunkOx
     @Override
     public void galacticraft$setInverted(int x, int y, int z, boolean inverted) {
     }
+
+    @Override
+    public void galacticraft$applyMask(int sectionIndex, long[] mask, boolean inverted) {
+    }
+
+    @Override
+    public void galacticraft$getMask(int sectionIndex, long[] out) {
+        Arrays.fill(out, 0L);
+    }
 }
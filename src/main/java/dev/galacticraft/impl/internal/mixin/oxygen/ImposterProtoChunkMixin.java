@@ -49,4 +49,16 @@ public abstract class ImposterProtoChunkMixin implements ChunkOxygenAccessor {
             ((ChunkOxygenAccessor) this.wrapped).galacticraft$setInverted(x, y, z, inverted);
         }
     }
+
+    @Override
+    public void galacticraft$applyMask(int sectionIndex, long[] mask, boolean inverted) {
+        if (this.allowWrites) {
+            ((ChunkOxygenAccessor) this.wrapped).galacticraft$applyMask(sectionIndex, mask, inverted);
+        }
+    }
+
+    @Override
+    public void galacticraft$getMask(int sectionIndex, long[] out) {
+        ((ChunkOxygenAccessor) this.wrapped).galacticraft$getMask(sectionIndex, out);
+    }
 }
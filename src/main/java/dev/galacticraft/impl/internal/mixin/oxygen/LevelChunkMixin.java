@@ -26,6 +26,7 @@
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
 import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
 import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
+import dev.galacticraft.impl.oxygen.SectionMasks;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Registry;
 import net.minecraft.world.level.ChunkPos;
@@ -48,14 +49,13 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.BitSet;
-
 @Mixin(LevelChunk.class)
 public abstract class LevelChunkMixin extends ChunkAccess implements ChunkOxygenAccessor, ChunkOxygenSyncer {
     @Shadow
     @Final
     Level level;
-    private @Unique short dirtySections = 0b0;
+    // For every section, a bit for each of its 64 oxygen words that changed since the last sync
+    private @Unique long @Nullable [] dirtyWords = null;
 
     private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccessor heightLimitView, Registry<Biome> biome, long inhabitedTime, @Nullable LevelChunkSection[] sectionArrayInitializer, @Nullable BlendingData blendingData) {
         super(pos, upgradeData, heightLimitView, biome, inhabitedTime, sectionArrayInitializer, blendingData);
@@ -72,42 +72,72 @@ private LevelChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
         if (inverted != accessor.galacticraft$isInverted(x, y & 15, z)) {
             if (!this.level.isClientSide) {
                 this.unsaved = true;
-                this.dirtySections |= (short) (0b1 << this.getSectionIndex(y));
+                this.galacticraft$markDirty(this.getSectionIndex(y), 1L << ((x + ((y & 15) << 4) + (z << 8)) >> 6));
             }
             accessor.galacticraft$setInverted(x, y & 15, z, inverted);
         }
     }
 
+    @Override
+    public void galacticraft$applyMask(int sectionIndex, long[] mask, boolean inverted) {
+        long changed = ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$applyMask(mask, inverted);
+        if (changed != 0 && !this.level.isClientSide) {
+            this.unsaved = true;
+            this.galacticraft$markDirty(sectionIndex, changed);
+        }
+    }
+
+    @Override
+    public void galacticraft$getMask(int sectionIndex, long[] out) {
+        ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$getMask(out);
+    }
+
+    @Unique
+    private void galacticraft$markDirty(int sectionIndex, long words) {
+        if (this.dirtyWords == null) {
+            this.dirtyWords = new long[this.sections.length];
+        }
+        this.dirtyWords[sectionIndex] |= words;
+    }
+
     @Override
     public @Nullable OxygenUpdatePayload.OxygenData[] galacticraft$syncOxygenPacketsToClient() {
         assert !this.level.isClientSide;
-        if (this.dirtySections != 0b0) {
-            int count = 0;
-            for (int i = 0; i < this.sections.length; i++) {
-                if ((this.dirtySections & (0b1 << i++)) != 0) {
-                    count++;
-                }
-            }
+        if (this.dirtyWords == null) {
+            return null;
+        }
 
-            OxygenUpdatePayload.OxygenData[] data = new OxygenUpdatePayload.OxygenData[count];
+        int count = 0;
+        for (long words : this.dirtyWords) {
+            if (words != 0) {
+                count++;
+            }
+        }
+        if (count == 0) {
+            return null;
+        }
 
-            int idx = 0;
-            for (byte i = 0; i < this.sections.length; i++) {
-                if ((this.dirtySections & (0b1 << i++)) != 0) {
-                    BitSet data1 = ((ChunkSectionOxygenAccessor) this.sections[i]).galacticraft$getBits();
-                    data[idx++] = new OxygenUpdatePayload.OxygenData(i, data1 == null ? new BitSet(0) : data1);
-                }
+        OxygenUpdatePayload.OxygenData[] data = new OxygenUpdatePayload.OxygenData[count];
+        long[] storage = new long[SectionMasks.WORDS];
+        int idx = 0;
+        for (int i = 0; i < this.sections.length; i++) {
+            if (this.dirtyWords[i] != 0) {
+                ((ChunkSectionOxygenAccessor) this.sections[i]).galacticraft$getMask(storage);
+                data[idx++] = OxygenUpdatePayload.OxygenData.of(i, this.dirtyWords[i], storage);
+                this.dirtyWords[i] = 0;
             }
-            this.dirtySections = 0;
-            return data;
         }
-        return null;
+        return data;
     }
 
     @Override
     public void galacticraft$readOxygenUpdate(@NotNull OxygenUpdatePayload.OxygenData[] buf) {
+        long[] storage = new long[SectionMasks.WORDS];
         for (OxygenUpdatePayload.@NotNull OxygenData oxygenData : buf) {
-            ((ChunkSectionOxygenAccessor) this.sections[oxygenData.section()]).galacticraft$setBits(oxygenData.data());
+            var accessor = (ChunkSectionOxygenAccessor) this.sections[oxygenData.section()];
+            accessor.galacticraft$getMask(storage);
+            oxygenData.apply(storage);
+            accessor.galacticraft$setMask(storage);
         }
     }
 
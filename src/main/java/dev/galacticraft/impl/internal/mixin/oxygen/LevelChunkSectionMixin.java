@@ -23,8 +23,8 @@
 package dev.galacticraft.impl.internal.mixin.oxygen;
 
 import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.oxygen.SectionMasks;
 import net.minecraft.network.FriendlyByteBuf;
-import net.minecraft.network.VarInt;
 import net.minecraft.world.level.chunk.LevelChunkSection;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -35,36 +35,83 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 @Mixin(LevelChunkSection.class)
 public abstract class LevelChunkSectionMixin implements ChunkSectionOxygenAccessor {
-    private @Unique
-    @Nullable BitSet bits = null;
+    private static final @Unique int POSITIONS = SectionMasks.WORDS * Long.SIZE;
+    private static final @Unique byte EMPTY = 0;
+    private static final @Unique byte FULL = 1;
+    private static final @Unique byte PARTIAL = 2;
+    /**
+     * Shared by every section where all positions are inverted. Never written to.
+     */
+    private static final @Unique long[] ALL_SET = filled();
+
+    // null when no position is inverted, ALL_SET when every position is
+    private @Unique long @Nullable [] words = null;
+    private @Unique int count = 0;
 
     @Override
     public boolean galacticraft$isInverted(int pos) {
-        return this.bits != null && this.bits.get(pos);
+        return this.words != null && (this.words[pos >> 6] & (1L << pos)) != 0;
     }
 
     @Override
     public void galacticraft$setInverted(int pos, boolean value) {
-        if (value) {
-            if (this.bits == null) this.bits = new BitSet(pos);
-            this.bits.set(pos);
-        } else if (this.bits != null) {
-            this.bits.clear(pos);
+        if (value == this.galacticraft$isInverted(pos)) return;
+
+        this.galacticraft$writableWords()[pos >> 6] ^= 1L << pos;
+        this.galacticraft$setCount(this.count + (value ? 1 : -1));
+    }
+
+    @Override
+    public long galacticraft$applyMask(long[] mask, boolean inverted) {
+        if (this.words == (inverted ? ALL_SET : null)) return 0;
+
+        long changed = 0;
+        int count = this.count;
+        for (int i = 0; i < SectionMasks.WORDS; i++) {
+            long old = this.words == null ? 0 : this.words[i];
+            long word = inverted ? old | mask[i] : old & ~mask[i];
+            if (word != old) {
+                this.galacticraft$writableWords()[i] = word;
+                changed |= 1L << i;
+                count += Long.bitCount(word) - Long.bitCount(old);
+            }
         }
+        if (changed != 0) {
+            this.galacticraft$setCount(count);
+        }
+        return changed;
     }
 
-    @Inject(method = "getSerializedSize", at = @At("RETURN"), cancellable = true)
-    private void increaseChunkPacketSize(CallbackInfoReturnable<Integer> cir) {
-        if (this.bits == null) {
-            cir.setReturnValue(cir.getReturnValueI() + VarInt.getByteSize(0));
+    @Override
+    public void galacticraft$getMask(long[] out) {
+        if (this.words == null) {
+            Arrays.fill(out, 0L);
         } else {
-            byte[] byteArray = this.bits.toByteArray();
-            cir.setReturnValue(cir.getReturnValueI() + (VarInt.getByteSize(byteArray.length) + byteArray.length));
+            System.arraycopy(this.words, 0, out, 0, SectionMasks.WORDS);
+        }
+    }
+
+    @Override
+    public void galacticraft$setMask(long[] mask) {
+        int count = 0;
+        for (int i = 0; i < SectionMasks.WORDS; i++) {
+            count += Long.bitCount(mask[i]);
+        }
+
+        if (count != 0 && count != POSITIONS) {
+            System.arraycopy(mask, 0, this.galacticraft$writableWords(), 0, SectionMasks.WORDS);
         }
+        this.galacticraft$setCount(count);
+    }
+
+    @Inject(method = "getSerializedSize", at = @At("RETURN"), cancellable = true)
+    private void increaseChunkPacketSize(CallbackInfoReturnable<Integer> cir) {
+        int size = this.count == 0 || this.count == POSITIONS ? 1 : 1 + SectionMasks.WORDS * Long.BYTES;
+        cir.setReturnValue(cir.getReturnValueI() + size);
     }
 
     @Inject(method = "hasOnlyAir()Z", at = @At("RETURN"), cancellable = true)
@@ -84,36 +131,74 @@ private void galacticraft_fromPacket(FriendlyByteBuf buf, CallbackInfo ci) {
 
     @Override
     public boolean galacticraft$isEmpty() {
-        return this.bits == null || this.bits.isEmpty();
+        return this.count == 0;
     }
 
     @Override
-    public BitSet galacticraft$getBits() {
-        return this.bits;
-    }
-
-    @Override
-    public void galacticraft$setBits(@Nullable BitSet set) {
-        this.bits = set;
+    public int galacticraft$getCount() {
+        return this.count;
     }
 
     @Override
     public void galacticraft$writeOxygenPacket(@NotNull FriendlyByteBuf buf) {
-        if (this.bits != null) {
-            byte[] bytes = this.bits.toByteArray();
-            buf.writeByteArray(bytes);
+        if (this.count == 0) {
+            buf.writeByte(EMPTY);
+        } else if (this.count == POSITIONS) {
+            buf.writeByte(FULL);
         } else {
-            buf.writeVarInt(0);
+            buf.writeByte(PARTIAL);
+            for (long word : this.words) {
+                buf.writeLong(word);
+            }
         }
     }
 
     @Override
     public void galacticraft$readOxygenPacket(@NotNull FriendlyByteBuf buf) {
-        byte[] bytes = buf.readByteArray();
-        if (bytes.length != 0) {
-            this.bits = BitSet.valueOf(bytes);
+        byte type = buf.readByte();
+        if (type == PARTIAL) {
+            long[] words = this.galacticraft$writableWords();
+            int count = 0;
+            for (int i = 0; i < SectionMasks.WORDS; i++) {
+                words[i] = buf.readLong();
+                count += Long.bitCount(words[i]);
+            }
+            this.galacticraft$setCount(count);
         } else {
-            this.bits = null;
+            this.galacticraft$setCount(type == FULL ? POSITIONS : 0);
         }
     }
+
+    /**
+     * @return the words of this section, copied out of the shared singletons so that they can be modified
+     */
+    @Unique
+    private long[] galacticraft$writableWords() {
+        if (this.words == null) {
+            this.words = new long[SectionMasks.WORDS];
+        } else if (this.words == ALL_SET) {
+            this.words = ALL_SET.clone();
+        }
+        return this.words;
+    }
+
+    /**
+     * Updates the number of inverted positions, collapsing uniform sections to the shared singletons.
+     */
+    @Unique
+    private void galacticraft$setCount(int count) {
+        this.count = count;
+        if (count == 0) {
+            this.words = null;
+        } else if (count == POSITIONS) {
+            this.words = ALL_SET;
+        }
+    }
+
+    @Unique
+    private static long[] filled() {
+        long[] words = new long[SectionMasks.WORDS];
+        Arrays.fill(words, -1L);
+        return words;
+    }
 }
@@ -27,9 +27,9 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.impl.internal.accessor.ChunkOxygenAccessor;
 import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
+import dev.galacticraft.impl.oxygen.SectionMasks;
 import dev.galacticraft.mod.accessor.GCLevelAccessor;
 import dev.galacticraft.mod.machine.SealerManager;
-import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.RegistryAccess;
 import net.minecraft.core.SectionPos;
@@ -47,6 +47,7 @@
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
+import java.util.Arrays;
 import java.util.function.Supplier;
 
 @Mixin(Level.class)
@@ -69,7 +70,7 @@ private void initializeOxygenValues(WritableLevelData writableLevelData, Resourc
     @Override
     public boolean isBreathable(int x, int y, int z) {
         SealerManager manager = ((GCLevelAccessor) this).getSealerManager();
-        if (manager.isSealed(new BlockPos(x, y, z))) return true;
+        if (manager.isSealed(x, y, z)) return true;
         if (this.validPosition(x, y, z)) {
             return this.isBreathableChunk(this.getChunk(SectionPos.blockToSectionCoord(x), SectionPos.blockToSectionCoord(z)), x & 15, y, z & 15);
         }
@@ -99,6 +100,78 @@ public void setBreathableChunk(LevelChunk chunk, int x, int y, int z, boolean va
         ((ChunkOxygenAccessor) chunk).galacticraft$setInverted(x, y, z, this.breathable ^ value);
     }
 
+    @Override
+    public void setBreathableSection(LevelChunk chunk, int sectionY, long[] mask, boolean value) {
+        if (sectionY < this.getMinSection() || sectionY >= this.getMaxSection()) return;
+        ((ChunkOxygenAccessor) chunk).galacticraft$applyMask(chunk.getSectionIndexFromSectionY(sectionY), mask, this.breathable ^ value);
+    }
+
+    @Override
+    public void getBreathableSection(LevelChunk chunk, int sectionY, long[] out) {
+        if (sectionY < this.getMinSection() || sectionY >= this.getMaxSection()) {
+            Arrays.fill(out, this.breathable ? -1L : 0L);
+            return;
+        }
+
+        ((ChunkOxygenAccessor) chunk).galacticraft$getMask(chunk.getSectionIndexFromSectionY(sectionY), out);
+        if (this.breathable) {
+            for (int i = 0; i < out.length; i++) {
+                out[i] = ~out[i];
+            }
+        }
+    }
+
+    @Override
+    public void setBreathableBox(int minX, int minY, int minZ, int maxX, int maxY, int maxZ, boolean value) {
+        minX = Math.max(minX, -Level.MAX_LEVEL_SIZE);
+        minZ = Math.max(minZ, -Level.MAX_LEVEL_SIZE);
+        maxX = Math.min(maxX, Level.MAX_LEVEL_SIZE - 1);
+        maxZ = Math.min(maxZ, Level.MAX_LEVEL_SIZE - 1);
+        int minSectionY = Math.max(SectionPos.blockToSectionCoord(minY), this.getMinSection());
+        int maxSectionY = Math.min(SectionPos.blockToSectionCoord(maxY), this.getMaxSection() - 1);
+
+        long[] mask = new long[SectionMasks.WORDS];
+        for (int sectionX = SectionPos.blockToSectionCoord(minX); sectionX <= SectionPos.blockToSectionCoord(maxX); sectionX++) {
+            for (int sectionZ = SectionPos.blockToSectionCoord(minZ); sectionZ <= SectionPos.blockToSectionCoord(maxZ); sectionZ++) {
+                LevelChunk chunk = null;
+                int originX = SectionPos.sectionToBlockCoord(sectionX);
+                int originZ = SectionPos.sectionToBlockCoord(sectionZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    int originY = SectionPos.sectionToBlockCoord(sectionY);
+                    if (SectionMasks.box(mask, minX - originX, minY - originY, minZ - originZ, maxX - originX, maxY - originY, maxZ - originZ)) {
+                        if (chunk == null) chunk = this.getChunk(sectionX, sectionZ);
+                        this.setBreathableSection(chunk, sectionY, mask, value);
+                    }
+                }
+            }
+        }
+    }
+
+    @Override
+    public void setBreathableShell(int x, int y, int z, int innerRadiusSq, int outerRadiusSq, boolean value) {
+        if (outerRadiusSq < 0 || innerRadiusSq >= outerRadiusSq) return;
+        int reach = (int) Math.sqrt(outerRadiusSq);
+        int minSectionY = Math.max(SectionPos.blockToSectionCoord(y - reach), this.getMinSection());
+        int maxSectionY = Math.min(SectionPos.blockToSectionCoord(y + reach), this.getMaxSection() - 1);
+
+        long[] mask = new long[SectionMasks.WORDS];
+        for (int sectionX = SectionPos.blockToSectionCoord(x - reach); sectionX <= SectionPos.blockToSectionCoord(x + reach); sectionX++) {
+            for (int sectionZ = SectionPos.blockToSectionCoord(z - reach); sectionZ <= SectionPos.blockToSectionCoord(z + reach); sectionZ++) {
+                if (!withinWorldSize(SectionPos.sectionToBlockCoord(sectionX), SectionPos.sectionToBlockCoord(sectionZ))) continue;
+
+                LevelChunk chunk = null;
+                int centreX = x - SectionPos.sectionToBlockCoord(sectionX);
+                int centreZ = z - SectionPos.sectionToBlockCoord(sectionZ);
+                for (int sectionY = minSectionY; sectionY <= maxSectionY; sectionY++) {
+                    if (SectionMasks.shell(mask, centreX, y - SectionPos.sectionToBlockCoord(sectionY), centreZ, innerRadiusSq, outerRadiusSq)) {
+                        if (chunk == null) chunk = this.getChunk(sectionX, sectionZ);
+                        this.setBreathableSection(chunk, sectionY, mask, value);
+                    }
+                }
+            }
+        }
+    }
+
     @Override
     public boolean getDefaultBreathable() {
         return this.breathable;
@@ -52,4 +52,14 @@ private ProtoChunkMixin(ChunkPos pos, UpgradeData upgradeData, LevelHeightAccess
     public void galacticraft$setInverted(int x, int y, int z, boolean inverted) {
         ((ChunkSectionOxygenAccessor) this.sections[this.getSectionIndex(y)]).galacticraft$setInverted(x, y & 15, z, inverted);
     }
+
+    @Override
+    public void galacticraft$applyMask(int sectionIndex, long[] mask, boolean inverted) {
+        ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$applyMask(mask, inverted);
+    }
+
+    @Override
+    public void galacticraft$getMask(int sectionIndex, long[] out) {
+        ((ChunkSectionOxygenAccessor) this.sections[sectionIndex]).galacticraft$getMask(out);
+    }
 }
@@ -23,6 +23,7 @@
 package dev.galacticraft.impl.network;
 
 import dev.galacticraft.impl.network.c2s.FlagDataPayload;
+import dev.galacticraft.impl.network.c2s.RequestSatellitesPayload;
 import dev.galacticraft.impl.network.c2s.TeamNamePayload;
 import dev.galacticraft.impl.network.s2c.*;
 import net.fabricmc.fabric.api.networking.v1.PayloadTypeRegistry;
@@ -34,8 +35,10 @@ public static void register() {
         PayloadTypeRegistry.playS2C().register(OxygenUpdatePayload.TYPE, OxygenUpdatePayload.CODEC);
         PayloadTypeRegistry.playS2C().register(RemoveSatellitePayload.TYPE, RemoveSatellitePayload.CODEC);
         PayloadTypeRegistry.playS2C().register(ResearchUpdatePayload.TYPE, ResearchUpdatePayload.CODEC);
+        PayloadTypeRegistry.playS2C().register(SatelliteCataloguePayload.TYPE, SatelliteCataloguePayload.CODEC);
 
         PayloadTypeRegistry.playC2S().register(FlagDataPayload.TYPE, FlagDataPayload.CODEC);
+        PayloadTypeRegistry.playC2S().register(RequestSatellitesPayload.TYPE, RequestSatellitesPayload.CODEC);
         PayloadTypeRegistry.playC2S().register(TeamNamePayload.TYPE, TeamNamePayload.CODEC);
     }
 }
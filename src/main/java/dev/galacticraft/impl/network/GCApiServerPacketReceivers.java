@@ -24,6 +24,7 @@
 
 import dev.galacticraft.impl.network.c2s.C2SPayload;
 import dev.galacticraft.impl.network.c2s.FlagDataPayload;
+import dev.galacticraft.impl.network.c2s.RequestSatellitesPayload;
 import dev.galacticraft.impl.network.c2s.TeamNamePayload;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
@@ -34,6 +35,7 @@
 public class GCApiServerPacketReceivers {
     public static void register() {
         registerPacket(FlagDataPayload.TYPE);
+        registerPacket(RequestSatellitesPayload.TYPE);
         registerPacket(TeamNamePayload.TYPE);
     }
 
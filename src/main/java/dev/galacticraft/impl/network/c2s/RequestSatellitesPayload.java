@@ -0,0 +1,79 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.network.c2s;
+
+import dev.galacticraft.api.accessor.SatelliteAccessor;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.internal.accessor.SatelliteCatalogueProvider;
+import dev.galacticraft.impl.network.s2c.AddSatellitePayload;
+import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import dev.galacticraft.mod.Constant;
+import io.netty.buffer.ByteBuf;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Asks the server for the full configs of the given satellites, and optionally for the whole catalogue
+ * if the client missed a catalogue update.
+ */
+public record RequestSatellitesPayload(List<ResourceLocation> ids, boolean resync) implements C2SPayload {
+    public static final ResourceLocation ID = Constant.id("request_satellites");
+    public static final Type<RequestSatellitesPayload> TYPE = new Type<>(ID);
+    public static final int MAX_SATELLITES = 256;
+    public static final StreamCodec<ByteBuf, RequestSatellitesPayload> CODEC = StreamCodec.composite(
+            ResourceLocation.STREAM_CODEC.apply(ByteBufCodecs.list(MAX_SATELLITES)),
+            RequestSatellitesPayload::ids,
+            ByteBufCodecs.BOOL,
+            RequestSatellitesPayload::resync,
+            RequestSatellitesPayload::new);
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    @Override
+    public void handle(ServerPlayNetworking.@NotNull Context context) {
+        MinecraftServer server = context.server();
+        if (this.resync) {
+            ((SatelliteCatalogueProvider) server).galacticraft$getSatelliteCatalogue().sendTo(context.player(), server);
+        }
+
+        Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = ((SatelliteAccessor) server).galacticraft$getSatellites();
+        for (ResourceLocation id : this.ids) {
+            CelestialBody<SatelliteConfig, SatelliteType> satellite = satellites.get(id);
+            if (satellite != null) {
+                context.responseSender().sendPacket(new AddSatellitePayload(id, satellite.config()));
+            }
+        }
+    }
+}
@@ -37,17 +37,35 @@
 
 import java.util.Objects;
 
-public record GearInvPayload(int entityId, ItemStack[] items) implements S2CPayload {
+/**
+ * Updates some of the gear slots of an entity.
+ *
+ * @param entityId the entity whose gear changed
+ * @param slots    a bit for each of the slots included in this update
+ * @param items    the new stacks of the included slots, in slot order
+ */
+public record GearInvPayload(int entityId, int slots, ItemStack[] items) implements S2CPayload {
     public static final ResourceLocation ID = Constant.id("gear_inv");
     public static final Type<GearInvPayload> TYPE = new Type<>(ID);
     public static final StreamCodec<RegistryFriendlyByteBuf, GearInvPayload> CODEC = StreamCodec.composite(
             ByteBufCodecs.VAR_INT,
             GearInvPayload::entityId,
+            ByteBufCodecs.VAR_INT,
+            GearInvPayload::slots,
             StreamCodecs.array(ItemStack.OPTIONAL_STREAM_CODEC, ItemStack[]::new),
             GearInvPayload::items,
             GearInvPayload::new
     );
 
+    public static GearInvPayload of(int entityId, Container inventory, int slots) {
+        ItemStack[] items = new ItemStack[Integer.bitCount(slots)];
+        int index = 0;
+        for (int remaining = slots; remaining != 0; remaining &= remaining - 1) {
+            items[index++] = inventory.getItem(Integer.numberOfTrailingZeros(remaining));
+        }
+        return new GearInvPayload(entityId, slots, items);
+    }
+
     @Override
     public @NotNull Type<? extends CustomPacketPayload> type() {
         return TYPE;
@@ -55,11 +73,16 @@ public record GearInvPayload(int entityId, ItemStack[] items) implements S2CPayl
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> {
-            Container container = ((GearInventoryProvider) Objects.requireNonNull(context.client().level.getEntity(this.entityId))).galacticraft$getGearInv();
-            for (int i = 0; i < this.items.length; i++) {
-                container.setItem(i, this.items[i]);
-            }
-        };
+        return () -> this.apply(((GearInventoryProvider) Objects.requireNonNull(context.client().level.getEntity(this.entityId))).galacticraft$getGearInv());
+    }
+
+    /**
+     * Copies the included slots into an inventory, leaving the other slots as they are.
+     */
+    public void apply(Container container) {
+        int index = 0;
+        for (int remaining = this.slots; remaining != 0; remaining &= remaining - 1) {
+            container.setItem(Integer.numberOfTrailingZeros(remaining), this.items[index++]);
+        }
     }
 }
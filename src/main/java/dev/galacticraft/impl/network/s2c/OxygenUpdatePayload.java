@@ -22,12 +22,12 @@
 
 package dev.galacticraft.impl.network.s2c;
 
-import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.internal.accessor.ChunkOxygenSyncer;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
@@ -35,7 +35,7 @@
 import net.minecraft.world.level.chunk.LevelChunk;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.BitSet;
+import java.util.Arrays;
 
 public record OxygenUpdatePayload(long chunk, OxygenData[] data) implements S2CPayload {
     public static final ResourceLocation ID = Constant.id("oxygen_update");
@@ -57,21 +57,80 @@ public record OxygenUpdatePayload(long chunk, OxygenData[] data) implements S2CP
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
         return () -> {
             LevelChunk chunk = context.client().level.getChunk(ChunkPos.getX(this.chunk), ChunkPos.getZ(this.chunk));
-            for (OxygenData datum : this.data) {
-                ChunkSectionOxygenAccessor accessor = (ChunkSectionOxygenAccessor) chunk.getSection(datum.section);
-                accessor.galacticraft$setBits(datum.data);
-            }
+            ((ChunkOxygenSyncer) chunk).galacticraft$readOxygenUpdate(this.data);
         };
     }
 
-    public record OxygenData(byte section, @NotNull BitSet data) {
-        private static final StreamCodec<ByteBuf, BitSet> BIT_SET_CODEC = ByteBufCodecs.BYTE_ARRAY.map(BitSet::valueOf, BitSet::toByteArray);
-        public static final StreamCodec<ByteBuf, OxygenData> CODEC = StreamCodec.composite(
-                ByteBufCodecs.BYTE,
-                d -> d.section,
-                BIT_SET_CODEC,
-                d -> d.data,
-                OxygenData::new
+    /**
+     * The oxygen storage words of one chunk section. Each bit of {@code mask} marks one of the 64 words
+     * of the section, and {@code words} holds the values of the marked words in order.
+     * A full update clears every unmarked word, a delta leaves them unchanged.
+     */
+    public record OxygenData(int section, boolean full, long mask, long @NotNull [] words) {
+        public static final StreamCodec<ByteBuf, OxygenData> CODEC = StreamCodec.of(
+                (buf, data) -> {
+                    VarInt.write(buf, data.section);
+                    buf.writeBoolean(data.full);
+                    buf.writeLong(data.mask);
+                    for (long word : data.words) {
+                        buf.writeLong(word);
+                    }
+                },
+                buf -> {
+                    int section = VarInt.read(buf);
+                    boolean full = buf.readBoolean();
+                    long mask = buf.readLong();
+                    long[] words = new long[Long.bitCount(mask)];
+                    for (int i = 0; i < words.length; i++) {
+                        words[i] = buf.readLong();
+                    }
+                    return new OxygenData(section, full, mask, words);
+                }
         );
+
+        /**
+         * Encodes the changed words of a section, or the whole section if that is smaller.
+         *
+         * @param section the index of the section in the chunk
+         * @param dirty   which of the words changed
+         * @param storage the current 64 words of the section
+         */
+        public static OxygenData of(int section, long dirty, long[] storage) {
+            long nonZero = 0;
+            for (int i = 0; i < storage.length; i++) {
+                if (storage[i] != 0) {
+                    nonZero |= 1L << i;
+                }
+            }
+
+            boolean full = Long.bitCount(nonZero) <= Long.bitCount(dirty);
+            long mask = full ? nonZero : dirty;
+            long[] words = new long[Long.bitCount(mask)];
+            int index = 0;
+            for (long remaining = mask; remaining != 0; remaining &= remaining - 1) {
+                words[index++] = storage[Long.numberOfTrailingZeros(remaining)];
+            }
+            return new OxygenData(section, full, mask, words);
+        }
+
+        /**
+         * Writes this update into the 64 words of a section.
+         */
+        public void apply(long[] storage) {
+            if (this.full) {
+                Arrays.fill(storage, 0L);
+            }
+            int index = 0;
+            for (long remaining = this.mask; remaining != 0; remaining &= remaining - 1) {
+                storage[Long.numberOfTrailingZeros(remaining)] = this.words[index++];
+            }
+        }
+
+        /**
+         * @return the encoded size of this update in bytes
+         */
+        public int getSerializedSize() {
+            return VarInt.getByteSize(this.section) + 1 + 8 + this.words.length * 8;
+        }
     }
 }
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.network.s2c;
+
+import dev.galacticraft.api.client.accessor.ClientSatelliteAccessor;
+import dev.galacticraft.impl.satellite.SatelliteIndex;
+import dev.galacticraft.mod.Constant;
+import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.List;
+
+/**
+ * Updates the client's satellite catalogue to the given version.
+ * If {@code reset} is set the payload holds the whole catalogue, otherwise only what changed since the previous version.
+ */
+public record SatelliteCataloguePayload(int version, boolean reset, List<SatelliteIndex> added, List<ResourceLocation> removed) implements S2CPayload {
+    public static final ResourceLocation ID = Constant.id("satellite_catalogue");
+    public static final Type<SatelliteCataloguePayload> TYPE = new Type<>(ID);
+    public static final StreamCodec<RegistryFriendlyByteBuf, SatelliteCataloguePayload> CODEC = StreamCodec.composite(
+            ByteBufCodecs.VAR_INT,
+            SatelliteCataloguePayload::version,
+            ByteBufCodecs.BOOL,
+            SatelliteCataloguePayload::reset,
+            SatelliteIndex.STREAM_CODEC.apply(ByteBufCodecs.list()),
+            SatelliteCataloguePayload::added,
+            ResourceLocation.STREAM_CODEC.apply(ByteBufCodecs.list()),
+            SatelliteCataloguePayload::removed,
+            SatelliteCataloguePayload::new);
+
+    @Override
+    public @NotNull Type<? extends CustomPacketPayload> type() {
+        return TYPE;
+    }
+
+    @Override
+    public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
+        return () -> ((ClientSatelliteAccessor) context.client().getConnection()).galacticraft$updateCatalogue(this);
+    }
+}
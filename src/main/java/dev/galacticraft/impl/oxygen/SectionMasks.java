@@ -0,0 +1,108 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.impl.oxygen;
+
+import java.util.Arrays;
+
+/**
+ * Builds position masks for a single chunk section. A mask is 64 words of position bits,
+ * indexed as {@code x + (y << 4) + (z << 8)}, so every 16 bits of a word form one row along the X-axis.
+ */
+public final class SectionMasks {
+    public static final int WORDS = 64;
+
+    private SectionMasks() {
+    }
+
+    /**
+     * Fills a mask with the positions of a box. The bounds are relative to the section and inclusive,
+     * positions outside the section are ignored.
+     *
+     * @return whether any position of the section is part of the box
+     */
+    public static boolean box(long[] mask, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        Arrays.fill(mask, 0L);
+        int row = rowMask(minX, maxX);
+        if (row == 0) return false;
+
+        boolean any = false;
+        for (int z = Math.max(minZ, 0); z <= Math.min(maxZ, 15); z++) {
+            for (int y = Math.max(minY, 0); y <= Math.min(maxY, 15); y++) {
+                setRow(mask, y, z, row);
+                any = true;
+            }
+        }
+        return any;
+    }
+
+    /**
+     * Fills a mask with the positions whose squared distance to a centre is greater than {@code inner}
+     * and at most {@code outer}. The centre is relative to the section and may lie outside of it.
+     * A negative {@code inner} radius fills the whole sphere.
+     *
+     * @return whether any position of the section is part of the shell
+     */
+    public static boolean shell(long[] mask, int centreX, int centreY, int centreZ, int inner, int outer) {
+        Arrays.fill(mask, 0L);
+        boolean any = false;
+
+        for (int z = 0; z < 16; z++) {
+            int dz = z - centreZ;
+            for (int y = 0; y < 16; y++) {
+                int dy = y - centreY;
+                int outerRemaining = outer - dy * dy - dz * dz;
+                if (outerRemaining < 0) continue;
+
+                int outerX = (int) Math.sqrt(outerRemaining);
+                int row = rowMask(centreX - outerX, centreX + outerX);
+                int innerRemaining = inner - dy * dy - dz * dz;
+                if (innerRemaining >= 0) {
+                    int innerX = (int) Math.sqrt(innerRemaining);
+                    row &= ~rowMask(centreX - innerX, centreX + innerX);
+                }
+
+                if (row != 0) {
+                    setRow(mask, y, z, row);
+                    any = true;
+                }
+            }
+        }
+        return any;
+    }
+
+    /**
+     * @return the bits from {@code min} to {@code max} (inclusive), clamped to a 16 block row
+     */
+    public static int rowMask(int min, int max) {
+        min = Math.max(min, 0);
+        max = Math.min(max, 15);
+        if (min > max) return 0;
+        return (0xFFFF >>> (15 - max + min)) << min;
+    }
+
+    private static void setRow(long[] mask, int y, int z, int row) {
+        int index = (y << 4) + (z << 8);
+        mask[index >> 6] |= (long) row << (index & 63);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import dev.galacticraft.api.accessor.SatelliteAccessor;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.impl.network.s2c.SatelliteCataloguePayload;
+import dev.galacticraft.impl.universe.celestialbody.type.SatelliteType;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
+import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.resources.ResourceLocation;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.level.ServerPlayer;
+
+import java.util.*;
+
+/**
+ * Keeps clients' lists of satellites up to date. Players get the whole catalogue when they join,
+ * after which the satellites created or removed during a tick are sent to everyone as one versioned delta.
+ * Clients that miss a version ask for the whole catalogue again.
+ */
+public class SatelliteCatalogue {
+    private int version = 0;
+    private final Map<ResourceLocation, SatelliteIndex> added = new LinkedHashMap<>();
+    private final Set<ResourceLocation> removed = new LinkedHashSet<>();
+
+    public void onAdded(ResourceLocation id, SatelliteConfig config) {
+        this.removed.remove(id);
+        this.added.put(id, SatelliteIndex.of(id, config));
+    }
+
+    public void onRemoved(ResourceLocation id) {
+        this.added.remove(id);
+        this.removed.add(id);
+    }
+
+    /**
+     * Sends the changes made since the last flush to every player.
+     */
+    public void flush(MinecraftServer server) {
+        if (this.added.isEmpty() && this.removed.isEmpty()) return;
+
+        this.version++;
+        SatelliteCataloguePayload payload = new SatelliteCataloguePayload(this.version, false, List.copyOf(this.added.values()), List.copyOf(this.removed));
+        this.added.clear();
+        this.removed.clear();
+        for (ServerPlayer player : PlayerLookup.all(server)) {
+            ServerPlayNetworking.send(player, payload);
+        }
+    }
+
+    /**
+     * Sends the whole catalogue to a player.
+     * Changes that are still pending will be sent again with the next flush, which the client tolerates.
+     */
+    public void sendTo(ServerPlayer player, MinecraftServer server) {
+        Map<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> satellites = ((SatelliteAccessor) server).galacticraft$getSatellites();
+        List<SatelliteIndex> index = new ArrayList<>(satellites.size());
+        for (Map.Entry<ResourceLocation, CelestialBody<SatelliteConfig, SatelliteType>> entry : satellites.entrySet()) {
+            index.add(SatelliteIndex.of(entry.getKey(), entry.getValue().config()));
+        }
+        ServerPlayNetworking.send(player, new SatelliteCataloguePayload(this.version, true, index, List.of()));
+    }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import dev.galacticraft.api.registry.AddonRegistries;
+import dev.galacticraft.api.satellite.SatelliteOwnershipData;
+import dev.galacticraft.api.universe.celestialbody.CelestialBody;
+import dev.galacticraft.api.universe.display.CelestialDisplay;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import net.minecraft.core.UUIDUtil;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.network.chat.Component;
+import net.minecraft.network.chat.ComponentSerialization;
+import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.codec.StreamCodec;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.resources.ResourceLocation;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * The part of a satellite that clients need to list it. The full {@link SatelliteConfig} is only sent when a client asks for it.
+ */
+public record SatelliteIndex(ResourceLocation id, Optional<ResourceKey<CelestialBody<?, ?>>> parent, UUID owner, String ownerName, Component name, CelestialDisplay<?, ?> display) {
+    public static final StreamCodec<RegistryFriendlyByteBuf, SatelliteIndex> STREAM_CODEC = StreamCodec.composite(
+            ResourceLocation.STREAM_CODEC,
+            SatelliteIndex::id,
+            ByteBufCodecs.optional(ResourceKey.streamCodec(AddonRegistries.CELESTIAL_BODY)),
+            SatelliteIndex::parent,
+            UUIDUtil.STREAM_CODEC,
+            SatelliteIndex::owner,
+            ByteBufCodecs.STRING_UTF8,
+            SatelliteIndex::ownerName,
+            ComponentSerialization.STREAM_CODEC,
+            SatelliteIndex::name,
+            ByteBufCodecs.fromCodecWithRegistries(CelestialDisplay.CODEC),
+            SatelliteIndex::display,
+            SatelliteIndex::new);
+
+    public static SatelliteIndex of(ResourceLocation id, SatelliteConfig config) {
+        SatelliteOwnershipData ownership = config.getOwnershipData();
+        return new SatelliteIndex(id, config.getParent(), ownership.owner(), ownership.username(), config.getCustomName(), config.getDisplay());
+    }
+}
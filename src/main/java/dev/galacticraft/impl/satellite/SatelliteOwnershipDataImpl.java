@@ -39,6 +39,7 @@ public class SatelliteOwnershipDataImpl implements SatelliteOwnershipData {
     private final List<UUID> trusted;
     private String username;
     private final boolean open;
+    private boolean dirty = false;
 
     public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUID> trusted, boolean open) {
         this.owner = owner;
@@ -68,6 +69,7 @@ public SatelliteOwnershipDataImpl(@NotNull UUID owner, String username, List<UUI
     @Override
     public void username(String username) {
         this.username = username;
+        this.dirty = true;
     }
 
     @Override
@@ -93,11 +95,21 @@ public boolean open() {
     @Override
     public void trust(UUID uuid) {
         this.trusted.add(uuid);
+        this.dirty = true;
     }
 
     @Override
     public void distrust(UUID uuid) {
         this.trusted.remove(uuid);
+        this.dirty = true;
+    }
+
+    public boolean isDirty() {
+        return this.dirty;
+    }
+
+    public void clearDirty() {
+        this.dirty = false;
     }
 
     @Override
@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.impl.satellite;
+
+import com.mojang.datafixers.util.Pair;
+import com.mojang.serialization.DataResult;
+import dev.galacticraft.impl.universe.position.config.SatelliteConfig;
+import dev.galacticraft.mod.Constant;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.Util;
+import net.minecraft.nbt.*;
+import net.minecraft.resources.ResourceLocation;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Stores each satellite in its own file under {@code satellites/<namespace>/<path>.dat}.
+ * Only satellites that changed since they were last written are saved, and the writes happen on the IO pool.
+ * Writes to the same satellite are chained so that they always land in order.
+ * The old {@code satellites.dat} is only removed once every satellite in it has been written successfully.
+ */
+public class SatelliteStorage {
+    private static final String LEGACY_FILE = "satellites.dat";
+    private static final String EXTENSION = ".dat";
+
+    private final Path directory;
+    private final Path legacyFile;
+    // Each future completes with whether its last write or delete succeeded
+    private final Map<ResourceLocation, CompletableFuture<Boolean>> pending = new HashMap<>();
+    // Completes with whether the old single-file data was removed
+    private @Nullable CompletableFuture<Boolean> migration = null;
+
+    public SatelliteStorage(Path root) {
+        this.directory = root.resolve("satellites");
+        this.legacyFile = root.resolve(LEGACY_FILE);
+    }
+
+    /**
+     * Reads every stored satellite, decoding the files in parallel.
+     * Satellites only found in the old single-file format stay dirty, so the next save moves them to their own files.
+     */
+    public Map<ResourceLocation, SatelliteConfig> load() {
+        Map<ResourceLocation, SatelliteConfig> satellites = new HashMap<>();
+        if (Files.exists(this.legacyFile)) {
+            try {
+                ListTag nbt = NbtIo.readCompressed(this.legacyFile, NbtAccounter.unlimitedHeap()).getList("satellites", NbtType.COMPOUND);
+                for (Tag compound : nbt) {
+                    assert compound instanceof CompoundTag : "Not a compound?!";
+                    Pair<ResourceLocation, SatelliteConfig> satellite = decode((CompoundTag) compound);
+                    if (satellite != null) {
+                        satellites.put(satellite.getFirst(), satellite.getSecond());
+                    }
+                }
+            } catch (Throwable exception) {
+                throw new RuntimeException("Failed to read satellite data!", exception);
+            }
+        }
+
+        if (Files.isDirectory(this.directory)) {
+            List<CompletableFuture<Pair<ResourceLocation, SatelliteConfig>>> futures;
+            try (Stream<Path> files = Files.walk(this.directory)) {
+                futures = files.filter(file -> file.getFileName().toString().endsWith(EXTENSION))
+                        .map(file -> CompletableFuture.supplyAsync(() -> read(file), Util.backgroundExecutor()))
+                        .toList();
+            } catch (IOException exception) {
+                throw new RuntimeException("Failed to list satellite data!", exception);
+            }
+
+            for (CompletableFuture<Pair<ResourceLocation, SatelliteConfig>> future : futures) {
+                Pair<ResourceLocation, SatelliteConfig> satellite = future.join();
+                if (satellite != null) {
+                    satellite.getSecond().clearDirty();
+                    satellites.put(satellite.getFirst(), satellite.getSecond());
+                }
+            }
+        }
+        return satellites;
+    }
+
+    /**
+     * Encodes the satellites that changed since they were last saved and queues them to be written.
+     * Must be called from the server thread.
+     */
+    public void save(Map<ResourceLocation, SatelliteConfig> satellites) {
+        this.pending.values().removeIf(CompletableFuture::isDone);
+        if (this.migration != null && this.migration.isDone() && !this.migration.join()) {
+            // A write failed and marked its satellite dirty again, so retry the migration along with it
+            this.migration = null;
+        }
+
+        for (Map.Entry<ResourceLocation, SatelliteConfig> entry : satellites.entrySet()) {
+            SatelliteConfig config = entry.getValue();
+            if (!config.isDirty()) continue;
+
+            CompoundTag compound = (CompoundTag) SatelliteConfig.CODEC.encode(config, NbtOps.INSTANCE, new CompoundTag()).getOrThrow();
+            compound.putString("id", entry.getKey().toString());
+            config.clearDirty();
+
+            Path file = this.getFile(entry.getKey());
+            this.schedule(entry.getKey(), () -> {
+                try {
+                    write(file, compound);
+                    return true;
+                } catch (Throwable exception) {
+                    Constant.LOGGER.error("Failed to write satellite data for '{}'!", entry.getKey(), exception);
+                    config.markDirty();
+                    return false;
+                }
+            });
+        }
+
+        if (this.migration == null && Files.exists(this.legacyFile)) {
+            // Every satellite now has its own file, so the old one can go once they're all written
+            List<CompletableFuture<Boolean>> writes = List.copyOf(this.pending.values());
+            this.migration = CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).thenApplyAsync(ignored -> {
+                for (CompletableFuture<Boolean> write : writes) {
+                    if (!write.join()) {
+                        Constant.LOGGER.warn("Keeping old satellite data until every satellite has been written");
+                        return false;
+                    }
+                }
+                try {
+                    Files.deleteIfExists(this.legacyFile);
+                    return true;
+                } catch (IOException exception) {
+                    Constant.LOGGER.error("Failed to remove old satellite data!", exception);
+                    return false;
+                }
+            }, Util.ioPool());
+        }
+    }
+
+    public void delete(ResourceLocation id) {
+        Path file = this.getFile(id);
+        this.schedule(id, () -> {
+            try {
+                Files.deleteIfExists(file);
+                return true;
+            } catch (IOException exception) {
+                Constant.LOGGER.error("Failed to delete satellite data for '{}'!", id, exception);
+                return false;
+            }
+        });
+    }
+
+    /**
+     * Blocks until all queued writes have finished.
+     */
+    public void flush() {
+        CompletableFuture.allOf(this.pending.values().toArray(new CompletableFuture[0])).join();
+        this.pending.clear();
+        if (this.migration != null) {
+            this.migration.join();
+        }
+    }
+
+    private void schedule(ResourceLocation id, Supplier<Boolean> task) {
+        CompletableFuture<Boolean> previous = this.pending.get(id);
+        this.pending.put(id, previous == null ? CompletableFuture.supplyAsync(task, Util.ioPool()) : previous.thenApplyAsync(ignored -> task.get(), Util.ioPool()));
+    }
+
+    private Path getFile(ResourceLocation id) {
+        return this.directory.resolve(id.getNamespace()).resolve(id.getPath() + EXTENSION);
+    }
+
+    private static void write(Path file, CompoundTag compound) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        NbtIo.writeCompressed(compound, temp);
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private static @Nullable Pair<ResourceLocation, SatelliteConfig> read(Path file) {
+        try {
+            return decode(NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap()));
+        } catch (IOException exception) {
+            Constant.LOGGER.error("Skipping unreadable satellite file {}", file, exception);
+            return null;
+        }
+    }
+
+    private static @Nullable Pair<ResourceLocation, SatelliteConfig> decode(CompoundTag compound) {
+        ResourceLocation id = ResourceLocation.parse(compound.getString("id"));
+        DataResult<Pair<SatelliteConfig, Tag>> decode = SatelliteConfig.CODEC.decode(NbtOps.INSTANCE, compound);
+        if (decode.error().isPresent()) {
+            Constant.LOGGER.error("Skipping satellite '{}' - {}", id, decode.error().get().message());
+            return null;
+        }
+        return Pair.of(id, decode.getOrThrow().getFirst());
+    }
+}
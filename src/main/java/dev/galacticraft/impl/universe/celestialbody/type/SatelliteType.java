@@ -37,7 +37,6 @@
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.api.universe.position.CelestialPosition;
 import dev.galacticraft.dynamicdimensions.api.DynamicDimensionRegistry;
-import dev.galacticraft.impl.network.s2c.AddSatellitePayload;
 import dev.galacticraft.impl.universe.BuiltinObjects;
 import dev.galacticraft.impl.universe.celestialbody.config.StarConfig;
 import dev.galacticraft.impl.universe.display.config.IconCelestialDisplayConfig;
@@ -54,7 +53,6 @@
 import dev.galacticraft.mod.util.Translations;
 import dev.galacticraft.mod.world.biome.GCBiomes;
 import net.fabricmc.fabric.api.client.rendering.v1.DimensionRenderingRegistry;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.Holder;
 import net.minecraft.core.Registry;
 import net.minecraft.core.RegistryAccess;
@@ -154,11 +152,8 @@ public static CelestialBody<SatelliteConfig, SatelliteType> create(ResourceLocat
         assert parent != null;
         SatelliteConfig config = new SatelliteConfig(id, Component.translatable(name),Optional.of(parentResourceKey), position, display, ring, ownershipData, ResourceKey.create(Registries.DIMENSION, id), direct, EMPTY_GAS_COMPOSITION, 0.0f, parent.type() instanceof Tiered<?> ? ((Tiered) parent.type()).accessWeight(parent.config()) : 1, new LevelStem(Holder.direct(type), generator));
         CelestialBody<SatelliteConfig, SatelliteType> satellite = INSTANCE.configure(config);
+        // Clients are told about the new satellite with the next catalogue update
         ((SatelliteAccessor) server).galacticraft$addSatellite(id, satellite);
-
-        for (ServerPlayer player : server.getPlayerList().getPlayers()) {
-            ServerPlayNetworking.send(player, new AddSatellitePayload(id, satellite.config()));
-        }
         return satellite;
     }
 
@@ -34,6 +34,7 @@
 import dev.galacticraft.api.universe.display.ring.CelestialRingDisplay;
 import dev.galacticraft.api.universe.galaxy.Galaxy;
 import dev.galacticraft.api.universe.position.CelestialPosition;
+import dev.galacticraft.impl.satellite.SatelliteOwnershipDataImpl;
 import dev.galacticraft.impl.universe.celestialbody.config.PlanetConfig;
 import dev.galacticraft.mod.util.StreamCodecs;
 import net.minecraft.core.Holder;
@@ -66,6 +67,8 @@ public class SatelliteConfig implements CelestialBodyConfig {
     private float gravity;
     private int accessWeight;
     private LevelStem options;
+    // whether the satellite changed since it was last saved
+    private volatile boolean dirty = true;
 
     public static final Codec<SatelliteConfig> CODEC = RecordCodecBuilder.create(instance -> instance.group(
             ResourceLocation.CODEC.fieldOf("id").forGetter(SatelliteConfig::getId),
@@ -129,17 +132,32 @@ public SatelliteConfig(
     public LevelStem getOptions() { return options; }
 
     // Setters (optional, use as needed)
-    public void setId(ResourceLocation id) { this.id = id; }
-    public void setCustomName(Component customName) { this.customName = customName; }
-    public void setParent(Optional<ResourceKey<CelestialBody<?, ?>>> parent) { this.parent = parent; }
-    public void setPosition(CelestialPosition<?, ?> position) { this.position = position; }
-    public void setDisplay(CelestialDisplay<?, ?> display) { this.display = display; }
-    public void setRing(CelestialRingDisplay<?, ?> ring) { this.ring = ring; }
-    public void setOwnershipData(SatelliteOwnershipData ownershipData) { this.ownershipData = ownershipData; }
-    public void setWorld(ResourceKey<Level> world) { this.world = world; }
-    public void setTeleporter(Holder<CelestialTeleporter<?, ?>> teleporter) { this.teleporter = teleporter; }
-    public void setAtmosphere(GasComposition atmosphere) { this.atmosphere = atmosphere; }
-    public void setGravity(float gravity) { this.gravity = gravity; }
-    public void setAccessWeight(int accessWeight) { this.accessWeight = accessWeight; }
-    public void setOptions(LevelStem options) { this.options = options; }
+    public void setId(ResourceLocation id) { this.id = id; this.markDirty(); }
+    public void setCustomName(Component customName) { this.customName = customName; this.markDirty(); }
+    public void setParent(Optional<ResourceKey<CelestialBody<?, ?>>> parent) { this.parent = parent; this.markDirty(); }
+    public void setPosition(CelestialPosition<?, ?> position) { this.position = position; this.markDirty(); }
+    public void setDisplay(CelestialDisplay<?, ?> display) { this.display = display; this.markDirty(); }
+    public void setRing(CelestialRingDisplay<?, ?> ring) { this.ring = ring; this.markDirty(); }
+    public void setOwnershipData(SatelliteOwnershipData ownershipData) { this.ownershipData = ownershipData; this.markDirty(); }
+    public void setWorld(ResourceKey<Level> world) { this.world = world; this.markDirty(); }
+    public void setTeleporter(Holder<CelestialTeleporter<?, ?>> teleporter) { this.teleporter = teleporter; this.markDirty(); }
+    public void setAtmosphere(GasComposition atmosphere) { this.atmosphere = atmosphere; this.markDirty(); }
+    public void setGravity(float gravity) { this.gravity = gravity; this.markDirty(); }
+    public void setAccessWeight(int accessWeight) { this.accessWeight = accessWeight; this.markDirty(); }
+    public void setOptions(LevelStem options) { this.options = options; this.markDirty(); }
+
+    public boolean isDirty() {
+        return this.dirty || this.ownershipData instanceof SatelliteOwnershipDataImpl data && data.isDirty();
+    }
+
+    public void markDirty() {
+        this.dirty = true;
+    }
+
+    public void clearDirty() {
+        this.dirty = false;
+        if (this.ownershipData instanceof SatelliteOwnershipDataImpl data) {
+            data.clearDirty();
+        }
+    }
 }
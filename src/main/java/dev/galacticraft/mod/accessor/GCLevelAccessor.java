@@ -22,12 +22,21 @@
 
 package dev.galacticraft.mod.accessor;
 
+import dev.galacticraft.mod.machine.AirlockManager;
+import dev.galacticraft.mod.machine.BubbleManager;
+import dev.galacticraft.mod.machine.CollectorManager;
 import dev.galacticraft.mod.machine.SealerManager;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 
 public interface GCLevelAccessor {
     SealerManager getSealerManager();
 
+    CollectorManager getCollectorManager();
+
+    AirlockManager getAirlockManager();
+
+    BubbleManager getBubbleManager();
+
     default FootprintManager galacticraft$getFootprintManager() {
         throw new RuntimeException("This should be overridden by mixin!"); // Hopefully this doesn't cause issues with mods with fake worlds
     }
@@ -49,6 +49,8 @@ public interface Config {
 
     long maxSealingPower();
 
+    boolean asyncSealing();
+
     long refineryEnergyConsumptionRate();
 
     long electricFurnaceEnergyConsumptionRate();
@@ -65,6 +67,10 @@ public interface Config {
 
     long playerOxygenConsuptionRate();
 
+    long oxygenSyncInterval();
+
+    long satelliteUnloadDelay();
+
     double bossHealthMultiplier();
 
     boolean enableGcHouston();
@@ -25,13 +25,11 @@
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.api.pipe.Pipe;
 import dev.galacticraft.mod.api.pipe.PipeNetwork;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import dev.galacticraft.mod.machine.storage.DistributionEngine;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidStorage;
 import net.fabricmc.fabric.api.transfer.v1.fluid.FluidVariant;
 import net.fabricmc.fabric.api.transfer.v1.storage.Storage;
-import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
 import net.minecraft.core.BlockPos;
@@ -56,6 +54,10 @@ public class PipeNetworkImpl extends SnapshotParticipant<PipeNetworkImpl.PipeSna
     private int tickId;
     private long transferred = 0;
     private @Nullable FluidVariant currentVariant = null; //can transfer <maxTransferRate> amount of fluid of 1 type per tick
+    private final DistributionEngine<Storage<FluidVariant>, FluidVariant> distribution = new DistributionEngine<>(
+            () -> DistributionEngine.collect(this.pipes.values()),
+            Storage::insert
+    );
 
     public PipeNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
         this.level = level;
@@ -81,6 +83,7 @@ private void addPipe(@NotNull BlockPos pos, @Nullable Pipe pipe) {
         }
         pipe.setNetwork(this);
         this.pipes.put(pos, null);
+        this.distribution.invalidate();
 
         for (Direction direction : Constant.Misc.DIRECTIONS) {
             if (pipe.canConnect(direction)) {
@@ -119,6 +122,7 @@ public void removePipe(@NotNull BlockPos removedPos) {
         assert this.pipes.containsKey(removedPos) : "Tried to remove pipe that does not exist!";
 
         this.pipes.remove(removedPos);
+        this.distribution.invalidate();
         if (this.pipes.isEmpty()) {
             this.markForRemoval();
             return;
@@ -164,6 +168,7 @@ public void updateConnection(@NotNull BlockPos pipePos, @NotNull BlockPos adjace
             if (this.pipes.containsKey(adjacentPos)) {
                 this.removePipe(adjacentPos);
             }
+            this.distribution.invalidate();
 
             Storage<FluidVariant> storage = FluidStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
             if (storage != null && storage.supportsInsertion()) {
@@ -193,47 +198,15 @@ public long insert(@NotNull FluidVariant resource, long amount, @NotNull Transac
             return 0;
         }
 
-        long totalRequested = 0;
-        Object2LongMap<Storage<FluidVariant>> requests = new Object2LongOpenHashMap<>();
-
-        for (Storage<FluidVariant>[] storages : this.pipes.values()) {
-            if (storages != null) {
-                for (Storage<FluidVariant> storage : storages) {
-                    if (storage != null) {
-                        try (Transaction simulation = Transaction.openNested(transaction)) {
-                            long inserted = storage.insert(resource, amount, simulation);
-                            if (inserted > 0) {
-                                totalRequested += inserted;
-                                requests.put(storage, inserted);
-                            }
-                            simulation.abort();
-                        }
-                    }
-                }
-            }
+        long inserted = this.distribution.distribute(resource, amount, this.maxTransferRate - this.transferred, this.tickId, transaction);
+        if (inserted > 0) {
+            this.updateSnapshots(transaction);
+            this.currentVariant = resource;
+            this.transferred += inserted;
         }
 
-        if (totalRequested == 0) {
-            this.activeTransaction = false;
-            return 0;
-        }
-
-        double ratio = Math.min(1.0, (double) amount / (double) totalRequested);
-        final long baseTransferred = this.transferred;
-
-        this.updateSnapshots(transaction);
-
-        this.currentVariant = resource;
-        requests.forEach((storage, requested) -> {
-            long insert = (long) (requested * ratio);
-            if (insert > 0) {
-                insert = storage.insert(resource, insert, transaction);
-                this.transferred += insert;
-            }
-        });
-
         this.activeTransaction = false;
-        return this.transferred - baseTransferred;
+        return inserted;
     }
 
     @Override
@@ -26,10 +26,8 @@
 import dev.galacticraft.mod.api.wire.Wire;
 import dev.galacticraft.mod.api.wire.WireNetwork;
 import dev.galacticraft.mod.content.block.entity.networked.WireBlockEntity;
-import it.unimi.dsi.fastutil.objects.Object2LongMap;
-import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
+import dev.galacticraft.mod.machine.storage.DistributionEngine;
 import it.unimi.dsi.fastutil.objects.Object2ObjectOpenHashMap;
-import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
 import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
 import net.minecraft.core.BlockPos;
@@ -54,6 +52,10 @@ public class WireNetworkImpl extends SnapshotParticipant<Long> implements WireNe
     private boolean activeTransaction = false;
     private long tickId;
     private long transferred = 0;
+    private final DistributionEngine<EnergyStorage, Void> distribution = new DistributionEngine<>(
+            () -> DistributionEngine.collect(this.wires.values()),
+            (storage, resource, amount, transaction) -> storage.insert(amount, transaction)
+    );
 
     public WireNetworkImpl(@NotNull ServerLevel level, long maxTransferRate, @NotNull BlockPos pos) {
         this.level = level;
@@ -79,6 +81,7 @@ private void addWire(@NotNull BlockPos pos, @Nullable Wire wire) {
         }
         wire.setNetwork(this);
         this.wires.put(pos, null);
+        this.distribution.invalidate();
 
         for (Direction direction : Constant.Misc.DIRECTIONS) {
             if (wire.canConnect(direction)) {
@@ -114,6 +117,7 @@ public void removeWire(@NotNull BlockPos removedPos) {
         assert this.wires.containsKey(removedPos) : "Tried to remove wire that does not exist!";
 
         this.wires.remove(removedPos);
+        this.distribution.invalidate();
         if (this.wires.isEmpty()) {
             this.markForRemoval();
             return;
@@ -159,6 +163,7 @@ public void updateConnection(@NotNull BlockPos wirePos, @NotNull BlockPos adjace
             if (this.wires.containsKey(adjacentPos)) {
                 this.removeWire(adjacentPos);
             }
+            this.distribution.invalidate();
 
             EnergyStorage storage = EnergyStorage.SIDED.find(this.level, adjacentPos, direction.getOpposite());
             if (storage != null && storage.supportsInsertion()) {
@@ -186,46 +191,15 @@ public long insert(long amount, @NotNull TransactionContext transaction) {
             this.activeTransaction = false;
             return 0;
         }
-        long totalRequested = 0;
-        Object2LongMap<EnergyStorage> requests = new Object2LongOpenHashMap<>();
-
-        for (EnergyStorage[] storages : this.wires.values()) {
-            if (storages != null) {
-                for (EnergyStorage storage : storages) {
-                    if (storage != null) {
-                        try (Transaction simulation = Transaction.openNested(transaction)) {
-                            long inserted = storage.insert(amount, simulation);
-                            if (inserted > 0) {
-                                totalRequested += inserted;
-                                requests.put(storage, inserted);
-                            }
-                            simulation.abort();
-                        }
-                    }
-                }
-            }
-        }
 
-        if (totalRequested == 0) {
-            this.activeTransaction = false;
-            return 0;
+        long inserted = this.distribution.distribute(null, amount, this.maxTransferRate - this.transferred, this.tickId, transaction);
+        if (inserted > 0) {
+            this.updateSnapshots(transaction);
+            this.transferred += inserted;
         }
 
-        double ratio = Math.min(1.0, (double) amount / (double) totalRequested);
-        final long baseTransferred = this.transferred;
-
-        this.updateSnapshots(transaction);
-
-        requests.forEach((storage, requested) -> {
-            long insert = (long) (requested * ratio);
-            if (insert > 0) {
-                insert = storage.insert(insert, transaction);
-                this.transferred += insert;
-            }
-        });
-
         this.activeTransaction = false;
-        return this.transferred - baseTransferred;
+        return inserted;
     }
 
     @Override
@@ -109,6 +109,8 @@ public CelestialScreen(Component title) {
         this.bodiesToRender.addAll(accessor.galacticraft$getSatellites().values());
         this.bodiesToRender.sort((o1, o2) -> Float.compare(o1.position().lineScale(), o2.position().lineScale()));
         accessor.addListener(this);
+        // Only the index of each satellite is synced up front, fetch the rest now that it is needed
+        accessor.galacticraft$requestSatellites();
     }
 
     @Override
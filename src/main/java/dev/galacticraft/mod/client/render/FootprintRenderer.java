@@ -27,121 +27,88 @@
 import com.mojang.blaze3d.vertex.*;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.misc.footprint.Footprint;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.misc.footprint.FootprintMesh;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderContext;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GameRenderer;
+import net.minecraft.client.renderer.culling.Frustum;
 import net.minecraft.resources.ResourceLocation;
-import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.phys.AABB;
 import net.minecraft.world.phys.Vec3;
+import org.jetbrains.annotations.Nullable;
 import org.joml.Matrix4f;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
 import java.util.List;
 
 public class FootprintRenderer {
     private static final ResourceLocation FOOTPRINT_TEXTURE = Constant.id("textures/misc/footprint.png");
+    // footprints are too small to be worth drawing from further away than this
+    private static final double RENDER_DISTANCE = 64.0;
 
     public static void renderFootprints(WorldRenderContext context) {
         context.profiler().push("footprints");
-        PoseStack poseStack = context.matrixStack();
-        ResourceLocation dimActive = context.world().dimensionTypeRegistration().unwrapKey().get().location();
-        List<Footprint> footprintsToDraw = new LinkedList<>();
+        Long2ObjectMap<FootprintChunk> chunks = context.world().galacticraft$getFootprintManager().getChunks();
 
-        for (List<Footprint> footprintList : context.world().galacticraft$getFootprintManager().getFootprints().values()) {
-            for (Footprint footprint : footprintList) {
-                if (footprint.dimension.equals(dimActive)) {
-                    footprintsToDraw.add(footprint);
-                }
-            }
-        }
-
-        if (footprintsToDraw.isEmpty()) {
+        if (chunks.isEmpty()) {
             context.profiler().pop();
             return;
         }
 
-        poseStack.pushPose();
-        RenderSystem.setShaderTexture(0, FootprintRenderer.FOOTPRINT_TEXTURE);
-
-        RenderSystem.depthMask(true);
-        RenderSystem.enableDepthTest();
-        RenderSystem.disableCull();
-
-        RenderSystem.enableBlend();
-        RenderSystem.blendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
-        Tesselator tessellator = Tesselator.getInstance();
-        float f7 = 1.0F;
-        float f6 = 0.0F;
-        float f8 = 0.0F;
-        float f9 = 1.0F;
-
-//        RenderSystem.alphaFunc(GL11.GL_GREATER, 0.1F); // This probably needs a custom shader?
-//        float lightMapSaveX = OpenGlHelper.lastBrightnessX;
-//        float lightMapSaveY = OpenGlHelper.lastBrightnessY;
-//        boolean sensorGlasses = OverlaySensorGlasses.overrideMobTexture();
-//        if (sensorGlasses) {
-//            OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, 240.0F, 240.0F);
-//        }
-
-        RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
-
-        for (Footprint footprint : footprintsToDraw) {
-            poseStack.pushPose();
+        long time = context.world().getGameTime();
+        Vec3 camera = context.camera().getPosition();
+        @Nullable Frustum frustum = context.frustum();
+        Matrix4f pose = context.matrixStack().last().pose();
+        BufferBuilder buffer = Tesselator.getInstance().begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX_COLOR);
+        FootprintMesh.VertexSink sink = (x, y, z, u, v, colour) -> buffer.addVertex(pose, x, y, z).setUv(u, v).setColor(colour);
+
+        for (Long2ObjectMap.Entry<FootprintChunk> entry : Long2ObjectMaps.fastIterable(chunks)) {
+            FootprintChunk chunk = entry.getValue();
+            if (chunk.isEmpty()) continue;
+
+            long pos = entry.getLongKey();
+            int minX = ChunkPos.getX(pos) << 4;
+            int minZ = ChunkPos.getZ(pos) << 4;
+            // distance to the closest point of the chunk column
+            double dx = Math.max(Math.max(minX - camera.x, camera.x - (minX + 16)), 0);
+            double dz = Math.max(Math.max(minZ - camera.z, camera.z - (minZ + 16)), 0);
+            if (dx * dx + dz * dz > RENDER_DISTANCE * RENDER_DISTANCE) continue;
+            if (frustum != null && !frustum.isVisible(new AABB(minX, chunk.minY(), minZ, minX + 16, chunk.maxY() + 0.01, minZ + 16))) continue;
+
+            FootprintMesh.build(chunk, camera.x, camera.y, camera.z, time, sink);
+        }
 
-//            if (!sensorGlasses) {
-//                int j = footprint.lightmapVal % 65536;
-//                int k = footprint.lightmapVal / 65536;
-//                OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, (float) j, (float) k);
+        MeshData mesh = buffer.build();
+        if (mesh != null) {
+            RenderSystem.setShader(GameRenderer::getPositionTexColorShader);
+            RenderSystem.setShaderTexture(0, FootprintRenderer.FOOTPRINT_TEXTURE);
+            RenderSystem.depthMask(true);
+            RenderSystem.enableDepthTest();
+            RenderSystem.disableCull();
+            RenderSystem.enableBlend();
+            RenderSystem.blendFuncSeparate(GlStateManager.SourceFactor.SRC_ALPHA, GlStateManager.DestFactor.ONE_MINUS_SRC_ALPHA, GlStateManager.SourceFactor.ONE, GlStateManager.DestFactor.ZERO);
+
+//            RenderSystem.alphaFunc(GL11.GL_GREATER, 0.1F); // This probably needs a custom shader?
+//            boolean sensorGlasses = OverlaySensorGlasses.overrideMobTexture();
+//            if (sensorGlasses) {
+//                OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, 240.0F, 240.0F);
 //            }
 
-            float ageScale = footprint.age / (float) Footprint.MAX_AGE;
-            BufferBuilder buffer = tessellator.begin(VertexFormat.Mode.QUADS, DefaultVertexFormat.POSITION_TEX);
-            RenderSystem.setShader(GameRenderer::getPositionTexShader);
-
-            Vec3 cameraPos = context.camera().getPosition();
-            float x = (float) (footprint.position.x - cameraPos.x);
-            float y = (float) (footprint.position.y - cameraPos.y) + 0.001F;
-            float z = (float) (footprint.position.z - cameraPos.z);
-
-            poseStack.translate(x, y, z);
-
-            RenderSystem.setShaderColor(1F - ageScale, 1F - ageScale, 1F - ageScale, 1F - ageScale);
-            float footprintScale = 0.5F;
-            Matrix4f last = poseStack.last().pose();
-            buffer
-                    .addVertex(last, Mth.sin((45 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((45 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f7, f9)
-                    .addVertex(last, Mth.sin((135 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((135 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f7, f8)
-                    .addVertex(last, Mth.sin((225 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((225 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f6, f8)
-                    .addVertex(last, Mth.sin((315 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale, 0, Mth.cos((315 - footprint.rotation) / Mth.RAD_TO_DEG) * footprintScale)
-                    .setUv(f6, f9);
-
-            BufferUploader.drawWithShader(buffer.buildOrThrow());
-            poseStack.popPose();
+            BufferUploader.drawWithShader(mesh);
+            RenderSystem.enableCull();
+            RenderSystem.disableBlend();
         }
-
-//        if (sensorGlasses) {
-//            OpenGlHelper.setLightmapTextureCoords(OpenGlHelper.lightmapTexUnit, lightMapSaveX, lightMapSaveY);
-//        }
-
-        RenderSystem.setShaderColor(1.0F, 1.0F, 1.0F, 1.0F);
-        poseStack.popPose();
         context.profiler().pop();
     }
 
-    public static void setFootprints(long chunk, List<Footprint> prints) {
+    public static void addFootprints(long chunk, List<Footprint> prints) {
         FootprintManager manager = Minecraft.getInstance().level.galacticraft$getFootprintManager();
-        List<Footprint> footprintList = manager.getFootprints().get(chunk);
-
-        if (footprintList == null) {
-            footprintList = new ArrayList<>();
+        for (Footprint footprint : prints) {
+            manager.addFootprint(chunk, footprint.x(), footprint.y(), footprint.z(), footprint.rotation(), null, footprint.created());
         }
-
-        footprintList.addAll(prints);
-        manager.getFootprints().put(chunk, footprintList);
     }
-}
\ No newline at end of file
+}
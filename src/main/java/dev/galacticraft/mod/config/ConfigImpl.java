@@ -59,6 +59,7 @@ public class ConfigImpl implements Config {
     private long oxygenSealerEnergyConsumptionRate = Constant.Energy.T1_MACHINE_ENERGY_USAGE;
     private long oxygenSealerOxygenConsumptionRate = 1000;
     private long maxSealingPower = 1024;
+    private boolean asyncSealing = false;
     private long foodCannerEnergyConsumptionRate = Constant.Energy.T1_MACHINE_ENERGY_USAGE;
     private long refineryEnergyConsumptionRate = Constant.Energy.T2_MACHINE_ENERGY_USAGE;
     private long electricFurnaceEnergyConsumptionRate = Constant.Energy.T2_MACHINE_ENERGY_USAGE;
@@ -67,6 +68,8 @@ public class ConfigImpl implements Config {
     private long oxygenCompressorEnergyConsumptionRate = Constant.Energy.T1_MACHINE_ENERGY_USAGE;
     private long oxygenDecompressorEnergyConsumptionRate = Constant.Energy.T1_MACHINE_ENERGY_USAGE;
     private long playerOxygenConsumptionRate = FluidConstants.DROPLET;
+    private long oxygenSyncInterval = 2;
+    private long satelliteUnloadDelay = 6000;
     private double bossHealthMultiplier = 1.0;
     private boolean hideAlphaWarning = false;
     private boolean enableGcHouston = true;
@@ -235,6 +238,15 @@ public void setMaxSealingPower(long amount) {
         this.maxSealingPower = amount;
     }
 
+    @Override
+    public boolean asyncSealing() {
+        return asyncSealing;
+    }
+
+    public void setAsyncSealing(boolean asyncSealing) {
+        this.asyncSealing = asyncSealing;
+    }
+
     @Override
     public long oxygenCompressorEnergyConsumptionRate() {
         return oxygenCompressorEnergyConsumptionRate;
@@ -271,6 +283,24 @@ public void setPlayerOxygenConsumptionRate(long amount) {
         this.playerOxygenConsumptionRate = amount;
     }
 
+    @Override
+    public long oxygenSyncInterval() {
+        return this.oxygenSyncInterval;
+    }
+
+    public void setOxygenSyncInterval(long oxygenSyncInterval) {
+        this.oxygenSyncInterval = oxygenSyncInterval;
+    }
+
+    @Override
+    public long satelliteUnloadDelay() {
+        return this.satelliteUnloadDelay;
+    }
+
+    public void setSatelliteUnloadDelay(long satelliteUnloadDelay) {
+        this.satelliteUnloadDelay = satelliteUnloadDelay;
+    }
+
     @Override
     public double bossHealthMultiplier() {
         return this.bossHealthMultiplier;
@@ -442,6 +472,15 @@ public Screen create(Screen parent) {
                     .build()
             );
 
+            machines.add(new BooleanToggleBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.ASYNC_SEALING),
+                    config.asyncSealing())
+                    .setSaveConsumer(config::setAsyncSealing)
+                    .setDefaultValue(false)
+                    .build()
+            );
+
             machines.add(new LongFieldBuilder(
                     Component.translatable(Translations.Config.RESET),
                     Component.translatable(Translations.Config.REFINERY_ENERGY_CONSUMPTION_RATE),
@@ -525,6 +564,17 @@ public Screen create(Screen parent) {
                     .build()
             );
 
+            lifeSupport.add(new LongFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.OXYGEN_SYNC_INTERVAL),
+                    config.oxygenSyncInterval())
+                    .setSaveConsumer(config::setOxygenSyncInterval)
+                    .setDefaultValue(2)
+                    .setMin(1)
+                    .setMax(200)
+                    .build()
+            );
+
             lifeSupport.add(new DoubleFieldBuilder(
                     Component.translatable(Translations.Config.RESET),
                     Component.translatable(Translations.Config.BOSS_HEALTH_MODIFIER),
@@ -535,9 +585,23 @@ public Screen create(Screen parent) {
                     .build()
             );
 
+            SubCategoryBuilder satellites = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.SATELLITES));
+
+            satellites.add(new LongFieldBuilder(
+                    Component.translatable(Translations.Config.RESET),
+                    Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY),
+                    config.satelliteUnloadDelay())
+                    .setTooltip(Component.translatable(Translations.Config.SATELLITE_UNLOAD_DELAY_DESC))
+                    .setSaveConsumer(config::setSatelliteUnloadDelay)
+                    .setDefaultValue(6000)
+                    .setMin(0)
+                    .setMax(1_728_000)
+                    .build()
+            );
+
             b.getOrCreateCategory(Component.translatable(Translations.Config.DEBUG)).addEntry(dB.build());
             b.getOrCreateCategory(Component.translatable(Translations.Config.ENERGY)).addEntry(wires.build()).addEntry(machines.build());
-            b.getOrCreateCategory(Component.translatable(Translations.Config.PLAYER)).addEntry(lifeSupport.build());
+            b.getOrCreateCategory(Component.translatable(Translations.Config.PLAYER)).addEntry(lifeSupport.build()).addEntry(satellites.build());
 
             SubCategoryBuilder commands = ConfigEntryBuilder.create().startSubCategory(Component.translatable(Translations.Config.COMMANDS));
 
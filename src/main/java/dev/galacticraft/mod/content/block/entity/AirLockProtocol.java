@@ -23,13 +23,17 @@
 package dev.galacticraft.mod.content.block.entity;
 
 import dev.galacticraft.mod.content.block.special.AirlockBlock;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import net.minecraft.core.BlockPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 
+/**
+ * Finds the airlock frame around a controller. The frame is cached until an airlock block
+ * changes somewhere the search looked at, see {@link #invalidate(BlockPos)}.
+ */
 class AirLockProtocol {
     public boolean isValidFrame(BlockPos pos) {
         return world.getBlockState(pos).getBlock() instanceof AirlockBlock;
@@ -37,7 +41,8 @@ public boolean isValidFrame(BlockPos pos) {
 
 
     private ArrayList<BlockPos> adjacentAirLocks;
-    private HashSet<BlockPos> checked;
+    private final LongOpenHashSet checked;
+    private final BlockPos.MutableBlockPos testPos = new BlockPos.MutableBlockPos();
     private final Level world;
     private final BlockEntity head;
     private final int maxLoops;
@@ -47,6 +52,10 @@ public boolean isValidFrame(BlockPos pos) {
     private int airLocksDimension2Min = 0;
     private int airLocksDimension2Max = 0;
 
+    private boolean cached = false;
+    private boolean cachedHorizontal;
+    private int cachedResult;
+
     public int minX = 6000000;
     public int maxX = -6000000;
     public int minY = 6000000;
@@ -56,10 +65,23 @@ public boolean isValidFrame(BlockPos pos) {
 
     public AirLockProtocol(BlockEntity head) {
         this.adjacentAirLocks = new ArrayList<>();
-        this.checked = new HashSet<>();
+        this.checked = new LongOpenHashSet();
         this.world = head.getLevel();
         this.head = head;
-        this.maxLoops = 26;
+        this.maxLoops = AirlockControllerBlockEntity.MAX_FRAME_LOOPS;
+    }
+
+    /**
+     * Drops the cached frame if the given position could have changed it. Every position the search
+     * probed is a neighbour of a frame block, so it lies within one block of the frame's bounds.
+     */
+    public void invalidate(BlockPos pos) {
+        if (this.cached
+                && pos.getX() >= this.minX - 1 && pos.getX() <= this.maxX + 1
+                && pos.getY() >= this.minY - 1 && pos.getY() <= this.maxY + 1
+                && pos.getZ() >= this.minZ - 1 && pos.getZ() <= this.maxZ + 1) {
+            this.cached = false;
+        }
     }
 
     private void loopThrough(BlockPos pos, int loops) {
@@ -73,14 +95,12 @@ private void loopThrough(BlockPos pos, int loops) {
                 if ((xTest == xAligned || zTest == zAligned)) {
                     for (int y = -1; y <= 1; y++) {
                         if (!(x == 0 && y == 0 && z == 0)) {
-                            final BlockPos testPos = new BlockPos(xTest, pos.getY() + y, zTest);
-                            if (!this.checked.contains(testPos)) {
-                                this.checked.add(testPos);
-                                if (isValidFrame(testPos)) {
-                                    this.adjacentAirLocks.add(testPos);
-                                    if (loops > 1) {
-                                        this.loopThrough(testPos, loops - 1);
-                                    }
+                            this.testPos.set(xTest, pos.getY() + y, zTest);
+                            if (this.checked.add(this.testPos.asLong()) && isValidFrame(this.testPos)) {
+                                final BlockPos framePos = this.testPos.immutable();
+                                this.adjacentAirLocks.add(framePos);
+                                if (loops > 1) {
+                                    this.loopThrough(framePos, loops - 1);
                                 }
                             }
                         }
@@ -96,14 +116,12 @@ private void loopThroughHorizontal(BlockPos pos, int loops) {
             int xTest = pos.getX() + x;
             for (int z = -1; z <= 1; z++) {
                 if (!(x == 0 && z == 0)) {
-                    final BlockPos testPos = new BlockPos(xTest, yTest, pos.getZ() + z);
-                    if (!this.checked.contains(testPos)) {
-                        this.checked.add(testPos);
-                        if (isValidFrame(testPos)) {
-                            this.adjacentAirLocks.add(testPos);
-                            if (loops > 1) {
-                                this.loopThroughHorizontal(testPos, loops - 1);
-                            }
+                    this.testPos.set(xTest, yTest, pos.getZ() + z);
+                    if (this.checked.add(this.testPos.asLong()) && isValidFrame(this.testPos)) {
+                        final BlockPos framePos = this.testPos.immutable();
+                        this.adjacentAirLocks.add(framePos);
+                        if (loops > 1) {
+                            this.loopThroughHorizontal(framePos, loops - 1);
                         }
                     }
                 }
@@ -116,6 +134,15 @@ public int calculate(boolean horizontal) {
             return -1;
         }
 
+        if (!this.cached || this.cachedHorizontal != horizontal) {
+            this.cachedResult = this.search(horizontal);
+            this.cachedHorizontal = horizontal;
+            this.cached = true;
+        }
+        return this.cachedResult;
+    }
+
+    private int search(boolean horizontal) {
         this.minX = 6000000;
         this.maxX = -6000000;
         this.minY = 6000000;
@@ -126,7 +153,7 @@ public int calculate(boolean horizontal) {
         this.adjacentAirLocks = new ArrayList<>();
         this.checked.clear();
         final BlockPos headPos = this.head.getBlockPos();
-        this.checked.add(headPos);
+        this.checked.add(headPos.asLong());
         this.adjacentAirLocks.add(headPos);
 
         if (horizontal) {
@@ -192,38 +219,38 @@ public int calculate(boolean horizontal) {
 
     private void checkDimensions() {
         for (int y = this.minY; y <= this.maxY; y++) {
-            if (isValidFrame(new BlockPos(this.minX, y, this.minZ))) {
+            if (isValidFrame(this.testPos.set(this.minX, y, this.minZ))) {
                 this.airLocksDimension1Min++;
             }
         }
 
         for (int y = this.minY; y <= this.maxY; y++) {
-            if (isValidFrame(new BlockPos(this.maxX, y, this.maxZ))) {
+            if (isValidFrame(this.testPos.set(this.maxX, y, this.maxZ))) {
                 this.airLocksDimension1Max++;
             }
         }
 
         if (this.minX != this.maxX) {
             for (int x = this.minX; x <= this.maxX; x++) {
-                if (isValidFrame(new BlockPos(x, this.maxY, this.maxZ))) {
+                if (isValidFrame(this.testPos.set(x, this.maxY, this.maxZ))) {
                     this.airLocksDimension2Max++;
                 }
             }
 
             for (int x = this.minX; x <= this.maxX; x++) {
-                if (isValidFrame(new BlockPos(x, this.minY, this.maxZ))) {
+                if (isValidFrame(this.testPos.set(x, this.minY, this.maxZ))) {
                     this.airLocksDimension2Min++;
                 }
             }
         } else if (this.minZ != this.maxZ) {
             for (int z = this.minZ; z <= this.maxZ; z++) {
-                if (isValidFrame(new BlockPos(this.maxX, this.maxY, z))) {
+                if (isValidFrame(this.testPos.set(this.maxX, this.maxY, z))) {
                     this.airLocksDimension2Max++;
                 }
             }
 
             for (int z = this.minZ; z <= this.maxZ; z++) {
-                if (isValidFrame(new BlockPos(this.maxX, this.minY, z))) {
+                if (isValidFrame(this.testPos.set(this.maxX, this.minY, z))) {
                     this.airLocksDimension2Min++;
                 }
             }
@@ -233,13 +260,13 @@ private void checkDimensions() {
     private void checkDimensionsHorizontal() {
         if (this.minX != this.maxX) {
             for (int x = this.minX; x <= this.maxX; x++) {
-                if (isValidFrame(new BlockPos(x, this.minY, this.maxZ))) {
+                if (isValidFrame(this.testPos.set(x, this.minY, this.maxZ))) {
                     this.airLocksDimension1Max++;
                 }
             }
 
             for (int x = this.minX; x <= this.maxX; x++) {
-                if (isValidFrame(new BlockPos(x, this.minY, this.minZ))) {
+                if (isValidFrame(this.testPos.set(x, this.minY, this.minZ))) {
                     this.airLocksDimension1Min++;
                 }
             }
@@ -247,13 +274,13 @@ private void checkDimensionsHorizontal() {
 
         if (this.minZ != this.maxZ) {
             for (int z = this.minZ; z <= this.maxZ; z++) {
-                if (isValidFrame(new BlockPos(this.maxX, this.minY, z))) {
+                if (isValidFrame(this.testPos.set(this.maxX, this.minY, z))) {
                     this.airLocksDimension2Max++;
                 }
             }
 
             for (int z = this.minZ; z <= this.maxZ; z++) {
-                if (isValidFrame(new BlockPos(this.minX, this.minY, z))) {
+                if (isValidFrame(this.testPos.set(this.minX, this.minY, z))) {
                     this.airLocksDimension2Min++;
                 }
             }
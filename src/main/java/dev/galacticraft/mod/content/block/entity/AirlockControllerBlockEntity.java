@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.content.block.entity;
 
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
+import dev.galacticraft.mod.accessor.GCLevelAccessor;
 import dev.galacticraft.mod.content.GCBlocks;
 import dev.galacticraft.mod.screen.AirlockControllerMenu;
 import dev.galacticraft.mod.util.Translations;
@@ -46,6 +47,12 @@
 import static dev.galacticraft.mod.content.block.special.AirlockSealBlock.FACING;
 
 public class AirlockControllerBlockEntity extends BlockEntity implements MenuProvider {
+    public static final int MAX_FRAME_LOOPS = 26;
+    /**
+     * The furthest from the controller that a block can affect the shape of its frame.
+     */
+    public static final int FRAME_REACH = MAX_FRAME_LOOPS + 1;
+
     public boolean redstoneActivation;
     public boolean playerDistanceActivation = true;
     public int playerDistanceSelection;
@@ -69,6 +76,31 @@ public AirlockControllerBlockEntity(BlockPos blockPos, BlockState blockState) {
     }
 
 
+    @Override
+    public void setLevel(Level level) {
+        super.setLevel(level);
+        if (!level.isClientSide) {
+            ((GCLevelAccessor) level).getAirlockManager().addController(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (this.level != null && !this.level.isClientSide) {
+            ((GCLevelAccessor) this.level).getAirlockManager().removeController(this);
+        }
+    }
+
+    /**
+     * Called when an airlock block near this controller is placed or broken.
+     */
+    public void onFrameChange(BlockPos pos) {
+        if (this.protocol != null) {
+            this.protocol.invalidate(pos);
+        }
+    }
+
     public static void tick(Level level, BlockPos blockPos, BlockState blockState, AirlockControllerBlockEntity blockEntity) {
         blockEntity.tick();
     }
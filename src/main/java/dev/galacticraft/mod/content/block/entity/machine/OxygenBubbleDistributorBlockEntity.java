@@ -22,6 +22,7 @@
 
 package dev.galacticraft.mod.content.block.entity.machine;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.mojang.datafixers.util.Pair;
 import dev.galacticraft.api.gas.Gases;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
@@ -38,7 +39,9 @@
 import dev.galacticraft.machinelib.api.transfer.TransferType;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.GCLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
+import dev.galacticraft.mod.machine.BubbleManager;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
 import dev.galacticraft.mod.network.s2c.BubbleSizePayload;
 import dev.galacticraft.mod.network.s2c.BubbleUpdatePayload;
@@ -51,7 +54,6 @@
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.ServerPlayer;
-import net.minecraft.util.Mth;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.entity.player.Inventory;
 import net.minecraft.world.entity.player.Player;
@@ -93,12 +95,16 @@ public class OxygenBubbleDistributorBlockEntity extends MachineBlockEntity {
             )
     );
 
+    private static final int NO_BUBBLE = -1;
+
     private boolean bubbleVisible = true;
     private double size = 0;
     private byte targetSize = 1;
     private int players = 0;
     private double prevSize;
     private boolean oxygenUnloaded = true;
+    // The squared radius of the bubble currently written to the level
+    private int appliedRadiusSq = NO_BUBBLE;
 
     public OxygenBubbleDistributorBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_BUBBLE_DISTRIBUTOR, pos, state, SPEC);
@@ -118,7 +124,6 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     protected @NotNull MachineStatus tick(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
         profiler.push("transaction");
         MachineStatus status;
-        distributeOxygenToArea(this.prevSize, false);
         try {
             if (this.energyStorage().canExtract(Galacticraft.CONFIG.oxygenCollectorEnergyConsumptionRate())) { //todo: config
                 profiler.push("bubble");
@@ -141,7 +146,7 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
                         setSize(this.size + 0.05D);
                     }
                     profiler.pop();
-                    distributeOxygenToArea(this.size, true);
+                    this.updateBubble(getRadiusSq(this.size));
                     return GCMachineStatuses.DISTRIBUTING;
                 } else {
                     status = GCMachineStatuses.NOT_ENOUGH_OXYGEN;
@@ -158,7 +163,9 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         if (this.size > 0) {
             setSize(this.size - 0.2D);
             trySyncSize(level, pos, profiler);
-            distributeOxygenToArea(this.size, true); // technically this oxygen is being created from thin air
+            this.updateBubble(getRadiusSq(this.size)); // technically this oxygen is being created from thin air
+        } else {
+            this.updateBubble(NO_BUBBLE);
         }
 
         if (this.size < 0) {
@@ -172,14 +179,14 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
     public void setRemoved() {
         if (!this.oxygenUnloaded) {
             this.oxygenUnloaded = true;
-            distributeOxygenToArea(this.size, false);
+            this.updateBubble(NO_BUBBLE);
         }
         super.setRemoved();
     }
 
     @Override
     protected void tickDisabled(@NotNull ServerLevel level, @NotNull BlockPos pos, @NotNull BlockState state, @NotNull ProfilerFiller profiler) {
-        this.distributeOxygenToArea(this.prevSize, false); // REVIEW: Inefficient?
+        this.updateBubble(NO_BUBBLE);
         this.size = 0; // I believe this is needed to allow multiple bubbles in a level?
         this.trySyncSize(level, pos, profiler);
 
@@ -207,19 +214,46 @@ public int getDistanceFromServer(int par1, int par3, int par5) {
         return d3 * d3 + d4 * d4 + d5 * d5;
     }
 
-    public void distributeOxygenToArea(double size, boolean oxygenated) {
-        int radius = Mth.floor(size) + 4;
-        int bubbleR2 = (int) (size * size);
-        BlockPos.MutableBlockPos pos = new BlockPos.MutableBlockPos();
-        for (int x = this.getBlockPos().getX() - radius; x <= this.getBlockPos().getX() + radius; x++) {
-            for (int y = this.getBlockPos().getY() - radius; y <= this.getBlockPos().getY() + radius; y++) {
-                for (int z = this.getBlockPos().getZ() - radius; z <= this.getBlockPos().getZ() + radius; z++) {
-                    if (getDistanceFromServer(x, y, z) <= bubbleR2) {
-                        getLevel().setBreathable(pos.set(x, y, z), oxygenated);
-                    }
-                }
-            }
+    private static int getRadiusSq(double size) {
+        return size < 0 ? NO_BUBBLE : (int) (size * size);
+    }
+
+    /**
+     * Resizes the breathable sphere in the level to the given squared radius.
+     * Only the shell between the old and the new sphere is written.
+     * Shrinking clears cells that may also be covered by other bubbles, so those are re-applied afterwards.
+     */
+    @VisibleForTesting
+    public void updateBubble(int radiusSq) {
+        int previous = this.appliedRadiusSq;
+        if (radiusSq == previous) return;
+        this.appliedRadiusSq = radiusSq;
+
+        BubbleManager manager = ((GCLevelAccessor) this.level).getBubbleManager();
+        if (radiusSq == NO_BUBBLE) {
+            manager.removeDistributor(this);
+        } else {
+            manager.addDistributor(this);
         }
+
+        BlockPos pos = this.getBlockPos();
+        this.level.setBreathableShell(pos.getX(), pos.getY(), pos.getZ(), Math.min(radiusSq, previous), Math.max(radiusSq, previous), radiusSq > previous);
+        if (radiusSq < previous) {
+            manager.restoreOverlapping(this, previous);
+        }
+    }
+
+    /**
+     * Writes the whole applied sphere again, after an overlapping bubble cleared part of it.
+     */
+    public void reapplyBubble() {
+        if (this.appliedRadiusSq == NO_BUBBLE) return;
+        BlockPos pos = this.getBlockPos();
+        this.level.setBreathableShell(pos.getX(), pos.getY(), pos.getZ(), NO_BUBBLE, this.appliedRadiusSq, true);
+    }
+
+    public int getAppliedRadiusSq() {
+        return this.appliedRadiusSq;
     }
 
     public byte getTargetSize() {
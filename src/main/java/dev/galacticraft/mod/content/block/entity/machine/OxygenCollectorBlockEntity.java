@@ -23,6 +23,7 @@
 package dev.galacticraft.mod.content.block.entity.machine;
 
 import com.mojang.datafixers.util.Pair;
+import dev.galacticraft.api.block.OxygenProvidingBlock;
 import dev.galacticraft.api.gas.Gases;
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.machinelib.api.block.entity.MachineBlockEntity;
@@ -40,6 +41,7 @@
 import dev.galacticraft.machinelib.api.util.FluidSource;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.GCLevelAccessor;
 import dev.galacticraft.mod.content.GCBlockEntityTypes;
 import dev.galacticraft.mod.data.OxygenBlockDataManager;
 import dev.galacticraft.mod.machine.GCMachineStatuses;
@@ -62,6 +64,9 @@ public class OxygenCollectorBlockEntity extends MachineBlockEntity {
     public static final int OXYGEN_TANK = 0;
 
     public static final long MAX_OXYGEN = FluidUtil.bucketsToDroplets(50);
+    public static final int COLLECTION_RANGE = 5;
+    // How often the cached block count is recounted, to pick up changes that weren't reported as block updates
+    private static final int RECOUNT_TIME = 200;
 
     private static final StorageSpec SPEC = StorageSpec.of(
             MachineItemStorage.spec(
@@ -87,6 +92,9 @@ public class OxygenCollectorBlockEntity extends MachineBlockEntity {
     private final FluidSource fluidSource = new FluidSource(this);
     public int collectionAmount = 0;
     private boolean oxygenWorld = false;
+    private float oxygenBlocks = 0;
+    private boolean oxygenBlocksValid = false;
+    private int recountTimer = 0;
 
     public OxygenCollectorBlockEntity(BlockPos pos, BlockState state) {
         super(GCBlockEntityTypes.OXYGEN_COLLECTOR, pos, state, SPEC);
@@ -97,28 +105,68 @@ public void setLevel(Level world) {
         super.setLevel(world);
         Holder<CelestialBody<?, ?>> body = world.galacticraft$getCelestialBody();
         this.oxygenWorld = body == null || body.value().atmosphere().breathable();
+        this.oxygenBlocksValid = false;
+        if (!world.isClientSide && !this.oxygenWorld) {
+            ((GCLevelAccessor) world).getCollectorManager().addCollector(this);
+        }
+    }
+
+    @Override
+    public void setRemoved() {
+        super.setRemoved();
+        if (this.level != null && !this.level.isClientSide) {
+            ((GCLevelAccessor) this.level).getCollectorManager().removeCollector(this);
+        }
+    }
+
+    /**
+     * Updates the cached oxygen producing block count for a block change within the collection range.
+     */
+    public void onBlockChange(BlockState oldState, BlockState newState) {
+        if (!this.oxygenBlocksValid) return;
+
+        if (oldState.getBlock() instanceof OxygenProvidingBlock || newState.getBlock() instanceof OxygenProvidingBlock) {
+            // The amount may depend on the surroundings, so count everything again
+            this.oxygenBlocksValid = false;
+        } else {
+            this.oxygenBlocks += getOxygen(newState) - getOxygen(oldState);
+        }
+    }
+
+    private static float getOxygen(BlockState state) {
+        return state.isAir() ? 0 : OxygenBlockDataManager.getOxygen(state);
+    }
+
+    private float countOxygenBlocks(@NotNull ServerLevel world, @NotNull BlockPos pos) {
+        int minX = pos.getX() - COLLECTION_RANGE;
+        int minY = pos.getY() - COLLECTION_RANGE;
+        int minZ = pos.getZ() - COLLECTION_RANGE;
+        int maxX = pos.getX() + COLLECTION_RANGE;
+        int maxY = pos.getY() + COLLECTION_RANGE;
+        int maxZ = pos.getZ() + COLLECTION_RANGE;
+
+        float leafBlocks = 0;
+
+        for (BlockPos pos1 : BlockPos.betweenClosed(minX, minY, minZ, maxX, maxY, maxZ)) {
+            BlockState state = world.getBlockState(pos1);
+            if (state.isAir()) {
+                continue;
+            }
+
+            leafBlocks += OxygenBlockDataManager.getOxygen(world, pos1, state);
+        }
+        return leafBlocks;
     }
 
     private int collectOxygen(@NotNull ServerLevel world, @NotNull BlockPos pos) {
         if (!this.oxygenWorld) {
-            int minX = pos.getX() - 5;
-            int minY = pos.getY() - 5;
-            int minZ = pos.getZ() - 5;
-            int maxX = pos.getX() + 5;
-            int maxY = pos.getY() + 5;
-            int maxZ = pos.getZ() + 5;
-
-            float leafBlocks = 0;
-
-            for (BlockPos pos1 : BlockPos.betweenClosed(minX, minY, minZ, maxX, maxY, maxZ)) {
-                BlockState state = world.getBlockState(pos1);
-                if (state.isAir()) {
-                    continue;
-                }
-
-                leafBlocks += OxygenBlockDataManager.getOxygen(world, pos1, state);
+            if (!this.oxygenBlocksValid || --this.recountTimer <= 0) {
+                this.oxygenBlocks = this.countOxygenBlocks(world, pos);
+                this.oxygenBlocksValid = true;
+                this.recountTimer = RECOUNT_TIME;
             }
 
+            float leafBlocks = this.oxygenBlocks;
             if (leafBlocks < 2) return 0;
 
             double oxyCount = 20 * (leafBlocks / 14.0F);
@@ -168,7 +168,7 @@ protected void tickConstant(@NotNull ServerLevel world, @NotNull BlockPos pos, @
         // Update sealing status periodically
         if (this.sealCheckTimer-- <= 0) {
             this.sealCheckTimer = SEAL_CHECK_TIME;
-            manager.recalculateSealingStatus(pos, level);
+            manager.checkSealingStatus(pos, level);
         }
 
         // Consume oxygen if sealed
@@ -819,6 +819,7 @@ protected void generateConfigTranslations() {
         this.add(Config.DEBUG_LOGGING, "Debug Logging");
         this.add(Config.ENERGY, "Energy");
         this.add(Config.MACHINES, "Machines");
+        this.add(Config.ASYNC_SEALING, "Calculate Sealed Rooms Off-Thread");
         this.add(Config.CIRCUIT_FABRICATOR_ENERGY_CONSUMPTION_RATE, "Circuit Fabricator Energy Consumption Rate/t");
         this.add(Config.ELECTRIC_COMPRESSOR_ENERGY_CONSUMPTION_RATE, "Electric Compressor Energy Consumption Rate/t");
         this.add(Config.COAL_GENERATOR_ENERGY_PRODUCTION_RATE, "Coal Generator Energy Production Rate/t");
@@ -837,6 +838,10 @@ protected void generateConfigTranslations() {
         this.add(Config.PLAYER_LIFE_SUPPORT, "Life Support");
         this.add(Config.PLAYER, "Player");
         this.add(Config.PLAYER_OXYGEN_CONSUMPTION_RATE, "Oxygen Consumption Rate/t");
+        this.add(Config.OXYGEN_SYNC_INTERVAL, "Oxygen Sync Interval (ticks)");
+        this.add(Config.SATELLITES, "Satellites");
+        this.add(Config.SATELLITE_UNLOAD_DELAY, "Idle Satellite Unload Delay (ticks)");
+        this.add(Config.SATELLITE_UNLOAD_DELAY_DESC, "How long a satellite stays loaded with no players or forced chunks in it. Set to 0 to keep every satellite loaded.");
         this.add(Config.RESET, "Reset");
         this.add(Config.TITLE, "Galacticraft Config");
 
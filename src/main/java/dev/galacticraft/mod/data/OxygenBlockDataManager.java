@@ -38,6 +38,7 @@
 import net.minecraft.server.packs.resources.ResourceManager;
 import net.minecraft.util.GsonHelper;
 import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.CropBlock;
 import net.minecraft.world.level.block.LeavesBlock;
 import net.minecraft.world.level.block.state.BlockState;
@@ -65,6 +66,16 @@ public static float getOxygen(Level level, BlockPos pos, BlockState state) {
     }
 
     public static float getOxygen(BlockState state) {
+        // Baked into the state itself on reload, so this doesn't need a registry or map lookup
+        float oxygen = state.galacticraft$getOxygen();
+        return Float.isNaN(oxygen) ? computeOxygen(state) : oxygen;
+    }
+
+    /**
+     * Resolves the oxygen a block state produces from the loaded data and the fallback rules.
+     * This is what gets baked into each block state.
+     */
+    public static float computeOxygen(BlockState state) {
         boolean fallbackBehavior = true; // Probably make this a config value?
         if (!INSTANCE.blocks.containsKey(state) && fallbackBehavior) {
             if (state.getBlock() instanceof LeavesBlock && !state.getValue(LeavesBlock.PERSISTENT)) {
@@ -122,6 +133,10 @@ public void onResourceManagerReload(ResourceManager manager) {
             }
 
         }
+
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            state.galacticraft$setOxygen(computeOxygen(state));
+        }
     }
 
     public record OxygenData(BlockState state, float amount, boolean replace) {
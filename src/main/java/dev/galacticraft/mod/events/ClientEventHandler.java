@@ -32,7 +32,7 @@
 import dev.galacticraft.mod.client.render.FootprintRenderer;
 import dev.galacticraft.mod.client.sounds.RocketSound;
 import dev.galacticraft.mod.content.entity.orbital.RocketEntity;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientChunkEvents;
 import net.fabricmc.fabric.api.client.event.lifecycle.v1.ClientTickEvents;
 import net.fabricmc.fabric.api.client.rendering.v1.HudRenderCallback;
 import net.fabricmc.fabric.api.client.rendering.v1.WorldRenderEvents;
@@ -45,6 +45,8 @@ public static void init() {
         ClientTickEvents.END_CLIENT_TICK.register(ClientEventHandler::clientTick);
         WorldRenderEvents.LAST.register(FootprintRenderer::renderFootprints);
         ClientTickEvents.END_WORLD_TICK.register(ClientEventHandler::tickFootprints);
+        // The server sends all footprints of a chunk again when it is loaded
+        ClientChunkEvents.CHUNK_UNLOAD.register((level, chunk) -> level.galacticraft$getFootprintManager().removeChunk(chunk.getPos().toLong()));
         HudRenderCallback.EVENT.register(OxygenOverlay::onHudRender);
         HudRenderCallback.EVENT.register(RocketOverlay::onHudRender);
         HudRenderCallback.EVENT.register(LanderOverlay::onRenderHud);
@@ -63,9 +65,6 @@ public static void clientTick(Minecraft client) {
     }
 
     public static void tickFootprints(ClientLevel level) {
-        FootprintManager footprintManager = level.galacticraft$getFootprintManager();
-        footprintManager.getFootprints().forEach((packedPos, footprints) -> {
-            footprintManager.tick(level, packedPos);
-        });
+        level.galacticraft$getFootprintManager().tick(level);
     }
 }
\ No newline at end of file
@@ -25,21 +25,17 @@
 import dev.galacticraft.api.universe.celestialbody.CelestialBody;
 import dev.galacticraft.api.universe.celestialbody.landable.Landable;
 import dev.galacticraft.api.universe.celestialbody.landable.teleporter.CelestialTeleporter;
+import dev.galacticraft.impl.internal.accessor.SatelliteLevelLoader;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberBlock;
 import dev.galacticraft.mod.content.block.special.CryogenicChamberPart;
 import dev.galacticraft.mod.content.item.CannedFoodItem;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
-import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
 import dev.galacticraft.mod.util.Translations;
 import net.fabricmc.fabric.api.entity.event.v1.EntitySleepEvents;
 import net.fabricmc.fabric.api.event.lifecycle.v1.ServerTickEvents;
 import net.fabricmc.fabric.api.event.player.UseItemCallback;
-import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
-import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
-import net.minecraft.core.GlobalPos;
 import net.minecraft.core.Holder;
 import net.minecraft.core.component.DataComponents;
 import net.minecraft.network.chat.Component;
@@ -52,7 +48,6 @@
 import net.minecraft.world.entity.LivingEntity;
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.item.ItemStack;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.BedBlock;
 import net.minecraft.world.level.block.state.BlockState;
@@ -160,7 +155,7 @@ public static void onWakeFromCryoSleep(LivingEntity entity, BlockPos sleepingPos
     public static void onPlayerChangePlanets(MinecraftServer server, ServerPlayer player, CelestialBody<?, ?> body, CelestialBody<?, ?> fromBody) {
         if (body.type() instanceof Landable landable && player.galacticraft$isCelestialScreenActive() && (player.galacticraft$getCelestialScreenState() == null || player.galacticraft$getCelestialScreenState().canTravel(server.registryAccess(), fromBody, body))) {
             player.galacticraft$closeCelestialScreen();
-            ((CelestialTeleporter) landable.teleporter(body.config()).value()).onEnterAtmosphere(server.getLevel(landable.world(body.config())), player, body, fromBody);
+            ((CelestialTeleporter) landable.teleporter(body.config()).value()).onEnterAtmosphere(((SatelliteLevelLoader) server).galacticraft$getOrLoadLevel(landable.world(body.config())), player, body, fromBody);
         } else {
             player.connection.disconnect(Component.translatable(Translations.DimensionTp.INVALID_PACKET));
         }
@@ -172,19 +167,8 @@ public static void onPlayerTick(Player player) {
     }
 
     public static void onWorldTick(ServerLevel world) {
-        FootprintManager footprintManager = world.galacticraft$getFootprintManager();
-        if (!footprintManager.footprintBlockChanges.isEmpty()) {
-            for (GlobalPos targetPoint : footprintManager.footprintBlockChanges) {
-                ;
-                if (world.dimension().location().equals(targetPoint.dimension().location())) {
-                    long packedPos = ChunkPos.asLong(targetPoint.pos());
-                    PlayerLookup.around(world, targetPoint.pos(), 50).forEach(player -> {
-                        ServerPlayNetworking.send(player, new FootprintRemovedPacket(packedPos, targetPoint.pos()));
-                    });
-                }
-            }
-
-            footprintManager.footprintBlockChanges.clear();
-        }
+        world.getProfiler().push("footprints");
+        world.galacticraft$getFootprintManager().tick(world);
+        world.getProfiler().pop();
     }
 }
\ No newline at end of file
@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.AirlockControllerBlockEntity;
+import dev.galacticraft.mod.content.block.special.AirlockBlock;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the airlock controllers of a single level, bucketed by chunk section,
+ * so that airlock blocks being placed or broken can invalidate the frames cached by nearby controllers.
+ */
+public class AirlockManager {
+    private final Long2ObjectMap<List<AirlockControllerBlockEntity>> controllersBySection = new Long2ObjectOpenHashMap<>();
+
+    public void addController(AirlockControllerBlockEntity controller) {
+        List<AirlockControllerBlockEntity> bucket = this.controllersBySection.computeIfAbsent(SectionPos.blockToSection(controller.getBlockPos().asLong()), section -> new ArrayList<>());
+        if (!bucket.contains(controller)) {
+            bucket.add(controller);
+        }
+    }
+
+    public void removeController(AirlockControllerBlockEntity controller) {
+        long section = SectionPos.blockToSection(controller.getBlockPos().asLong());
+        List<AirlockControllerBlockEntity> bucket = this.controllersBySection.get(section);
+        if (bucket != null) {
+            bucket.remove(controller);
+            if (bucket.isEmpty()) {
+                this.controllersBySection.remove(section);
+            }
+        }
+    }
+
+    public void onBlockChange(BlockPos pos, BlockState oldState, BlockState newState) {
+        // Frames are made of airlock blocks only, so nothing else can change their shape
+        if (this.controllersBySection.isEmpty()
+                || !(oldState.getBlock() instanceof AirlockBlock) && !(newState.getBlock() instanceof AirlockBlock)) {
+            return;
+        }
+
+        int range = AirlockControllerBlockEntity.FRAME_REACH;
+        for (int x = SectionPos.blockToSectionCoord(pos.getX() - range); x <= SectionPos.blockToSectionCoord(pos.getX() + range); x++) {
+            for (int y = SectionPos.blockToSectionCoord(pos.getY() - range); y <= SectionPos.blockToSectionCoord(pos.getY() + range); y++) {
+                for (int z = SectionPos.blockToSectionCoord(pos.getZ() - range); z <= SectionPos.blockToSectionCoord(pos.getZ() + range); z++) {
+                    List<AirlockControllerBlockEntity> bucket = this.controllersBySection.get(SectionPos.asLong(x, y, z));
+                    if (bucket != null) {
+                        for (AirlockControllerBlockEntity controller : bucket) {
+                            controller.onFrameChange(pos);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.machine.OxygenBubbleDistributorBlockEntity;
+import net.minecraft.core.BlockPos;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the oxygen bubble distributors of a single level that currently have a bubble written to it,
+ * so that cells cleared by one bubble can be given back to the bubbles that still cover them.
+ */
+public class BubbleManager {
+    private final List<OxygenBubbleDistributorBlockEntity> distributors = new ArrayList<>();
+
+    public void addDistributor(OxygenBubbleDistributorBlockEntity distributor) {
+        if (!this.distributors.contains(distributor)) {
+            this.distributors.add(distributor);
+        }
+    }
+
+    public void removeDistributor(OxygenBubbleDistributorBlockEntity distributor) {
+        this.distributors.remove(distributor);
+    }
+
+    /**
+     * Re-applies the bubbles of every other distributor that intersects a sphere that was just cleared.
+     *
+     * @param source the distributor that cleared the sphere
+     * @param radiusSq the squared radius of the cleared sphere
+     */
+    public void restoreOverlapping(OxygenBubbleDistributorBlockEntity source, int radiusSq) {
+        if (radiusSq < 0) return;
+        BlockPos pos = source.getBlockPos();
+        double radius = Math.sqrt(radiusSq);
+
+        for (OxygenBubbleDistributorBlockEntity distributor : this.distributors) {
+            int otherRadiusSq = distributor.getAppliedRadiusSq();
+            if (distributor == source || otherRadiusSq < 0) continue;
+
+            double reach = radius + Math.sqrt(otherRadiusSq);
+            if (distributor.getBlockPos().distSqr(pos) <= reach * reach) {
+                distributor.reapplyBubble();
+            }
+        }
+    }
+}
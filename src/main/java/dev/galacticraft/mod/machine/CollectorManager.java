@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.machine;
+
+import dev.galacticraft.mod.content.block.entity.machine.OxygenCollectorBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.SectionPos;
+import net.minecraft.world.level.block.state.BlockState;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Tracks the oxygen collectors of a single level, bucketed by chunk section,
+ * so that block changes can be forwarded to the collectors whose volume they fall in.
+ */
+public class CollectorManager {
+    private final Long2ObjectMap<List<OxygenCollectorBlockEntity>> collectorsBySection = new Long2ObjectOpenHashMap<>();
+
+    public void addCollector(OxygenCollectorBlockEntity collector) {
+        List<OxygenCollectorBlockEntity> bucket = this.collectorsBySection.computeIfAbsent(SectionPos.blockToSection(collector.getBlockPos().asLong()), section -> new ArrayList<>());
+        if (!bucket.contains(collector)) {
+            bucket.add(collector);
+        }
+    }
+
+    public void removeCollector(OxygenCollectorBlockEntity collector) {
+        long section = SectionPos.blockToSection(collector.getBlockPos().asLong());
+        List<OxygenCollectorBlockEntity> bucket = this.collectorsBySection.get(section);
+        if (bucket != null) {
+            bucket.remove(collector);
+            if (bucket.isEmpty()) {
+                this.collectorsBySection.remove(section);
+            }
+        }
+    }
+
+    public void onBlockChange(BlockPos pos, BlockState oldState, BlockState newState) {
+        if (this.collectorsBySection.isEmpty()) {
+            return;
+        }
+
+        int range = OxygenCollectorBlockEntity.COLLECTION_RANGE;
+        for (int x = SectionPos.blockToSectionCoord(pos.getX() - range); x <= SectionPos.blockToSectionCoord(pos.getX() + range); x++) {
+            for (int y = SectionPos.blockToSectionCoord(pos.getY() - range); y <= SectionPos.blockToSectionCoord(pos.getY() + range); y++) {
+                for (int z = SectionPos.blockToSectionCoord(pos.getZ() - range); z <= SectionPos.blockToSectionCoord(pos.getZ() + range); z++) {
+                    List<OxygenCollectorBlockEntity> bucket = this.collectorsBySection.get(SectionPos.asLong(x, y, z));
+                    if (bucket != null) {
+                        for (OxygenCollectorBlockEntity collector : bucket) {
+                            BlockPos collectorPos = collector.getBlockPos();
+                            if (Math.abs(collectorPos.getX() - pos.getX()) <= range
+                                    && Math.abs(collectorPos.getY() - pos.getY()) <= range
+                                    && Math.abs(collectorPos.getZ() - pos.getZ()) <= range) {
+                                collector.onBlockChange(oldState, newState);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
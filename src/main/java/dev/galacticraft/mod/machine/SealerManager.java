@@ -22,32 +22,131 @@
 
 package dev.galacticraft.mod.machine;
 
+import com.google.common.annotations.VisibleForTesting;
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.Galacticraft;
 import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import it.unimi.dsi.fastutil.longs.LongArrayFIFOQueue;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongIterator;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
+import net.minecraft.core.SectionPos;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongPredicate;
 
+/**
+ * Tracks the oxygen sealers of a single level and the rooms they seal.
+ * Sealers are bucketed by chunk section, and sealed rooms are stored as packed block positions.
+ * Block changes only re-flood the part of a room that the change touches.
+ * <p>
+ * Periodic seal checks can optionally run on a worker thread against a snapshot of the
+ * surrounding chunk sections, see {@link #checkSealingStatus(BlockPos, ServerLevel)}.
+ */
 public class SealerManager {
-    private final Map<BlockPos, OxygenSealerBlockEntity> sealers = new HashMap<>();
+    private static final Direction[] DIRECTIONS = Direction.values();
+    // How many sections around an unsealed sealer are copied for an off-thread seal check
+    private static final int SNAPSHOT_RADIUS = 2;
+
+    private final Long2ObjectMap<OxygenSealerBlockEntity> sealers = new Long2ObjectOpenHashMap<>();
+    private final Long2ObjectMap<List<OxygenSealerBlockEntity>> sealersBySection = new Long2ObjectOpenHashMap<>();
 
-    // Map of dimension -> sealed blocks
-    private final Set<BlockPos> sealedBlocks = new HashSet<>();
+    // Packed block position -> the sealed room containing it
+    private final Long2ObjectMap<SealedRoom> sealedBlocks = new Long2ObjectOpenHashMap<>();
+
+    // Off-thread seal checks that have been submitted but not applied yet
+    private final List<SealingCheck> pendingChecks = new ArrayList<>();
+    private final Queue<SealingCheck> completedChecks = new ConcurrentLinkedQueue<>();
 
     public SealerManager() {
     }
 
+    /**
+     * Applies the results of off-thread seal checks which finished since the last tick.
+     */
+    public void tick(ServerLevel level) {
+        SealingCheck check;
+        while ((check = this.completedChecks.poll()) != null) {
+            this.pendingChecks.remove(check);
+            OxygenSealerBlockEntity sealer = this.sealers.get(check.sealerPos);
+            if (check.stale || sealer == null || sealer.isRemoved()) {
+                continue;
+            }
+
+            Flood flood = check.flood;
+            if (flood.incomplete) {
+                // The room grew past the snapshot, so size it against the live level instead
+                this.recalculateSealingStatus(sealer.getBlockPos(), level);
+                continue;
+            }
+
+            List<OxygenSealerBlockEntity> found;
+            SealedRoom room = check.room;
+            if (room != null && room.revision == check.revision && !flood.failed && flood.volume.size() == room.volume.size()) {
+                // Nothing in the snapshot changed and the room still has the same size,
+                // so the flood found the same room and only its sealers and capacity need updating
+                found = this.sealersOf(flood);
+                this.refreshRoom(room, found, flood.capacity);
+            } else {
+                for (LongIterator iterator = flood.volume.iterator(); iterator.hasNext(); ) {
+                    flood.touch(this.sealedBlocks.get(iterator.nextLong()));
+                }
+                found = this.applyFlood(flood, level);
+            }
+            if (!found.contains(sealer)) {
+                sealer.setSealed(false);
+            }
+        }
+    }
+
     public void onBlockChange(BlockPos pos, BlockState newState, ServerLevel level) {
-        ResourceKey<Level> dimension = level.dimension();
-        BlockPos sealerPos = findNearbySealer(pos, dimension);
-        if (sealerPos != null) {
-            recalculateSealingStatus(sealerPos, level);
+        long packed = pos.asLong();
+        this.invalidateChecks(packed);
+
+        List<OxygenSealerBlockEntity> checked = new ArrayList<>();
+        if (newState.isAir()) {
+            // A wall of a sealed room may have been removed, so let the room flow into the new space
+            for (Direction direction : DIRECTIONS) {
+                if (this.sealedBlocks.containsKey(packed)) {
+                    break;
+                }
+                SealedRoom room = this.sealedBlocks.get(BlockPos.offset(packed, direction));
+                if (room != null && !this.growRoom(room, packed, level)) {
+                    checked.addAll(room.sealers);
+                }
+            }
+        } else {
+            SealedRoom room = this.sealedBlocks.get(packed);
+            if (room != null) {
+                this.shrinkRoom(room, packed, level);
+            }
+        }
+
+        // The change may have closed off the room of an unsealed sealer
+        for (OxygenSealerBlockEntity sealer : this.findSealersInRange(pos, OxygenSealerBlockEntity.SEALER_RANGE)) {
+            if (!sealer.isSealed() && !checked.contains(sealer)) {
+                checked.addAll(this.reseal(BlockPos.offset(sealer.getBlockPos().asLong(), Direction.UP), level));
+            }
         }
     }
 
@@ -56,7 +155,14 @@ public void addSealer(OxygenSealerBlockEntity sealer, ServerLevel level) {
         BlockPos pos = sealer.getBlockPos();
 
         Constant.LOGGER.info("Adding sealer at {} in dimension {}", pos, dimension.location());
-        this.sealers.put(pos, sealer);
+        this.invalidateChecks(pos.asLong());
+        OxygenSealerBlockEntity previous = this.sealers.put(pos.asLong(), sealer);
+        if (previous != sealer) {
+            if (previous != null) {
+                this.unindexSealer(previous);
+            }
+            this.sealersBySection.computeIfAbsent(SectionPos.blockToSection(pos.asLong()), section -> new ArrayList<>()).add(sealer);
+        }
     }
 
     public void loadSealer(OxygenSealerBlockEntity sealer, ServerLevel level) {
@@ -70,91 +176,389 @@ public void removeSealer(OxygenSealerBlockEntity sealer, ServerLevel level) {
         BlockPos pos = sealer.getBlockPos();
 
         Constant.LOGGER.info("Removing sealer at {} in dimension {}", pos, dimension.location());
-        this.sealers.remove(pos);
+        this.invalidateChecks(pos.asLong());
+        if (this.sealers.remove(pos.asLong(), sealer)) {
+            this.unindexSealer(sealer);
+        }
+        SealedRoom room = this.sealedBlocks.get(BlockPos.offset(pos.asLong(), Direction.UP));
+        if (room != null) {
+            room.sealers.remove(sealer);
+        }
         recalculateSealingStatus(pos, level);
     }
 
-    private BlockPos findNearbySealer(BlockPos pos, ResourceKey<Level> dimension) {
-        // Search for a sealer within the range in the same dimension
-        for (Map.Entry<BlockPos, OxygenSealerBlockEntity> entry : this.sealers.entrySet()) {
-            if (entry.getKey().distSqr(pos) <= OxygenSealerBlockEntity.SEALER_RANGE * OxygenSealerBlockEntity.SEALER_RANGE) {
-                return entry.getKey();
+    private void unindexSealer(OxygenSealerBlockEntity sealer) {
+        long section = SectionPos.blockToSection(sealer.getBlockPos().asLong());
+        List<OxygenSealerBlockEntity> bucket = this.sealersBySection.get(section);
+        if (bucket != null) {
+            bucket.remove(sealer);
+            if (bucket.isEmpty()) {
+                this.sealersBySection.remove(section);
+            }
+        }
+    }
+
+    private List<OxygenSealerBlockEntity> findSealersInRange(BlockPos pos, int range) {
+        List<OxygenSealerBlockEntity> found = new ArrayList<>();
+        int minX = SectionPos.blockToSectionCoord(pos.getX() - range);
+        int minY = SectionPos.blockToSectionCoord(pos.getY() - range);
+        int minZ = SectionPos.blockToSectionCoord(pos.getZ() - range);
+        int maxX = SectionPos.blockToSectionCoord(pos.getX() + range);
+        int maxY = SectionPos.blockToSectionCoord(pos.getY() + range);
+        int maxZ = SectionPos.blockToSectionCoord(pos.getZ() + range);
+
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    List<OxygenSealerBlockEntity> bucket = this.sealersBySection.get(SectionPos.asLong(x, y, z));
+                    if (bucket != null) {
+                        for (OxygenSealerBlockEntity sealer : bucket) {
+                            if (sealer.getBlockPos().distSqr(pos) <= range * range) {
+                                found.add(sealer);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    /**
+     * Runs the periodic seal check of a sealer. When off-thread sealing is enabled the check
+     * floods a snapshot of the surrounding sections on a worker thread, and the result is applied
+     * on the next tick, unless a block inside the snapshot changed in the meantime.
+     * If the sealer's room hasn't changed since the snapshot, the result is matched against it
+     * by size alone, so the steady-state check never walks the room on the server thread.
+     */
+    public void checkSealingStatus(BlockPos sealerPos, ServerLevel level) {
+        if (!Galacticraft.CONFIG.asyncSealing()) {
+            this.recalculateSealingStatus(sealerPos, level);
+            return;
+        }
+        if (!level.getServer().isReady() || !level.isLoaded(sealerPos)) {
+            return;
+        }
+
+        long packed = sealerPos.asLong();
+        for (SealingCheck pending : this.pendingChecks) {
+            if (pending.sealerPos == packed && !pending.stale) {
+                return;
+            }
+        }
+
+        SealingCheck check = this.snapshot(packed, level);
+        this.pendingChecks.add(check);
+        Util.backgroundExecutor().execute(() -> {
+            check.flood.fill(BlockPos.offset(check.sealerPos, Direction.UP));
+            this.completedChecks.add(check);
+        });
+    }
+
+    private SealingCheck snapshot(long sealerPos, ServerLevel level) {
+        int minX = SectionPos.blockToSectionCoord(BlockPos.getX(sealerPos)) - SNAPSHOT_RADIUS;
+        int minY = SectionPos.blockToSectionCoord(BlockPos.getY(sealerPos)) - SNAPSHOT_RADIUS;
+        int minZ = SectionPos.blockToSectionCoord(BlockPos.getZ(sealerPos)) - SNAPSHOT_RADIUS;
+        int maxX = minX + SNAPSHOT_RADIUS * 2;
+        int maxY = minY + SNAPSHOT_RADIUS * 2;
+        int maxZ = minZ + SNAPSHOT_RADIUS * 2;
+
+        // Cover the whole room the sealer currently seals, plus a margin for it to grow into
+        SealedRoom room = this.sealedBlocks.get(BlockPos.offset(sealerPos, Direction.UP));
+        if (room != null) {
+            minX = Math.min(minX, SectionPos.blockToSectionCoord(room.minX - 1));
+            minY = Math.min(minY, SectionPos.blockToSectionCoord(room.minY - 1));
+            minZ = Math.min(minZ, SectionPos.blockToSectionCoord(room.minZ - 1));
+            maxX = Math.max(maxX, SectionPos.blockToSectionCoord(room.maxX + 1));
+            maxY = Math.max(maxY, SectionPos.blockToSectionCoord(room.maxY + 1));
+            maxZ = Math.max(maxZ, SectionPos.blockToSectionCoord(room.maxZ + 1));
+        }
+        minY = Math.max(minY, level.getMinSection());
+        maxY = Math.min(maxY, level.getMaxSection() - 1);
+
+        SectionSnapshot snapshot = new SectionSnapshot(level, minX, minY, minZ, maxX, maxY, maxZ);
+        LongSet sealerPositions = new LongOpenHashSet();
+        LongSet poweredPositions = new LongOpenHashSet();
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    List<OxygenSealerBlockEntity> bucket = this.sealersBySection.get(SectionPos.asLong(x, y, z));
+                    if (bucket != null) {
+                        for (OxygenSealerBlockEntity sealer : bucket) {
+                            sealerPositions.add(sealer.getBlockPos().asLong());
+                            if (isPowered(sealer)) {
+                                poweredPositions.add(sealer.getBlockPos().asLong());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+
+        Flood flood = new Flood(snapshot, sealerPositions::contains, poweredPositions::contains, Galacticraft.CONFIG.maxSealingPower(), null, null);
+        return new SealingCheck(sealerPos, snapshot, flood, room);
+    }
+
+    private void invalidateChecks(long pos) {
+        for (SealingCheck check : this.pendingChecks) {
+            if (check.snapshot.contains(pos)) {
+                check.stale = true;
             }
         }
-        return null;
     }
 
     public void recalculateSealingStatus(BlockPos sealerPos, ServerLevel level) {
-        ResourceKey<Level> dimension = level.dimension();
         if (!level.getServer().isReady() || !level.isLoaded(sealerPos)) {
             Constant.LOGGER.info("World is not fully loaded, skipping sealing calculation");
             return;
         }
-        // Find all powered sealers in the same dimension
-        List<OxygenSealerBlockEntity> poweredSealers = new ArrayList<>();
-        Map<BlockPos, OxygenSealerBlockEntity> dimensionSealers = this.sealers;
-        for (OxygenSealerBlockEntity sealer : dimensionSealers.values()) {
-            if (sealer.hasEnergy() && sealer.hasOxygen() && !sealer.isBlocked()) {
-                poweredSealers.add(sealer);
+        this.invalidateChecks(sealerPos.asLong());
+
+        List<OxygenSealerBlockEntity> found = this.reseal(BlockPos.offset(sealerPos.asLong(), Direction.UP), level);
+
+        // A blocked sealer is not part of any room
+        OxygenSealerBlockEntity sealer = this.sealers.get(sealerPos.asLong());
+        if (sealer != null && !found.contains(sealer)) {
+            sealer.setSealed(false);
+        }
+    }
+
+    private Flood liveFlood(ServerLevel level, @Nullable SealedRoom known) {
+        return new Flood(new LevelCells(level), this.sealers::containsKey, pos -> isPowered(this.sealers.get(pos)), Galacticraft.CONFIG.maxSealingPower(), this.sealedBlocks, known);
+    }
+
+    /**
+     * Re-floods the whole room containing the given position and replaces every sealed room it overlaps.
+     *
+     * @return the sealers attached to the room
+     */
+    private List<OxygenSealerBlockEntity> reseal(long start, ServerLevel level) {
+        Flood flood = this.liveFlood(level, null);
+        flood.fill(start);
+        return this.applyFlood(flood, level);
+    }
+
+    /**
+     * Replaces the rooms a finished flood overlaps with the room it found.
+     *
+     * @return the sealers attached to the room
+     */
+    private List<OxygenSealerBlockEntity> applyFlood(Flood flood, ServerLevel level) {
+        List<OxygenSealerBlockEntity> found = this.sealersOf(flood);
+        boolean sealed = !flood.failed && flood.capacity > 0;
+
+        // The room didn't change, so there is nothing to move around
+        if (sealed && flood.touchedRooms.size() == 1 && flood.claimed == flood.volume.size()) {
+            SealedRoom room = flood.touchedRooms.iterator().next();
+            if (room.volume.size() == flood.volume.size()) {
+                this.refreshRoom(room, found, flood.capacity);
+                return found;
             }
         }
 
-        // Calculate the maximum allowed room size
-        int maxRoomSize = (int) (Galacticraft.CONFIG.maxSealingPower() * poweredSealers.size());
+        List<OxygenSealerBlockEntity> orphaned = new ArrayList<>();
+        for (SealedRoom stale : flood.touchedRooms) {
+            this.releaseRoom(stale);
+            for (OxygenSealerBlockEntity sealer : stale.sealers) {
+                if (!found.contains(sealer)) {
+                    orphaned.add(sealer);
+                }
+            }
+        }
 
-        // Calculate the maximum possible room size
-        int maxPossibleRoomSize = (int) (Galacticraft.CONFIG.maxSealingPower() * dimensionSealers.size());
+        if (sealed) {
+            SealedRoom room = new SealedRoom(flood.volume, found, flood.capacity);
+            this.claimBlocks(room, flood.volume);
+        }
+        for (OxygenSealerBlockEntity sealer : found) {
+            sealer.setSealed(sealed);
+        }
 
-        // Perform flood fill to calculate room size from the block above the sealer
-        Set<BlockPos> sealedArea = new HashSet<>();
-        int roomSize = calculateRoomSize(sealerPos.offset(0, 1, 0), level, maxRoomSize, sealedArea);
-        // Update sealing status
-        boolean isSealed = roomSize <= maxRoomSize;
+        // Sealers of a previous room that are no longer connected to this one form their own rooms now
+        for (OxygenSealerBlockEntity sealer : orphaned) {
+            if (this.sealers.get(sealer.getBlockPos().asLong()) == sealer && !this.sealedBlocks.containsKey(BlockPos.offset(sealer.getBlockPos().asLong(), Direction.UP))) {
+                sealer.setSealed(false);
+                this.reseal(BlockPos.offset(sealer.getBlockPos().asLong(), Direction.UP), level);
+            }
+        }
+        return new ArrayList<>(found);
+    }
 
-        for (OxygenSealerBlockEntity sealer : poweredSealers) {
-            sealer.setSealed(isSealed);
+    private List<OxygenSealerBlockEntity> sealersOf(Flood flood) {
+        List<OxygenSealerBlockEntity> found = new ArrayList<>(flood.sealers.size());
+        for (int i = 0; i < flood.sealers.size(); i++) {
+            OxygenSealerBlockEntity sealer = this.sealers.get(flood.sealers.getLong(i));
+            if (sealer != null) {
+                found.add(sealer);
+            }
         }
-        // Update the sealed blocks for this dimension
-        Set<BlockPos> dimensionSealedBlocks = this.sealedBlocks;
-        if (isSealed) {
-            dimensionSealedBlocks.addAll(sealedArea);
+        return found;
+    }
+
+    /**
+     * Updates the sealers and capacity of a room whose volume is unchanged.
+     */
+    private void refreshRoom(SealedRoom room, List<OxygenSealerBlockEntity> found, long capacity) {
+        room.sealers.clear();
+        room.sealers.addAll(found);
+        room.capacity = capacity;
+        for (OxygenSealerBlockEntity sealer : found) {
+            sealer.setSealed(true);
+        }
+    }
+
+    /**
+     * Extends a sealed room into a newly opened position next to it.
+     *
+     * @return {@code false} if the room is no longer sealed
+     */
+    private boolean growRoom(SealedRoom room, long opened, ServerLevel level) {
+        Flood flood = this.liveFlood(level, room);
+        flood.fill(opened);
+
+        if (!flood.touchedRooms.isEmpty()) {
+            // Joined another sealed room, so the pooled capacity changes
+            this.reseal(opened, level);
+            return true;
+        } else if (flood.failed) {
+            this.releaseRoom(room);
+            for (OxygenSealerBlockEntity sealer : room.sealers) {
+                sealer.setSealed(false);
+            }
+            return false;
         } else {
-            sealedArea = new HashSet<>();
-            calculateRoomSize(sealerPos.offset(0, 1, 0), level, maxPossibleRoomSize, sealedArea);
-            dimensionSealedBlocks.removeAll(sealedArea);
+            room.capacity = flood.capacity;
+            room.volume.addAll(flood.volume);
+            this.claimBlocks(room, flood.volume);
+            for (int i = 0; i < flood.sealers.size(); i++) {
+                OxygenSealerBlockEntity sealer = this.sealers.get(flood.sealers.getLong(i));
+                room.sealers.add(sealer);
+                sealer.setSealed(true);
+            }
+            return true;
         }
     }
 
-    private int calculateRoomSize(BlockPos startPos, ServerLevel level, int maxRoomSize, Set<BlockPos> sealedArea) {
-        // Use flood fill to calculate the room size
-        Queue<BlockPos> queue = new LinkedList<>();
-        Set<BlockPos> visited = new HashSet<>();
-        queue.add(startPos);
-        visited.add(startPos);
-        int roomSize = 0;
+    /**
+     * Removes a newly filled position from a sealed room, dropping any part of the room that it cut off.
+     */
+    private void shrinkRoom(SealedRoom room, long filled, ServerLevel level) {
+        room.revision++;
+        room.volume.remove(filled);
+        this.sealedBlocks.remove(filled);
 
-        while (!queue.isEmpty() && roomSize < maxRoomSize + 1) {
-            BlockPos current = queue.poll();
-            roomSize++;
-            sealedArea.add(current); // Add the block to the sealed area
+        boolean sealerBlocked = room.sealers.contains(this.sealers.get(BlockPos.offset(filled, Direction.DOWN)));
+        if (!sealerBlocked && isLocallyConnected(room.volume, filled)) {
+            return;
+        }
 
-            // Check adjacent blocks
-            for (Direction direction : Direction.values()) {
-                BlockPos neighbor = current.relative(direction);
-                if (!visited.contains(neighbor) && isAirOrSealableBlock(neighbor, level)) {
-                    visited.add(neighbor);
-                    queue.add(neighbor);
+        // The room may have been split in two, so find what is still connected to its sealers
+        LongSet connected = new LongOpenHashSet(room.volume.size());
+        LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+        for (OxygenSealerBlockEntity sealer : room.sealers) {
+            long top = BlockPos.offset(sealer.getBlockPos().asLong(), Direction.UP);
+            if (room.volume.contains(top)) {
+                connected.add(top);
+                queue.enqueue(top);
+                break;
+            }
+        }
+        while (!queue.isEmpty()) {
+            long current = queue.dequeueLong();
+            for (Direction direction : DIRECTIONS) {
+                long neighbour = BlockPos.offset(current, direction);
+                if (room.volume.contains(neighbour) && connected.add(neighbour)) {
+                    queue.enqueue(neighbour);
                 }
             }
         }
 
-        return roomSize;
+        for (OxygenSealerBlockEntity sealer : room.sealers) {
+            if (sealerBlocked || !connected.contains(BlockPos.offset(sealer.getBlockPos().asLong(), Direction.UP))) {
+                // The sealers are no longer in one room, so each part has to be sized on its own
+                this.releaseRoom(room);
+                for (OxygenSealerBlockEntity orphan : room.sealers) {
+                    orphan.setSealed(false);
+                }
+                for (OxygenSealerBlockEntity orphan : room.sealers) {
+                    long top = BlockPos.offset(orphan.getBlockPos().asLong(), Direction.UP);
+                    if (!this.sealedBlocks.containsKey(top)) {
+                        this.reseal(top, level);
+                    }
+                }
+                return;
+            }
+        }
+
+        for (LongIterator iterator = room.volume.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            if (!connected.contains(pos)) {
+                iterator.remove();
+                this.sealedBlocks.remove(pos);
+            }
+        }
     }
 
-    private boolean isAirOrSealableBlock(BlockPos pos, ServerLevel level) {
-        // Check if the block is air or a block that can be part of a sealed room
-        BlockState state = level.getBlockState(pos);
-        return state.isAir();
+    /**
+     * Checks whether the remaining neighbours of a removed position are still connected
+     * to each other within the surrounding 3x3x3 cube. If so, the removal cannot have split the volume.
+     */
+    private static boolean isLocallyConnected(LongSet volume, long removed) {
+        int cells = 0;
+        for (int i = 0; i < 27; i++) {
+            if (i != 13 && volume.contains(BlockPos.offset(removed, i % 3 - 1, i / 9 - 1, i / 3 % 3 - 1))) {
+                cells |= 1 << i;
+            }
+        }
+
+        int faces = cells & (1 << 4 | 1 << 10 | 1 << 12 | 1 << 14 | 1 << 16 | 1 << 22);
+        if (Integer.bitCount(faces) < 2) {
+            return true;
+        }
+
+        int reached = Integer.lowestOneBit(faces);
+        int frontier = reached;
+        while (frontier != 0) {
+            int i = Integer.numberOfTrailingZeros(frontier);
+            frontier &= frontier - 1;
+            int x = i % 3;
+            int z = i / 3 % 3;
+            int y = i / 9;
+            int next = 0;
+            if (x > 0) next |= 1 << (i - 1);
+            if (x < 2) next |= 1 << (i + 1);
+            if (z > 0) next |= 1 << (i - 3);
+            if (z < 2) next |= 1 << (i + 3);
+            if (y > 0) next |= 1 << (i - 9);
+            if (y < 2) next |= 1 << (i + 9);
+            next &= cells & ~reached;
+            reached |= next;
+            frontier |= next;
+        }
+        return (faces & ~reached) == 0;
+    }
+
+    private void claimBlocks(SealedRoom room, LongSet blocks) {
+        room.revision++;
+        for (LongIterator iterator = blocks.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            this.sealedBlocks.put(pos, room);
+            room.include(pos);
+        }
+    }
+
+    private void releaseRoom(SealedRoom room) {
+        room.revision++;
+        for (LongIterator iterator = room.volume.iterator(); iterator.hasNext(); ) {
+            long pos = iterator.nextLong();
+            if (this.sealedBlocks.get(pos) == room) {
+                this.sealedBlocks.remove(pos);
+            }
+        }
+    }
+
+    private static boolean isPowered(@Nullable OxygenSealerBlockEntity sealer) {
+        return sealer != null && sealer.hasEnergy() && sealer.hasOxygen() && !sealer.isBlocked();
     }
 
     /**
@@ -164,6 +568,301 @@ private boolean isAirOrSealableBlock(BlockPos pos, ServerLevel level) {
      * @return {@code true} if the block is sealed, {@code false} otherwise.
      */
     public boolean isSealed(BlockPos pos) {
-        return this.sealedBlocks.contains(pos);
+        return this.sealedBlocks.containsKey(pos.asLong());
+    }
+
+    public boolean isSealed(int x, int y, int z) {
+        return this.sealedBlocks.containsKey(BlockPos.asLong(x, y, z));
+    }
+
+    @VisibleForTesting
+    public boolean hasPendingChecks() {
+        return !this.pendingChecks.isEmpty();
+    }
+
+    private static class SealedRoom {
+        private final LongSet volume;
+        private final List<OxygenSealerBlockEntity> sealers;
+        private long capacity;
+        // Bumped whenever the volume changes, so off-thread checks can tell if the room is still the one they saw
+        private int revision = 0;
+        // Block bounds of everything the room has claimed, they are not narrowed when the room shrinks
+        private int minX = Integer.MAX_VALUE;
+        private int minY = Integer.MAX_VALUE;
+        private int minZ = Integer.MAX_VALUE;
+        private int maxX = Integer.MIN_VALUE;
+        private int maxY = Integer.MIN_VALUE;
+        private int maxZ = Integer.MIN_VALUE;
+
+        private SealedRoom(LongSet volume, List<OxygenSealerBlockEntity> sealers, long capacity) {
+            this.volume = volume;
+            this.sealers = sealers;
+            this.capacity = capacity;
+        }
+
+        private void include(long pos) {
+            int x = BlockPos.getX(pos);
+            int y = BlockPos.getY(pos);
+            int z = BlockPos.getZ(pos);
+            this.minX = Math.min(this.minX, x);
+            this.minY = Math.min(this.minY, y);
+            this.minZ = Math.min(this.minZ, z);
+            this.maxX = Math.max(this.maxX, x);
+            this.maxY = Math.max(this.maxY, y);
+            this.maxZ = Math.max(this.maxZ, z);
+        }
+    }
+
+    private static class SealingCheck {
+        private final long sealerPos;
+        private final SectionSnapshot snapshot;
+        private final Flood flood;
+        // The room the sealer was in when the snapshot was taken
+        private final @Nullable SealedRoom room;
+        private final int revision;
+        private boolean stale = false;
+
+        private SealingCheck(long sealerPos, SectionSnapshot snapshot, Flood flood, @Nullable SealedRoom room) {
+            this.sealerPos = sealerPos;
+            this.snapshot = snapshot;
+            this.flood = flood;
+            this.room = room;
+            this.revision = room == null ? 0 : room.revision;
+        }
+    }
+
+    private enum Cell {
+        OPEN,
+        SOLID,
+        // Unloaded or outside the world, the room can't be sealed
+        LEAK,
+        // Outside a snapshot, the room has to be checked against the level
+        UNKNOWN
+    }
+
+    private interface CellReader {
+        Cell read(int x, int y, int z);
+    }
+
+    private static class LevelCells implements CellReader {
+        private final ServerLevel level;
+        private @Nullable LevelChunk lastChunk;
+
+        private LevelCells(ServerLevel level) {
+            this.level = level;
+        }
+
+        @Override
+        public Cell read(int x, int y, int z) {
+            if (this.level.isOutsideBuildHeight(y)) {
+                return Cell.LEAK;
+            }
+
+            LevelChunk chunk = this.lastChunk;
+            int chunkX = SectionPos.blockToSectionCoord(x);
+            int chunkZ = SectionPos.blockToSectionCoord(z);
+            if (chunk == null || chunk.getPos().x != chunkX || chunk.getPos().z != chunkZ) {
+                chunk = this.level.getChunkSource().getChunkNow(chunkX, chunkZ);
+                if (chunk == null) {
+                    return Cell.LEAK;
+                }
+                this.lastChunk = chunk;
+            }
+
+            LevelChunkSection section = chunk.getSection(chunk.getSectionIndex(y));
+            return section.hasOnlyAir() || section.getBlockState(x & 15, y & 15, z & 15).isAir() ? Cell.OPEN : Cell.SOLID;
+        }
+    }
+
+    /**
+     * Copies of the block states of a box of chunk sections, safe to read from any thread.
+     */
+    private static class SectionSnapshot implements CellReader {
+        private final int minX;
+        private final int minY;
+        private final int minZ;
+        private final int sizeX;
+        private final int sizeY;
+        private final int sizeZ;
+        private final int minBuildHeight;
+        private final int maxBuildHeight;
+        private final @Nullable PalettedContainer<BlockState>[] sections;
+        private final boolean[] loaded;
+
+        @SuppressWarnings("unchecked")
+        private SectionSnapshot(ServerLevel level, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+            this.minX = minX;
+            this.minY = minY;
+            this.minZ = minZ;
+            this.sizeX = maxX - minX + 1;
+            this.sizeY = maxY - minY + 1;
+            this.sizeZ = maxZ - minZ + 1;
+            this.minBuildHeight = level.getMinBuildHeight();
+            this.maxBuildHeight = level.getMaxBuildHeight();
+            this.sections = new PalettedContainer[this.sizeX * this.sizeY * this.sizeZ];
+            this.loaded = new boolean[this.sections.length];
+
+            for (int x = 0; x < this.sizeX; x++) {
+                for (int z = 0; z < this.sizeZ; z++) {
+                    LevelChunk chunk = level.getChunkSource().getChunkNow(minX + x, minZ + z);
+                    if (chunk == null) {
+                        continue;
+                    }
+                    for (int y = 0; y < this.sizeY; y++) {
+                        int index = this.index(x, y, z);
+                        LevelChunkSection section = chunk.getSection(chunk.getSectionIndexFromSectionY(minY + y));
+                        this.loaded[index] = true;
+                        // All-air sections are left empty
+                        if (!section.hasOnlyAir()) {
+                            this.sections[index] = section.getStates().copy();
+                        }
+                    }
+                }
+            }
+        }
+
+        private int index(int x, int y, int z) {
+            return (x * this.sizeY + y) * this.sizeZ + z;
+        }
+
+        private boolean contains(long pos) {
+            int x = SectionPos.blockToSectionCoord(BlockPos.getX(pos)) - this.minX;
+            int y = SectionPos.blockToSectionCoord(BlockPos.getY(pos)) - this.minY;
+            int z = SectionPos.blockToSectionCoord(BlockPos.getZ(pos)) - this.minZ;
+            return x >= 0 && x < this.sizeX && y >= 0 && y < this.sizeY && z >= 0 && z < this.sizeZ;
+        }
+
+        @Override
+        public Cell read(int x, int y, int z) {
+            if (y < this.minBuildHeight || y >= this.maxBuildHeight) {
+                return Cell.LEAK;
+            }
+            int sectionX = SectionPos.blockToSectionCoord(x) - this.minX;
+            int sectionY = SectionPos.blockToSectionCoord(y) - this.minY;
+            int sectionZ = SectionPos.blockToSectionCoord(z) - this.minZ;
+            if (sectionX < 0 || sectionX >= this.sizeX || sectionY < 0 || sectionY >= this.sizeY || sectionZ < 0 || sectionZ >= this.sizeZ) {
+                return Cell.UNKNOWN;
+            }
+
+            int index = this.index(sectionX, sectionY, sectionZ);
+            if (!this.loaded[index]) {
+                return Cell.LEAK;
+            }
+            PalettedContainer<BlockState> states = this.sections[index];
+            return states == null || states.get(x & 15, y & 15, z & 15).isAir() ? Cell.OPEN : Cell.SOLID;
+        }
+    }
+
+    /**
+     * A breadth-first fill over the air connected to a position. Each powered sealer found below
+     * the filled air adds {@link dev.galacticraft.mod.api.config.Config#maxSealingPower()} blocks of capacity.
+     * The fill fails as soon as the room outgrows its capacity or reaches unloaded or out-of-world space.
+     * <p>
+     * Without a room map the fill only touches its own state, so it can run on a worker thread.
+     */
+    private static class Flood {
+        private final CellReader cells;
+        private final LongPredicate hasSealer;
+        private final LongPredicate isPowered;
+        private final long power;
+        private final @Nullable Long2ObjectMap<SealedRoom> rooms;
+        private final @Nullable SealedRoom known;
+
+        private final LongSet volume = new LongOpenHashSet();
+        private final LongList sealers = new LongArrayList();
+        private final Set<SealedRoom> touchedRooms = new ReferenceOpenHashSet<>();
+        private final int knownSize;
+        // How many cells of the volume belong to an existing room
+        private int claimed = 0;
+        private long capacity;
+        private boolean failed = false;
+        private boolean incomplete = false;
+
+        private Flood(CellReader cells, LongPredicate hasSealer, LongPredicate isPowered, long power, @Nullable Long2ObjectMap<SealedRoom> rooms, @Nullable SealedRoom known) {
+            this.cells = cells;
+            this.hasSealer = hasSealer;
+            this.isPowered = isPowered;
+            this.power = power;
+            this.rooms = rooms;
+            this.known = known;
+            this.knownSize = known == null ? 0 : known.volume.size();
+            this.capacity = known == null ? 0 : known.capacity;
+        }
+
+        private void fill(long start) {
+            if (!this.visit(start)) {
+                return;
+            }
+
+            LongArrayFIFOQueue queue = new LongArrayFIFOQueue();
+            queue.enqueue(start);
+            while (!queue.isEmpty()) {
+                long current = queue.dequeueLong();
+
+                long below = BlockPos.offset(current, Direction.DOWN);
+                if (this.hasSealer.test(below) && (this.known == null || !this.isKnownSealer(below))) {
+                    this.sealers.add(below);
+                    if (this.isPowered.test(below)) {
+                        this.capacity += this.power;
+                    }
+                }
+                if (this.knownSize + this.volume.size() > this.capacity) {
+                    this.failed = true;
+                    return;
+                }
+
+                for (Direction direction : DIRECTIONS) {
+                    long neighbour = BlockPos.offset(current, direction);
+                    if (this.volume.contains(neighbour) || (this.known != null && this.known.volume.contains(neighbour))) {
+                        continue;
+                    }
+                    if (this.visit(neighbour)) {
+                        queue.enqueue(neighbour);
+                    } else if (this.failed || this.incomplete) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private boolean isKnownSealer(long pos) {
+            for (OxygenSealerBlockEntity sealer : this.known.sealers) {
+                if (sealer.getBlockPos().asLong() == pos) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private boolean visit(long pos) {
+            switch (this.cells.read(BlockPos.getX(pos), BlockPos.getY(pos), BlockPos.getZ(pos))) {
+                case SOLID -> {
+                    return false;
+                }
+                case LEAK -> {
+                    this.failed = true;
+                    return false;
+                }
+                case UNKNOWN -> {
+                    this.incomplete = true;
+                    return false;
+                }
+                default -> {
+                }
+            }
+
+            if (this.rooms != null) {
+                this.touch(this.rooms.get(pos));
+            }
+            this.volume.add(pos);
+            return true;
+        }
+
+        private void touch(@Nullable SealedRoom room) {
+            if (room != null && room != this.known) {
+                this.touchedRooms.add(room);
+                this.claimed++;
+            }
+        }
     }
-}
\ No newline at end of file
+}
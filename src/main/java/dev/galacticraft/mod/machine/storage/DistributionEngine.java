@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.machine.storage;
+
+import it.unimi.dsi.fastutil.objects.ObjectLinkedOpenHashSet;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
+import net.fabricmc.fabric.api.transfer.v1.transaction.TransactionContext;
+import net.fabricmc.fabric.api.transfer.v1.transaction.base.SnapshotParticipant;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Splits the transfers of a network between its endpoints.
+ * <p>
+ * The endpoints are kept in a flat array that is only rebuilt after {@link #invalidate()}.
+ * Demand is simulated once per tick and resource, and shared by every insertion in that tick.
+ * The insertions of a tick form one sweep over the endpoints: each insertion carries on where the last one stopped,
+ * filling endpoints up to their demand, so every endpoint is inserted into about once per tick however many producers there are.
+ * The sweep starts at a different endpoint every tick, so a short supply is shared out over time.
+ * Endpoints that accept nothing are not simulated again for {@link #IDLE_BACKOFF_TICKS} ticks.
+ * Rolling back a transaction that distributed drops the demand of the tick, so it is simulated again.
+ *
+ * @param <S> the type of the endpoint storages
+ * @param <R> the type of resource transferred, or {@link Void} if there is only one
+ */
+public class DistributionEngine<S, R> extends SnapshotParticipant<Long> {
+    public static final int IDLE_BACKOFF_TICKS = 10;
+
+    private final Supplier<Collection<S>> endpointFinder;
+    private final Inserter<S, R> inserter;
+
+    private Object @Nullable [] endpoints = null;
+    private long[] demand = new long[0];
+    private long[] idleUntil = new long[0];
+    private long totalDemand = 0;
+    private int cursor = 0;
+    private long demandTick = -1;
+    private @Nullable R demandResource = null;
+    private @Nullable R idleResource = null;
+
+    public DistributionEngine(Supplier<Collection<S>> endpointFinder, Inserter<S, R> inserter) {
+        this.endpointFinder = endpointFinder;
+        this.inserter = inserter;
+    }
+
+    /**
+     * Collects the distinct non-null storages of a set of per-side storage arrays.
+     */
+    public static <S> Collection<S> collect(Iterable<S @Nullable []> sides) {
+        ObjectLinkedOpenHashSet<S> endpoints = new ObjectLinkedOpenHashSet<>();
+        for (S[] storages : sides) {
+            if (storages != null) {
+                for (S storage : storages) {
+                    if (storage != null) {
+                        endpoints.add(storage);
+                    }
+                }
+            }
+        }
+        return endpoints;
+    }
+
+    /**
+     * Drops the cached endpoints, to be called whenever the connections of the network change.
+     */
+    public void invalidate() {
+        this.endpoints = null;
+        this.demandTick = -1;
+    }
+
+    /**
+     * Distributes a resource between the endpoints.
+     *
+     * @param resource    the resource to insert
+     * @param amount      the amount to distribute
+     * @param capacity    how much the network can still transfer this tick, the most any endpoint is asked for
+     * @param tick        the current server tick
+     * @param transaction the transaction to insert in
+     * @return the amount inserted
+     */
+    public long distribute(@Nullable R resource, long amount, long capacity, long tick, @NotNull TransactionContext transaction) {
+        if (this.demandTick != tick || !Objects.equals(this.demandResource, resource)) {
+            this.simulate(resource, capacity, tick, transaction);
+        }
+        if (this.totalDemand == 0) {
+            return 0;
+        }
+
+        Object[] endpoints = Objects.requireNonNull(this.endpoints);
+        this.updateSnapshots(transaction);
+        long remaining = amount;
+        for (int n = 0; n < endpoints.length && remaining > 0; n++) {
+            int i = this.cursor;
+            long demand = this.demand[i];
+            if (demand > 0) {
+                long insert = Math.min(demand, remaining);
+                //noinspection unchecked
+                long accepted = this.inserter.insert((S) endpoints[i], resource, insert, transaction);
+                remaining -= accepted;
+                if (accepted < insert) {
+                    // Accepts less than simulated, so it is full for the rest of the tick
+                    this.totalDemand -= demand;
+                    this.demand[i] = 0;
+                } else {
+                    this.totalDemand -= accepted;
+                    this.demand[i] -= accepted;
+                    // Out of supply before this endpoint was full, the next insertion carries on here
+                    if (this.demand[i] > 0) break;
+                }
+            }
+            this.cursor = i + 1 == endpoints.length ? 0 : i + 1;
+        }
+        return amount - remaining;
+    }
+
+    private void simulate(@Nullable R resource, long capacity, long tick, TransactionContext transaction) {
+        if (this.endpoints == null) {
+            this.endpoints = this.endpointFinder.get().toArray();
+            this.demand = new long[this.endpoints.length];
+            this.idleUntil = new long[this.endpoints.length];
+        }
+        if (!Objects.equals(this.idleResource, resource)) {
+            // Being full of one resource says nothing about another
+            Arrays.fill(this.idleUntil, 0);
+            this.idleResource = resource;
+        }
+
+        Object[] endpoints = this.endpoints;
+        this.totalDemand = 0;
+        try (Transaction simulation = Transaction.openNested(transaction)) {
+            for (int i = 0; i < endpoints.length; i++) {
+                this.demand[i] = 0;
+                if (this.idleUntil[i] > tick) continue;
+
+                //noinspection unchecked
+                long accepted = this.inserter.insert((S) endpoints[i], resource, capacity, simulation);
+                if (accepted > 0) {
+                    this.demand[i] = accepted;
+                    this.totalDemand += accepted;
+                } else {
+                    this.idleUntil[i] = tick + IDLE_BACKOFF_TICKS;
+                }
+            }
+            simulation.abort();
+        }
+        this.cursor = endpoints.length == 0 ? 0 : (int) Math.floorMod(tick, (long) endpoints.length);
+        this.demandTick = tick;
+        this.demandResource = resource;
+    }
+
+    @Override
+    protected Long createSnapshot() {
+        return this.demandTick;
+    }
+
+    @Override
+    protected void readSnapshot(Long snapshot) {
+        // The insertions were undone, so the remaining demand no longer matches the endpoints
+        this.demandTick = -1;
+    }
+
+    @FunctionalInterface
+    public interface Inserter<S, R> {
+        long insert(S storage, @Nullable R resource, long amount, TransactionContext transaction);
+    }
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+/**
+ * The footprints of one chunk, kept as a ring buffer of primitive arrays ordered from oldest to newest.
+ * Footprints age by their creation time, so nothing has to be updated while they fade.
+ * Once {@link #CAPACITY} is reached the oldest footprint is overwritten.
+ */
+public class FootprintChunk {
+    public static final int CAPACITY = 256;
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long REMOVED = Long.MIN_VALUE;
+
+    private double[] x = new double[INITIAL_CAPACITY];
+    private double[] y = new double[INITIAL_CAPACITY];
+    private double[] z = new double[INITIAL_CAPACITY];
+    private float[] rotation = new float[INITIAL_CAPACITY];
+    private int[] owner = new int[INITIAL_CAPACITY];
+    private long[] created = new long[INITIAL_CAPACITY];
+    private int start = 0;
+    private int size = 0;
+    // the vertical extent of all footprints ever added, for culling
+    private double minY = Double.POSITIVE_INFINITY;
+    private double maxY = Double.NEGATIVE_INFINITY;
+    // the number of newest footprints that haven't been sent to clients yet
+    private int unsynced = 0;
+
+    public void add(double x, double y, double z, float rotation, int owner, long created) {
+        if (this.size == this.created.length) {
+            if (this.size < CAPACITY) {
+                this.grow();
+            } else {
+                this.start = (this.start + 1) & (this.created.length - 1);
+                this.size--;
+            }
+        }
+
+        int i = this.index(this.size++);
+        this.x[i] = x;
+        this.y[i] = y;
+        this.z[i] = z;
+        this.rotation[i] = rotation;
+        this.owner[i] = owner;
+        this.created[i] = created;
+        this.unsynced = Math.min(this.unsynced + 1, this.size);
+        this.minY = Math.min(this.minY, y);
+        this.maxY = Math.max(this.maxY, y);
+    }
+
+    /**
+     * Drops the oldest footprints that have faded away or were removed.
+     */
+    public void expire(long time) {
+        while (this.size > 0 && !this.isAlive(this.start, time)) {
+            this.start = (this.start + 1) & (this.created.length - 1);
+            this.size--;
+        }
+        this.unsynced = Math.min(this.unsynced, this.size);
+    }
+
+    /**
+     * Removes the footprints on top of the given block column.
+     *
+     * @return the number of removed footprints
+     */
+    public int remove(int blockX, int blockZ) {
+        int removed = 0;
+        for (int n = 0; n < this.size; n++) {
+            int i = this.index(n);
+            if (this.created[i] != REMOVED
+                    && this.x[i] > blockX && this.x[i] < blockX + 1
+                    && this.z[i] > blockZ && this.z[i] < blockZ + 1) {
+                this.created[i] = REMOVED;
+                removed++;
+            }
+        }
+        return removed;
+    }
+
+    /**
+     * @return the number of footprints that were added since the last call
+     */
+    public int takeUnsynced() {
+        int unsynced = this.unsynced;
+        this.unsynced = 0;
+        return unsynced;
+    }
+
+    /**
+     * @return the number of footprints, counting from the oldest, that have already been sent to clients
+     */
+    public int synced() {
+        return this.size - this.unsynced;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * @return the number of stored footprints, including removed and faded ones that haven't been dropped yet
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param n the position of a footprint, counting from the oldest
+     * @return the array index of the footprint
+     */
+    public int index(int n) {
+        return (this.start + n) & (this.created.length - 1);
+    }
+
+    public boolean isAlive(int i, long time) {
+        return this.created[i] != REMOVED && time - this.created[i] < Footprint.MAX_AGE;
+    }
+
+    public double minY() {
+        return this.minY;
+    }
+
+    public double maxY() {
+        return this.maxY;
+    }
+
+    public double x(int i) {
+        return this.x[i];
+    }
+
+    public double y(int i) {
+        return this.y[i];
+    }
+
+    public double z(int i) {
+        return this.z[i];
+    }
+
+    public float rotation(int i) {
+        return this.rotation[i];
+    }
+
+    public int owner(int i) {
+        return this.owner[i];
+    }
+
+    public long created(int i) {
+        return this.created[i];
+    }
+
+    public Footprint get(int i) {
+        return new Footprint(this.x[i], this.y[i], this.z[i], this.rotation[i], this.created[i]);
+    }
+
+    private void grow() {
+        int capacity = this.created.length * 2;
+        this.x = this.unroll(this.x, new double[capacity]);
+        this.y = this.unroll(this.y, new double[capacity]);
+        this.z = this.unroll(this.z, new double[capacity]);
+        this.rotation = this.unroll(this.rotation, new float[capacity]);
+        this.owner = this.unroll(this.owner, new int[capacity]);
+        this.created = this.unroll(this.created, new long[capacity]);
+        this.start = 0;
+    }
+
+    // copies a full ring into the start of a larger array, oldest first. Must run before created is replaced
+    private <T> T unroll(T from, T to) {
+        int length = this.created.length;
+        System.arraycopy(from, this.start, to, 0, length - this.start);
+        System.arraycopy(from, 0, to, length - this.start, this.start);
+        return to;
+    }
+}
@@ -22,59 +22,89 @@
 
 package dev.galacticraft.mod.misc.footprint;
 
-import com.google.common.collect.Lists;
 import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
-import net.minecraft.core.GlobalPos;
+import it.unimi.dsi.fastutil.objects.Object2IntMap;
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minecraft.core.BlockPos;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
+import org.jetbrains.annotations.Nullable;
 
-import java.util.ArrayList;
-import java.util.List;
+import java.util.UUID;
 
 public class FootprintManager {
-    public List<GlobalPos> footprintBlockChanges = Lists.newArrayList();
-    public Long2ObjectMap<List<Footprint>> globalFootprints = new Long2ObjectOpenHashMap<>();
+    private static final int EXPIRE_INTERVAL = 20;
 
-    public void tick(Level level, long packedPos) {
-        if (level.getGameTime() % 20 == 0) {
+    protected final Long2ObjectMap<FootprintChunk> chunks = new Long2ObjectOpenHashMap<>();
+    // Footprints store a small index instead of the owner's UUID
+    private final Object2IntMap<UUID> owners = new Object2IntOpenHashMap<>();
 
-            Long2ObjectMap<List<Footprint>> footprintMap = globalFootprints;
-            if (footprintMap != null) {
-                List<Footprint> footprints = footprintMap.get(packedPos);
+    public FootprintManager() {
+        this.owners.defaultReturnValue(-1);
+    }
 
-                if (footprints != null) {
-                    List<Footprint> toRemove = new ArrayList<>();
+    public void tick(Level level) {
+        long time = level.getGameTime();
+        if (time % EXPIRE_INTERVAL == 0) {
+            this.chunks.values().removeIf(chunk -> {
+                chunk.expire(time);
+                return chunk.isEmpty();
+            });
+        }
+    }
 
-                    for (Footprint footprint : footprints) {
-                        footprint.age += (short) 20;
+    public void addFootprint(long packedPos, double x, double y, double z, float rotation, @Nullable UUID owner, long created) {
+        FootprintChunk chunk = this.chunks.computeIfAbsent(packedPos, key -> new FootprintChunk());
+        chunk.add(x, y, z, rotation, this.getOwnerId(owner), created);
+        this.onAdded(packedPos, chunk);
+    }
 
-                        if (footprint.age >= Footprint.MAX_AGE) {
-                            toRemove.add(footprint);
-                        }
-                    }
+    /**
+     * Removes the footprints on top of a block, e.g. because it was broken.
+     *
+     * @return the number of removed footprints
+     */
+    public int removeFootprints(BlockPos pos) {
+        FootprintChunk chunk = this.chunks.get(ChunkPos.asLong(pos));
+        return chunk != null ? chunk.remove(pos.getX(), pos.getZ()) : 0;
+    }
 
-                    if (!toRemove.isEmpty()) {
-                        footprints.removeAll(toRemove);
-                    }
+    /**
+     * Forgets the footprints of a chunk, e.g. because the client unloaded it.
+     */
+    public void removeChunk(long packedPos) {
+        this.chunks.remove(packedPos);
+    }
 
-                    footprintMap.put(packedPos, footprints);
+    protected void onAdded(long packedPos, FootprintChunk chunk) {
+    }
 
-                    onChange(level, packedPos, footprints);
-                }
-            }
+    /**
+     * @return the index footprints of the given owner are stored with, or -1 if there is no owner
+     */
+    public int getOwnerId(@Nullable UUID owner) {
+        if (owner == null) return -1;
+        int id = this.owners.getInt(owner);
+        if (id == -1) {
+            id = this.owners.size();
+            this.owners.put(owner, id);
         }
+        return id;
     }
 
-    public void onChange(Level level, long pos, List<Footprint> footprints) {
+    /**
+     * @return the index footprints of the given owner are stored with, or -1 if they never made any
+     */
+    public int findOwnerId(UUID owner) {
+        return this.owners.getInt(owner);
     }
 
-    public void addFootprint(long packedPos, Footprint footprint) {
-        List<Footprint> footprints = globalFootprints.computeIfAbsent(packedPos, key -> new ArrayList<>());
-
-        footprints.add(footprint);
+    public @Nullable FootprintChunk getChunk(long packedPos) {
+        return this.chunks.get(packedPos);
     }
 
-    public Long2ObjectMap<List<Footprint>> getFootprints() {
-        return globalFootprints;
+    public Long2ObjectMap<FootprintChunk> getChunks() {
+        return this.chunks;
     }
 }
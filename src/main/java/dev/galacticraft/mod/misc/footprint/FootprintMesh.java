@@ -0,0 +1,76 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.misc.footprint;
+
+import net.minecraft.util.Mth;
+
+/**
+ * Builds the quads footprints are drawn with. This doesn't touch any render state, so the vertices
+ * of every visible footprint can be written into one buffer and drawn at once.
+ */
+public final class FootprintMesh {
+    public static final float SCALE = 0.5F;
+    // lifts footprints off the ground to stop z-fighting
+    private static final float Y_OFFSET = 0.001F;
+
+    private FootprintMesh() {
+    }
+
+    /**
+     * Writes one quad for each living footprint of a chunk. Positions are relative to the camera
+     * and footprints fade out with age through their vertex colour.
+     *
+     * @return the number of quads written
+     */
+    public static int build(FootprintChunk chunk, double cameraX, double cameraY, double cameraZ, long time, VertexSink sink) {
+        int quads = 0;
+        for (int n = 0; n < chunk.size(); n++) {
+            int i = chunk.index(n);
+            if (!chunk.isAlive(i, time)) continue;
+
+            float x = (float) (chunk.x(i) - cameraX);
+            float y = (float) (chunk.y(i) - cameraY) + Y_OFFSET;
+            float z = (float) (chunk.z(i) - cameraZ);
+            // footprints synced from the server can be stamped slightly ahead of the client's clock
+            long age = Mth.clamp(time - chunk.created(i), 0L, Footprint.MAX_AGE);
+            int shade = (int) ((1.0F - age / (float) Footprint.MAX_AGE) * 255.0F);
+            int colour = shade << 24 | shade << 16 | shade << 8 | shade;
+
+            // the corners are 90 degrees apart, so the other two are the first two mirrored
+            float angle = (45 - chunk.rotation(i)) / Mth.RAD_TO_DEG;
+            float sin = Mth.sin(angle) * SCALE;
+            float cos = Mth.cos(angle) * SCALE;
+            sink.vertex(x + sin, y, z + cos, 1.0F, 1.0F, colour);
+            sink.vertex(x + cos, y, z - sin, 1.0F, 0.0F, colour);
+            sink.vertex(x - sin, y, z - cos, 0.0F, 0.0F, colour);
+            sink.vertex(x - cos, y, z + sin, 0.0F, 1.0F, colour);
+            quads++;
+        }
+        return quads;
+    }
+
+    @FunctionalInterface
+    public interface VertexSink {
+        void vertex(float x, float y, float z, float u, float v, int colour);
+    }
+}
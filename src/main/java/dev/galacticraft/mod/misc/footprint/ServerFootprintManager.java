@@ -23,24 +23,104 @@
 package dev.galacticraft.mod.misc.footprint;
 
 import dev.galacticraft.mod.network.s2c.FootprintPacket;
+import dev.galacticraft.mod.network.s2c.FootprintRemovedPacket;
+import it.unimi.dsi.fastutil.longs.LongArrayList;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.fabricmc.fabric.api.networking.v1.PlayerLookup;
 import net.fabricmc.fabric.api.networking.v1.ServerPlayNetworking;
+import net.minecraft.core.BlockPos;
 import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
+/**
+ * Sends new footprints and removals to the players tracking a chunk, batched once per tick.
+ * Clients age footprints themselves, so footprints are only ever sent once.
+ */
 public class ServerFootprintManager extends FootprintManager {
+    private final LongSet addedChunks = new LongOpenHashSet();
+    private final LongList removedBlocks = new LongArrayList();
+
+    @Override
+    public void tick(Level level) {
+        super.tick(level);
+        this.sync((ServerLevel) level);
+    }
+
     @Override
-    public void onChange(Level level, long packedPos, List<Footprint> footprints) {
-        if (level.getGameTime() % 100 == 0) {
-            PlayerLookup.tracking((ServerLevel) level, new ChunkPos(packedPos)).forEach(player -> {
-                List<Footprint> toSync = new ArrayList<>(footprints);
-                toSync.removeIf(footprint -> footprint.owner.equals(player.getUUID()));
-                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, toSync));
-            });
+    public int removeFootprints(BlockPos pos) {
+        int removed = super.removeFootprints(pos);
+        if (removed > 0) {
+            this.removedBlocks.add(pos.asLong());
+        }
+        return removed;
+    }
+
+    @Override
+    protected void onAdded(long packedPos, FootprintChunk chunk) {
+        this.addedChunks.add(packedPos);
+    }
+
+    /**
+     * Sends the footprints of a chunk to a player that just started watching it.
+     * Footprints that haven't been synced yet are sent with the next batch instead.
+     */
+    public void sendChunk(ServerPlayer player, long packedPos) {
+        FootprintChunk chunk = this.chunks.get(packedPos);
+        if (chunk != null && chunk.synced() > 0) {
+            this.sendFootprints(packedPos, chunk, 0, chunk.synced(), player.level().getGameTime(), List.of(player));
+        }
+    }
+
+    private void sync(ServerLevel level) {
+        if (!this.removedBlocks.isEmpty()) {
+            for (int i = 0; i < this.removedBlocks.size(); i++) {
+                BlockPos pos = BlockPos.of(this.removedBlocks.getLong(i));
+                ChunkPos chunkPos = new ChunkPos(pos);
+                FootprintRemovedPacket packet = new FootprintRemovedPacket(chunkPos.toLong(), pos);
+                for (ServerPlayer player : PlayerLookup.tracking(level, chunkPos)) {
+                    ServerPlayNetworking.send(player, packet);
+                }
+            }
+            this.removedBlocks.clear();
+        }
+
+        if (!this.addedChunks.isEmpty()) {
+            long time = level.getGameTime();
+            for (long packedPos : this.addedChunks) {
+                FootprintChunk chunk = this.chunks.get(packedPos);
+                if (chunk == null) continue;
+                int added = chunk.takeUnsynced();
+                if (added > 0) {
+                    this.sendFootprints(packedPos, chunk, chunk.size() - added, chunk.size(), time, PlayerLookup.tracking(level, new ChunkPos(packedPos)));
+                }
+            }
+            this.addedChunks.clear();
+        }
+    }
+
+    private void sendFootprints(long packedPos, FootprintChunk chunk, int from, int to, long time, Collection<ServerPlayer> players) {
+        for (ServerPlayer player : players) {
+            // players make their own footprints on the client
+            int owner = this.findOwnerId(player.getUUID());
+            List<Footprint> footprints = new ArrayList<>();
+            for (int n = from; n < to; n++) {
+                int i = chunk.index(n);
+                if (chunk.isAlive(i, time) && (owner == -1 || chunk.owner(i) != owner)) {
+                    footprints.add(chunk.get(i));
+                }
+            }
+
+            if (!footprints.isEmpty()) {
+                ServerPlayNetworking.send(player, new FootprintPacket(packedPos, footprints));
+            }
         }
     }
 }
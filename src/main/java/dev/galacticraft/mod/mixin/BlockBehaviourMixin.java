@@ -22,58 +22,44 @@
 
 package dev.galacticraft.mod.mixin;
 
-import dev.galacticraft.mod.misc.footprint.Footprint;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
+import dev.galacticraft.mod.accessor.BlockStateOxygenAccessor;
 import dev.galacticraft.mod.tag.GCTags;
-import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.GlobalPos;
 import net.minecraft.tags.TagKey;
-import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockBehaviour;
 import net.minecraft.world.level.block.state.BlockState;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.Unique;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 
-import java.util.ArrayList;
-import java.util.List;
-
 @Mixin(BlockBehaviour.BlockStateBase.class)
-public abstract class BlockBehaviourMixin {
+public abstract class BlockBehaviourMixin implements BlockStateOxygenAccessor {
+    // baked by OxygenBlockDataManager on reload
+    @Unique
+    private float oxygen = Float.NaN;
+
     @Shadow
     public abstract boolean is(TagKey<Block> tag);
 
     @Inject(method = "onRemove", at = @At("TAIL"))
     private void handleFootprints(Level level, BlockPos pos, BlockState newState, boolean movedByPiston, CallbackInfo ci) {
         if (is(GCTags.FOOTPRINTS)) {
-            FootprintManager footprintManager = level.galacticraft$getFootprintManager();
-            Long2ObjectMap<List<Footprint>> footprintChunkMap = footprintManager.getFootprints();
-
-            if (footprintChunkMap != null) {
-                long chunkKey = ChunkPos.asLong(pos);
-                List<Footprint> footprintList = footprintChunkMap.get(chunkKey);
-
-                if (footprintList != null && !footprintList.isEmpty()) {
-                    List<Footprint> toRemove = new ArrayList<>();
-
-                    for (Footprint footprint : footprintList) {
-                        if (footprint.position.x > pos.getX() && footprint.position.x < pos.getX() + 1 && footprint.position.z > pos.getZ() && footprint.position.z < pos.getZ() + 1) {
-                            toRemove.add(footprint);
-                        }
-                    }
+            level.galacticraft$getFootprintManager().removeFootprints(pos);
+        }
+    }
 
-                    if (!toRemove.isEmpty()) {
-                        footprintList.removeAll(toRemove);
-                    }
-                }
-            }
+    @Override
+    public float galacticraft$getOxygen() {
+        return this.oxygen;
+    }
 
-            footprintManager.footprintBlockChanges.add(GlobalPos.of(level.dimension(), pos));
-        }
+    @Override
+    public void galacticraft$setOxygen(float oxygen) {
+        this.oxygen = oxygen;
     }
 }
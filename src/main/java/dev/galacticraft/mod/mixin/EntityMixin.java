@@ -231,7 +231,7 @@ private void tickFootprints(MoverType type, Vec3 motion, CallbackInfo ci) {
                 // If the block below is the moon block
                 if (state.is(GCTags.FOOTPRINTS)) {
                     long chunkKey = ChunkPos.asLong(SectionPos.blockToSectionCoord(pos.x), SectionPos.blockToSectionCoord(pos.z));
-                    level.galacticraft$getFootprintManager().addFootprint(chunkKey, new Footprint(level.dimensionTypeRegistration().unwrapKey().get().location(), pos, getYRot(), getUUID()));
+                    level.galacticraft$getFootprintManager().addFootprint(chunkKey, pos.x, pos.y, pos.z, getYRot(), getUUID(), level.getGameTime());
                 }
 
                 // Increment and cap step counter at 1
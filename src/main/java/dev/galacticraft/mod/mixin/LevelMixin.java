@@ -23,6 +23,9 @@
 package dev.galacticraft.mod.mixin;
 
 import dev.galacticraft.mod.accessor.GCLevelAccessor;
+import dev.galacticraft.mod.machine.AirlockManager;
+import dev.galacticraft.mod.machine.BubbleManager;
+import dev.galacticraft.mod.machine.CollectorManager;
 import dev.galacticraft.mod.machine.SealerManager;
 import net.minecraft.world.level.Level;
 import org.spongepowered.asm.mixin.Mixin;
@@ -32,9 +35,30 @@
 public class LevelMixin implements GCLevelAccessor {
     @Unique
     private final SealerManager sealerManager = new SealerManager();
+    @Unique
+    private final CollectorManager collectorManager = new CollectorManager();
+    @Unique
+    private final AirlockManager airlockManager = new AirlockManager();
+    @Unique
+    private final BubbleManager bubbleManager = new BubbleManager();
 
     @Override
     public SealerManager getSealerManager() {
         return sealerManager;
     }
+
+    @Override
+    public CollectorManager getCollectorManager() {
+        return collectorManager;
+    }
+
+    @Override
+    public AirlockManager getAirlockManager() {
+        return airlockManager;
+    }
+
+    @Override
+    public BubbleManager getBubbleManager() {
+        return bubbleManager;
+    }
 }
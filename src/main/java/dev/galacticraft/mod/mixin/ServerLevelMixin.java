@@ -28,6 +28,7 @@
 import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.misc.footprint.ServerFootprintManager;
 import dev.galacticraft.mod.world.dimension.GCDimensions;
+import dev.galacticraft.mod.world.gen.custom.AsteroidChunkGenerator;
 import dev.galacticraft.mod.world.gen.spawner.EvolvedPillagerSpawner;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
@@ -36,13 +37,12 @@
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.server.level.progress.ChunkProgressListener;
-import net.minecraft.tags.BlockTags;
+import net.minecraft.util.ProgressListener;
 import net.minecraft.util.profiling.ProfilerFiller;
 import net.minecraft.world.RandomSequences;
 import net.minecraft.world.level.CustomSpawner;
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.block.state.BlockState;
-import net.minecraft.world.level.chunk.LevelChunk;
 import net.minecraft.world.level.dimension.DimensionType;
 import net.minecraft.world.level.dimension.LevelStem;
 import net.minecraft.world.level.storage.LevelStorageSource;
@@ -56,6 +56,7 @@
 
 import java.util.List;
 import java.util.concurrent.Executor;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
 
 @Mixin(ServerLevel.class)
@@ -83,27 +84,33 @@ private void setSpawnersGC(MinecraftServer server, Executor workerExecutor, Leve
 
     @Inject(method = "sendBlockUpdated", at = @At(value = "INVOKE", target = "Ljava/util/Set;iterator()Ljava/util/Iterator;", remap = false))
     private void onBlockChanges(BlockPos pos, BlockState oldState, BlockState newState, int flags, CallbackInfo ci) {
+        // Update the oxygen producing block counts of nearby collectors
+        ((GCLevelAccessor) getLevel()).getCollectorManager().onBlockChange(pos, oldState, newState);
+        // Drop the cached frames of nearby airlock controllers
+        ((GCLevelAccessor) getLevel()).getAirlockManager().onBlockChange(pos, oldState, newState);
+
         // Skip if both old and new states are solid blocks
         if (oldState.isSolid() && newState.isSolid()) {
             return;
         }
 
-        // Check if the block is a leaf (for oxygen collection logic)
-        if (newState.is(BlockTags.LEAVES)) {
-            // Oxygen collector code update (if needed)
-        }
-
         // Notify the SealerManager about the block change
         SealerManager manager = ((GCLevelAccessor) getLevel()).getSealerManager();
         manager.onBlockChange(pos, newState, this.getLevel());
     }
 
-    @Inject(method = "tickChunk", at = @At("HEAD"))
-    private void tickFootprints(LevelChunk chunk, int randomTickSpeed, CallbackInfo ci) {
-        var profiler = getProfiler();
-        profiler.push("footprints");
-        footprintManager.tick((ServerLevel) (Object) this, chunk.getPos().toLong());
-        profiler.pop();
+    @Inject(method = "tick", at = @At("HEAD"))
+    private void tickSealers(BooleanSupplier hasTimeLeft, CallbackInfo ci) {
+        // Apply off-thread seal checks that finished since the last tick
+        ((GCLevelAccessor) getLevel()).getSealerManager().tick(this.getLevel());
+    }
+
+    @Inject(method = "save", at = @At("TAIL"))
+    private void saveAsteroids(@Nullable ProgressListener progressListener, boolean flush, boolean skipSave, CallbackInfo ci) {
+        // Newly generated asteroids are only written when the level saves, rather than as they are generated
+        if (!skipSave && this.getLevel().getChunkSource().getGenerator() instanceof AsteroidChunkGenerator generator) {
+            generator.saveAsteroids(flush);
+        }
     }
 
     @Override
@@ -26,31 +26,55 @@
 import dev.galacticraft.mod.Constant;
 import dev.galacticraft.mod.client.render.FootprintRenderer;
 import dev.galacticraft.mod.misc.footprint.Footprint;
-import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
-import net.minecraft.network.codec.ByteBufCodecs;
+import net.minecraft.network.VarInt;
+import net.minecraft.network.VarLong;
 import net.minecraft.network.codec.StreamCodec;
 import net.minecraft.network.protocol.common.custom.CustomPacketPayload;
 import net.minecraft.resources.ResourceLocation;
+import net.minecraft.world.level.ChunkPos;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
+/**
+ * Footprints that were added to a chunk. Horizontal positions are sent relative to the chunk.
+ */
 public record FootprintPacket(long chunk, List<Footprint> footprints) implements S2CPayload {
-    public static final StreamCodec<ByteBuf, FootprintPacket> STREAM_CODEC = StreamCodec.composite(
-            StreamCodecs.LONG,
-            p -> p.chunk,
-            ByteBufCodecs.<ByteBuf, Footprint>list().apply(Footprint.STREAM_CODEC),
-            p -> p.footprints,
-            FootprintPacket::new
+    public static final StreamCodec<ByteBuf, FootprintPacket> STREAM_CODEC = StreamCodec.of(
+            (buf, packet) -> {
+                buf.writeLong(packet.chunk);
+                double originX = ChunkPos.getX(packet.chunk) << 4;
+                double originZ = ChunkPos.getZ(packet.chunk) << 4;
+                VarInt.write(buf, packet.footprints.size());
+                for (Footprint footprint : packet.footprints) {
+                    buf.writeFloat((float) (footprint.x() - originX));
+                    buf.writeFloat((float) footprint.y());
+                    buf.writeFloat((float) (footprint.z() - originZ));
+                    buf.writeFloat(footprint.rotation());
+                    VarLong.write(buf, footprint.created());
+                }
+            },
+            buf -> {
+                long chunk = buf.readLong();
+                double originX = ChunkPos.getX(chunk) << 4;
+                double originZ = ChunkPos.getZ(chunk) << 4;
+                int size = VarInt.read(buf);
+                List<Footprint> footprints = new ArrayList<>(size);
+                for (int i = 0; i < size; i++) {
+                    footprints.add(new Footprint(originX + buf.readFloat(), buf.readFloat(), originZ + buf.readFloat(), buf.readFloat(), VarLong.read(buf)));
+                }
+                return new FootprintPacket(chunk, footprints);
+            }
     );
     public static final ResourceLocation ID = Constant.id("footprint");
     public static final CustomPacketPayload.Type<FootprintPacket> TYPE = new CustomPacketPayload.Type<>(ID);
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> FootprintRenderer.setFootprints(this.chunk, this.footprints);
+        return () -> FootprintRenderer.addFootprints(this.chunk, this.footprints);
     }
 
     @Override
@@ -24,8 +24,6 @@
 
 import dev.galacticraft.impl.network.s2c.S2CPayload;
 import dev.galacticraft.mod.Constant;
-import dev.galacticraft.mod.misc.footprint.Footprint;
-import dev.galacticraft.mod.misc.footprint.FootprintManager;
 import dev.galacticraft.mod.util.StreamCodecs;
 import io.netty.buffer.ByteBuf;
 import net.fabricmc.fabric.api.client.networking.v1.ClientPlayNetworking;
@@ -35,9 +33,6 @@
 import net.minecraft.resources.ResourceLocation;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.ArrayList;
-import java.util.List;
-
 public record FootprintRemovedPacket(long chunk, BlockPos pos) implements S2CPayload {
     public static final StreamCodec<ByteBuf, FootprintRemovedPacket> STREAM_CODEC = StreamCodec.composite(
             StreamCodecs.LONG,
@@ -51,25 +46,7 @@ public record FootprintRemovedPacket(long chunk, BlockPos pos) implements S2CPay
 
     @Override
     public Runnable handle(ClientPlayNetworking.@NotNull Context context) {
-        return () -> {
-            BlockPos pos = pos();
-            FootprintManager manager = context.player().level().galacticraft$getFootprintManager();
-            List<Footprint> footprintList = manager.getFootprints().get(this.chunk);
-            List<Footprint> toRemove = new ArrayList<>();
-
-            if (footprintList != null) {
-                for (Footprint footprint : footprintList) {
-                    if (footprint.position.x > pos.getX() && footprint.position.x < pos.getX() + 1 && footprint.position.z > pos.getZ() && footprint.position.z < pos.getZ() + 1) {
-                        toRemove.add(footprint);
-                    }
-                }
-            }
-
-            if (!toRemove.isEmpty()) {
-                footprintList.removeAll(toRemove);
-                manager.getFootprints().put(this.chunk, footprintList);
-            }
-        };
+        return () -> context.player().level().galacticraft$getFootprintManager().removeFootprints(this.pos);
     }
 
     @Override
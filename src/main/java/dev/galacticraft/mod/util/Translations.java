@@ -113,6 +113,7 @@ interface Config {
         String OXYGEN_SEALER_ENERGY_CONSUMPTION_RATE = "config.galacticraft.energy.machines.oxygen_collector_energy_consumption_rate";
         String OXYGEN_SEALER_OXYGEN_CONSUMPTION_RATE = "config.galacticraft.energy.machines.oxygen_collector_oxygen_consumption_rate";
         String MAX_SEALING_POWER = "config.galacticraft.machines.max_sealing_power";
+        String ASYNC_SEALING = "config.galacticraft.energy.machines.async_sealing";
         String REFINERY_ENERGY_CONSUMPTION_RATE = "config.galacticraft.energy.machines.refinery_energy_consumption_rate";
         String ELECTRIC_FURNACE_ENERGY_CONSUMPTION_RATE = "config.galacticraft.energy.machines.electric_furnace_energy_consumption_rate";
         String ENERGY_STORAGE_MODULE_STORAGE_SIZE = "config.galacticraft.energy.machines.energy_storage_module_storage_size";
@@ -126,10 +127,15 @@ interface Config {
         String PLAYER = "config.galacticraft.player";
         String PLAYER_LIFE_SUPPORT = "config.galacticraft.lifesupport";
         String PLAYER_OXYGEN_CONSUMPTION_RATE = "config.galacticraft.player.lifesupport.oxygen_consumption_rate";
+        String OXYGEN_SYNC_INTERVAL = "config.galacticraft.player.lifesupport.oxygen_sync_interval";
         String BOSS_HEALTH_MODIFIER = "config.galacticraft.difficulty.dungeon_boss_health_multiplier";
         String BOSS_HEALTH_MODIFIER_DESC = "config.galacticraft.difficulty.dungeon_boss_health_multiplier.desc";
         String SKYBOX = "config.galacticraft.client.skybox";
 
+        String SATELLITES = "config.galacticraft.satellites";
+        String SATELLITE_UNLOAD_DELAY = "config.galacticraft.satellites.unload_delay";
+        String SATELLITE_UNLOAD_DELAY_DESC = "config.galacticraft.satellites.unload_delay.desc";
+
         String COMMANDS = "config.galacticraft.commands";
         String ENABLE_GC_HOUSTON = "config.galacticraft.commands.enable_gc_houston";
     }
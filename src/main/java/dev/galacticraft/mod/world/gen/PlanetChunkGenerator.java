@@ -22,49 +22,79 @@
 
 package dev.galacticraft.mod.world.gen;
 
+import com.mojang.serialization.Codec;
+import com.mojang.serialization.DataResult;
 import com.mojang.serialization.MapCodec;
+import com.mojang.serialization.codecs.RecordCodecBuilder;
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import dev.galacticraft.mod.Constant;
+import dev.galacticraft.mod.world.gen.carver.CraterCarver;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
-import net.minecraft.core.Holder;
+import net.minecraft.core.SectionPos;
 import net.minecraft.server.level.WorldGenRegion;
+import net.minecraft.util.Mth;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.NoiseColumn;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.biome.BiomeManager;
 import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.level.chunk.ChunkAccess;
 import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import net.minecraft.world.level.chunk.PalettedContainer;
 import net.minecraft.world.level.levelgen.GenerationStep;
 import net.minecraft.world.level.levelgen.Heightmap;
-import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
 import net.minecraft.world.level.levelgen.RandomState;
 import net.minecraft.world.level.levelgen.blending.Blender;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Random;
 import java.util.concurrent.CompletableFuture;
 
 /**
- * Empty for now, possibly future replacement for {@link net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator}
+ * Generates terrain as a 2D height field, for airless bodies where evaluating a full 3D density function buys nothing.
+ * The heights of a chunk are sampled as one noise grid, cratered and cached, then written into the chunk sections.
+ * Sections below every surface are filled with a single value palette; the rest are written column by column.
+ * Select it for a dimension with {@code "type": "galacticraft:planet"}.
  */
 public class PlanetChunkGenerator extends ChunkGenerator {
-    private final Holder<NoiseGeneratorSettings> settings = null;
+    public static final MapCodec<PlanetChunkGenerator> CODEC = RecordCodecBuilder.mapCodec(instance ->
+            instance.group(
+                    BiomeSource.CODEC.fieldOf("biome_source").forGetter(generator -> generator.biomeSource),
+                    TerrainSettings.CODEC.fieldOf("terrain").forGetter(generator -> generator.settings)
+            ).apply(instance, PlanetChunkGenerator::new));
+    private static final int MAX_CACHED_CHUNKS = 1024;
 
-    public PlanetChunkGenerator(BiomeSource biomeSource) {
+    private final TerrainSettings settings;
+    private volatile @Nullable Terrain terrain = null;
+
+    public PlanetChunkGenerator(BiomeSource biomeSource, TerrainSettings settings) {
         super(biomeSource);
+        this.settings = settings;
     }
 
     @Override
     protected MapCodec<? extends ChunkGenerator> codec() {
-        return null;
+        return CODEC;
     }
 
     @Override
     public void applyCarvers(WorldGenRegion region, long seed, RandomState randomState, BiomeManager biomeManager, StructureManager structureManager, ChunkAccess chunkAccess, GenerationStep.Carving carving) {
-
+        // Craters are already part of the height field
     }
 
     @Override
     public void buildSurface(WorldGenRegion region, StructureManager structureManager, RandomState randomState, ChunkAccess chunkAccess) {
-
+        // The surface blocks are placed with the rest of the column
     }
 
     @Override
@@ -74,36 +104,252 @@ public void spawnOriginalMobs(WorldGenRegion region) {
 
     @Override
     public int getGenDepth() {
-        return 0;
+        return this.settings.height();
     }
 
     @Override
     public CompletableFuture<ChunkAccess> fillFromNoise(Blender blender, RandomState noiseConfig, StructureManager structureAccessor, ChunkAccess chunk) {
-        return CompletableFuture.completedFuture(chunk);
+        return CompletableFuture.supplyAsync(Util.wrapThreadWithTaskName("wgen_fill_noise", () -> this.fill(noiseConfig, chunk)), Util.backgroundExecutor());
     }
 
     @Override
     public int getSeaLevel() {
-        return 0;
+        // nothing flows on an airless body
+        return this.settings.minY();
     }
 
     @Override
     public int getMinY() {
-        return 0;
+        return this.settings.minY();
     }
 
     @Override
     public int getBaseHeight(int i, int j, Heightmap.Types types, LevelHeightAccessor levelHeightAccessor, RandomState randomState) {
-        return 0;
+        return this.getSurfaceHeight(randomState, i, j) + 1;
     }
 
     @Override
     public NoiseColumn getBaseColumn(int i, int j, LevelHeightAccessor levelHeightAccessor, RandomState randomState) {
-        return null;
+        int surface = this.getSurfaceHeight(randomState, i, j);
+        BlockState[] states = new BlockState[levelHeightAccessor.getHeight()];
+        for (int k = 0; k < states.length; k++) {
+            int y = levelHeightAccessor.getMinBuildHeight() + k;
+            states[k] = y >= this.settings.minY() && y <= surface ? this.getState(y, surface) : Blocks.AIR.defaultBlockState();
+        }
+        return new NoiseColumn(levelHeightAccessor.getMinBuildHeight(), states);
     }
 
     @Override
     public void addDebugScreenInfo(List<String> list, RandomState randomState, BlockPos blockPos) {
 
     }
+
+    /**
+     * @return the y coordinate of the topmost block of the given column
+     */
+    public int getSurfaceHeight(RandomState randomState, int x, int z) {
+        return this.getTerrain(randomState).getHeights(x >> 4, z >> 4)[(x & 15) << 4 | z & 15];
+    }
+
+    private ChunkAccess fill(RandomState randomState, ChunkAccess chunk) {
+        ChunkPos pos = chunk.getPos();
+        int[] heights = this.getTerrain(randomState).getHeights(pos.x, pos.z);
+        int minHeight = Integer.MAX_VALUE;
+        int maxHeight = Integer.MIN_VALUE;
+        for (int height : heights) {
+            minHeight = Math.min(minHeight, height);
+            maxHeight = Math.max(maxHeight, height);
+        }
+
+        int minY = Math.max(this.settings.minY(), chunk.getMinBuildHeight());
+        int maxY = Math.min(maxHeight, chunk.getMaxBuildHeight() - 1);
+        // the highest y at which every column is still the default block
+        int solidY = minHeight - Math.max(this.settings.surfaceDepth(), 1);
+        LevelChunkSection[] sections = chunk.getSections();
+        // Sections above the highest column stay empty, everything else is written a whole column at a time
+        for (int index = chunk.getSectionIndex(minY); index <= chunk.getSectionIndex(maxY); index++) {
+            LevelChunkSection section = chunk.getSection(index);
+            int bottom = SectionPos.sectionToBlockCoord(chunk.getSectionYFromSectionIndex(index));
+            if (bottom >= minY && bottom + 15 <= solidY) {
+                // Sections below every surface hold nothing but the default block, so they get a single value palette instead of 4096 writes
+                sections[index] = new LevelChunkSection(new PalettedContainer<>(Block.BLOCK_STATE_REGISTRY, this.settings.defaultBlock(), PalettedContainer.Strategy.SECTION_STATES), section.getBiomes());
+                continue;
+            }
+
+            int from = Math.max(minY - bottom, 0);
+            section.acquire();
+            try {
+                for (int x = 0; x < 16; x++) {
+                    for (int z = 0; z < 16; z++) {
+                        int surface = heights[x << 4 | z];
+                        int to = Math.min(surface - bottom, 15);
+                        for (int y = from; y <= to; y++) {
+                            section.setBlockState(x, y, z, this.getState(bottom + y, surface), false);
+                        }
+                    }
+                }
+            } finally {
+                section.release();
+            }
+        }
+
+        Heightmap oceanFloor = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.OCEAN_FLOOR_WG);
+        Heightmap worldSurface = chunk.getOrCreateHeightmapUnprimed(Heightmap.Types.WORLD_SURFACE_WG);
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                int surface = Math.min(heights[x << 4 | z], maxY);
+                oceanFloor.update(x, surface, z, this.settings.surfaceBlock());
+                worldSurface.update(x, surface, z, this.settings.surfaceBlock());
+            }
+        }
+        return chunk;
+    }
+
+    private BlockState getState(int y, int surface) {
+        if (y == surface) {
+            return this.settings.surfaceBlock();
+        } else if (y > surface - this.settings.surfaceDepth()) {
+            return this.settings.subsurfaceBlock();
+        }
+        return this.settings.defaultBlock();
+    }
+
+    private Terrain getTerrain(RandomState randomState) {
+        Terrain terrain = this.terrain;
+        if (terrain == null || terrain.randomState != randomState) {
+            // Building the noise is cheap, so racing threads may each make their own
+            terrain = new Terrain(randomState);
+            this.terrain = terrain;
+        }
+        return terrain;
+    }
+
+    /**
+     * The noise and cached heights for one world seed.
+     */
+    private final class Terrain {
+        private final RandomState randomState;
+        private final long seed;
+        private final NoiseModule heightNoise;
+        private final Long2ObjectLinkedOpenHashMap<int[]> heights = new Long2ObjectLinkedOpenHashMap<>();
+
+        private Terrain(RandomState randomState) {
+            TerrainSettings settings = PlanetChunkGenerator.this.settings;
+            this.randomState = randomState;
+            this.seed = randomState.getOrCreateRandomFactory(Constant.id("planet_terrain")).fromHashOf("height").nextLong();
+            this.heightNoise = new Gradient(this.seed, settings.octaves(), settings.persistence());
+            this.heightNoise.setFrequency(settings.frequency());
+            this.heightNoise.amplitude = settings.heightVariation();
+        }
+
+        /**
+         * @return the surface heights of the chunk, indexed by {@code x << 4 | z}
+         */
+        private int[] getHeights(int chunkX, int chunkZ) {
+            long key = ChunkPos.asLong(chunkX, chunkZ);
+            synchronized (this.heights) {
+                int[] heights = this.heights.getAndMoveToFirst(key);
+                if (heights != null) {
+                    return heights;
+                }
+            }
+
+            // Heights are deterministic, so two threads racing on the same chunk just do the work twice
+            int[] heights = this.computeHeights(chunkX, chunkZ);
+            synchronized (this.heights) {
+                this.heights.putAndMoveToFirst(key, heights);
+                if (this.heights.size() > MAX_CACHED_CHUNKS) {
+                    this.heights.removeLast();
+                }
+            }
+            return heights;
+        }
+
+        private int[] computeHeights(int chunkX, int chunkZ) {
+            TerrainSettings settings = PlanetChunkGenerator.this.settings;
+            float[] surface = new float[16 * 16];
+            this.heightNoise.fill2d(surface, chunkX << 4, chunkZ << 4, 1, 1, 16, 16);
+            settings.craters().ifPresent(craters -> this.carveCraters(surface, chunkX, chunkZ, craters));
+
+            int[] heights = new int[16 * 16];
+            for (int i = 0; i < heights.length; i++) {
+                heights[i] = Mth.clamp(Mth.floor(settings.baseHeight() + surface[i]), settings.minY(), settings.minY() + settings.height() - 1);
+            }
+            return heights;
+        }
+
+        /**
+         * Lowers the surface by every crater that reaches into the chunk.
+         * Each chunk may be the centre of one crater, decided only by its position and the seed.
+         */
+        private void carveCraters(float[] surface, int chunkX, int chunkZ, CraterSettings craters) {
+            int minX = chunkX << 4;
+            int minZ = chunkZ << 4;
+            int reach = (craters.maxRadius() + 15) >> 4;
+            Random random = new Random();
+
+            for (int centreChunkX = chunkX - reach; centreChunkX <= chunkX + reach; centreChunkX++) {
+                for (int centreChunkZ = chunkZ - reach; centreChunkZ <= chunkZ + reach; centreChunkZ++) {
+                    random.setSeed(this.seed + centreChunkX * 341873128712L + centreChunkZ * 132897987541L);
+                    if (random.nextFloat() >= craters.chance()) continue;
+
+                    int centreX = (centreChunkX << 4) + random.nextInt(16);
+                    int centreZ = (centreChunkZ << 4) + random.nextInt(16);
+                    double radius = craters.minRadius() + random.nextDouble() * (craters.maxRadius() - craters.minRadius());
+                    double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
+
+                    // only visit the columns the crater can reach
+                    int r = Mth.ceil(radius);
+                    for (int x = Math.max(centreX - r, minX); x < Math.min(centreX + r + 1, minX + 16); x++) {
+                        for (int z = Math.max(centreZ - r, minZ); z < Math.min(centreZ + r + 1, minZ + 16); z++) {
+                            double dx = x - centreX;
+                            double dz = z - centreZ;
+                            surface[(x - minX) << 4 | (z - minZ)] -= (float) CraterCarver.craterDepth(dx * dx + dz * dz, radius, depthMultiplier);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Describes the height field of a planet.
+     *
+     * @param baseHeight the average surface height
+     * @param heightVariation how far the surface may rise above or sink below the base height
+     * @param surfaceDepth how many blocks below the top of each column use the subsurface block
+     */
+    public record TerrainSettings(int minY, int height, int baseHeight, float heightVariation, float frequency, int octaves,
+                                  float persistence, BlockState defaultBlock, BlockState surfaceBlock, BlockState subsurfaceBlock,
+                                  int surfaceDepth, Optional<CraterSettings> craters) {
+        public static final Codec<TerrainSettings> CODEC = RecordCodecBuilder.create(instance -> instance.group(
+                Codec.INT.fieldOf("min_y").forGetter(TerrainSettings::minY),
+                Codec.intRange(16, 4064).fieldOf("height").forGetter(TerrainSettings::height),
+                Codec.INT.fieldOf("base_height").forGetter(TerrainSettings::baseHeight),
+                Codec.floatRange(0, 1024).fieldOf("height_variation").forGetter(TerrainSettings::heightVariation),
+                Codec.floatRange(0, 1).fieldOf("frequency").forGetter(TerrainSettings::frequency),
+                Codec.intRange(1, 16).fieldOf("octaves").forGetter(TerrainSettings::octaves),
+                Codec.floatRange(0, 1).fieldOf("persistence").forGetter(TerrainSettings::persistence),
+                BlockState.CODEC.fieldOf("default_block").forGetter(TerrainSettings::defaultBlock),
+                BlockState.CODEC.fieldOf("surface_block").forGetter(TerrainSettings::surfaceBlock),
+                BlockState.CODEC.fieldOf("subsurface_block").forGetter(TerrainSettings::subsurfaceBlock),
+                Codec.intRange(0, 64).fieldOf("surface_depth").forGetter(TerrainSettings::surfaceDepth),
+                CraterSettings.CODEC.optionalFieldOf("craters").forGetter(TerrainSettings::craters)
+        ).apply(instance, TerrainSettings::new));
+    }
+
+    /**
+     * Describes the craters pressed into the height field.
+     *
+     * @param chance the chance of any chunk being the centre of a crater
+     */
+    public record CraterSettings(float chance, int minRadius, int maxRadius) {
+        public static final Codec<CraterSettings> CODEC = RecordCodecBuilder.<CraterSettings>create(instance -> instance.group(
+                Codec.floatRange(0, 1).fieldOf("chance").forGetter(CraterSettings::chance),
+                Codec.intRange(1, 64).fieldOf("min_radius").forGetter(CraterSettings::minRadius),
+                Codec.intRange(1, 64).fieldOf("max_radius").forGetter(CraterSettings::maxRadius)
+        ).apply(instance, CraterSettings::new)).validate(settings -> settings.minRadius() <= settings.maxRadius()
+                ? DataResult.success(settings)
+                : DataResult.error(() -> "min_radius must not be larger than max_radius"));
+    }
 }
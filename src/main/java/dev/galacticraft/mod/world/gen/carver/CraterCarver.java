@@ -51,7 +51,9 @@ public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAcc
         //pos = center chunk pos
         BlockPos craterCenter = pos.getBlockAt(random.nextInt(16), y, random.nextInt(16));
 
-        if (!chunk.getReferencesForStructure(context.registryAccess().registryOrThrow(Registries.STRUCTURE).getOrThrow(GCStructures.Moon.VILLAGE)).isEmpty()) {
+        // In field mode the exclusion is only looked up once per chunk, rather than once per crater
+        CraterField field = config.field ? CraterField.get(context, chunk, posToBiome, carvingMask) : null;
+        if (field != null ? field.isExcluded() : isExcluded(context, chunk)) {
             return false;
         }
 
@@ -62,30 +64,19 @@ public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAcc
             radius = 8 + (random.nextDouble() * (config.maxRadius - config.minRadius));
         double depthMultiplier = 1 - ((random.nextDouble() - 0.5) * 0.3);
         boolean fresh = random.nextInt(16) == 1;
+        if (field != null) {
+            // dug together with the other craters reaching into this chunk once all carvers have run
+            field.add(craterCenter.getX(), y, craterCenter.getZ(), radius, depthMultiplier, fresh);
+            return true;
+        }
+
+        BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
         for (int innerChunkX = 0; innerChunkX < 16; innerChunkX++) { //iterate through positions in chunk
             for (int innerChunkZ = 0; innerChunkZ < 16; innerChunkZ++) {
-                double toDig = 0;
-
                 double xDev = Math.abs((chunk.getPos().getBlockX(innerChunkX)) - craterCenter.getX());
                 double zDev = Math.abs((chunk.getPos().getBlockZ(innerChunkZ)) - craterCenter.getZ());
                 if (xDev >= 0 && xDev < 32 && zDev >= 0 && zDev < 32) {
-                    if (xDev * xDev + zDev * zDev < radius * radius) { //distance to crater and depth
-                        xDev /= radius;
-                        zDev /= radius;
-                        final double sqrtY = xDev * xDev + zDev * zDev;
-                        double yDev = sqrtY * sqrtY * 6;
-                        double craterDepth = 5 - yDev;
-                        craterDepth *= depthMultiplier;
-                        if (craterDepth > 0.0) {
-                            toDig = craterDepth;
-                        }
-                    }
-
-                    if (toDig >= 1) {
-                        toDig++; // Increase crater depth, but for sum, not each crater
-                        if (fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
-                    }
-                    BlockPos.MutableBlockPos copy = new BlockPos.MutableBlockPos();
+                    double toDig = toDig(xDev, zDev, radius, depthMultiplier, fresh);
                     mutable.set(innerChunkX, y, innerChunkZ);
                     for (int dug = 0; dug < toDig; dug++) {
                         mutable.move(Direction.DOWN);
@@ -107,6 +98,51 @@ public boolean carve(CarvingContext context, CraterCarverConfig config, ChunkAcc
         return true;
     }
 
+    /**
+     * @return whether craters must not be dug in the chunk, because a moon village is being built there
+     */
+    static boolean isExcluded(CarvingContext context, ChunkAccess chunk) {
+        return !chunk.getReferencesForStructure(context.registryAccess().registryOrThrow(Registries.STRUCTURE).getOrThrow(GCStructures.Moon.VILLAGE)).isEmpty();
+    }
+
+    /**
+     * Works out how many blocks a crater digs out of a column in {@link #carve}.
+     * Both ways of digging craters use this, so that they agree to the last bit.
+     *
+     * @param xDev the horizontal distance of the column from the crater centre along x
+     * @param zDev the horizontal distance of the column from the crater centre along z
+     * @return the number of blocks to dig, or {@code 0} if the column is outside the crater
+     */
+    static double toDig(double xDev, double zDev, double radius, double depthMultiplier, boolean fresh) {
+        if (xDev >= 32 || zDev >= 32 || xDev * xDev + zDev * zDev >= radius * radius) return 0;
+        xDev /= radius;
+        zDev /= radius;
+        final double sqrtY = xDev * xDev + zDev * zDev;
+        double toDig = (5 - sqrtY * sqrtY * 6) * depthMultiplier;
+        if (toDig <= 0.0) return 0;
+        if (toDig >= 1) {
+            toDig++; // Increase crater depth, but for sum, not each crater
+            if (fresh) toDig++; // Dig one more block, because we're not replacing the top with turf
+        }
+        return toDig;
+    }
+
+    /**
+     * Works out how deep a crater is at a column, following the same bowl shape as {@link #carve}.
+     *
+     * @param distanceSqr the squared horizontal distance of the column from the crater centre
+     * @param radius the radius of the crater
+     * @param depthMultiplier scales the depth of the whole crater
+     * @return the depth of the crater at the column, or {@code 0} if the column is outside it
+     */
+    public static double craterDepth(double distanceSqr, double radius, double depthMultiplier) {
+        if (distanceSqr >= radius * radius) return 0;
+        double sqrtY = distanceSqr / (radius * radius);
+        double depth = (5 - sqrtY * sqrtY * 6) * depthMultiplier;
+        if (depth <= 0.0) return 0;
+        return depth >= 1 ? depth + 1 : depth;
+    }
+
     @Override
     public boolean isStartChunk(CraterCarverConfig config, RandomSource random) {
         return random.nextFloat() <= config.probability;
@@ -0,0 +1,167 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.carver;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.CarvingMask;
+import net.minecraft.world.level.chunk.ChunkAccess;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.carver.CarvingContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Collects every crater reaching into a chunk while its carvers run, then digs them all in one sweep over the columns.
+ * Each column replays the craters in the order they were carved, following the same rules as digging them one by one
+ * in {@link CraterCarver#carve}, so both ways produce the same terrain and carving mask. The sweep saves looking up the
+ * village exclusion for every crater, skips the air above the worldgen surface, and writes straight to the sections.
+ * Carving a chunk happens on a single thread, so the field being built is kept per thread.
+ */
+public class CraterField {
+    private static final ThreadLocal<@Nullable CraterField> CURRENT = new ThreadLocal<>();
+    private static final BlockState AIR = Blocks.AIR.defaultBlockState();
+    // The crater carver marks the carving mask 64 blocks above the block it starts digging at
+    private static final int MASK_OFFSET = 64;
+
+    private final ChunkAccess chunk;
+    private final CarvingContext context;
+    private final Function<BlockPos, Holder<Biome>> posToBiome;
+    private final CarvingMask carvingMask;
+    private final boolean excluded;
+    private final List<Crater> craters = new ArrayList<>();
+
+    private CraterField(CarvingContext context, ChunkAccess chunk, Function<BlockPos, Holder<Biome>> posToBiome, CarvingMask carvingMask) {
+        this.chunk = chunk;
+        this.context = context;
+        this.posToBiome = posToBiome;
+        this.carvingMask = carvingMask;
+        this.excluded = CraterCarver.isExcluded(context, chunk);
+    }
+
+    /**
+     * @return the field of the chunk being carved on this thread, starting a new one for the first crater of a chunk
+     */
+    public static CraterField get(CarvingContext context, ChunkAccess chunk, Function<BlockPos, Holder<Biome>> posToBiome, CarvingMask carvingMask) {
+        CraterField field = CURRENT.get();
+        if (field == null || field.chunk != chunk) {
+            field = new CraterField(context, chunk, posToBiome, carvingMask);
+            CURRENT.set(field);
+        }
+        return field;
+    }
+
+    /**
+     * Digs the craters collected for the given chunk, if any. Called once all carvers have run.
+     */
+    public static void apply(ChunkAccess chunk) {
+        CraterField field = CURRENT.get();
+        if (field != null) {
+            CURRENT.remove();
+            if (field.chunk == chunk) {
+                field.dig();
+            }
+        }
+    }
+
+    /**
+     * @return whether craters must not be dug in this chunk at all
+     */
+    public boolean isExcluded() {
+        return this.excluded;
+    }
+
+    public void add(int centreX, int y, int centreZ, double radius, double depthMultiplier, boolean fresh) {
+        this.craters.add(new Crater(centreX, y, centreZ, radius, depthMultiplier, fresh));
+    }
+
+    private void dig() {
+        if (this.craters.isEmpty()) return;
+
+        int minY = this.chunk.getMinBuildHeight();
+        int minX = this.chunk.getPos().getMinBlockX();
+        int minZ = this.chunk.getPos().getMinBlockZ();
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                // Everything above the worldgen surface is unmarked air, so start looking for the ground there.
+                // Taken before any crater digs this column, as a dug crater still has to be found by the ones after it.
+                int surface = this.chunk.getHeight(Heightmap.Types.WORLD_SURFACE_WG, x, z);
+                int top = Integer.MIN_VALUE;
+
+                for (Crater crater : this.craters) {
+                    double toDig = CraterCarver.toDig(Math.abs(minX + x - crater.x), Math.abs(minZ + z - crater.z), crater.radius, crater.depthMultiplier, crater.fresh);
+                    if (toDig <= 0) continue;
+
+                    // Craters start digging at the ground, or where an earlier crater started
+                    int y = Math.min(crater.y - 1, surface);
+                    while (y >= minY && this.getState(x, y, z).isAir() && !this.carvingMask.get(x, y + MASK_OFFSET, z)) {
+                        y--;
+                    }
+                    if (y < minY) continue;
+                    this.carvingMask.set(x, y + MASK_OFFSET, z);
+                    top = Math.max(top, y);
+
+                    int bottom = y;
+                    for (int dug = 0; dug < toDig; dug++) {
+                        bottom = y - dug;
+                        if (bottom >= minY) {
+                            this.setState(x, bottom, z, AIR);
+                        }
+                    }
+
+                    if (!crater.fresh && bottom - 2 >= minY && !this.getState(x, bottom - 2, z).isAir()) {
+                        // the carver hands the surface rules the position within the chunk
+                        Optional<BlockState> material = this.context.topMaterial(this.posToBiome, this.chunk, mutable.set(x, bottom, z), false);
+                        if (material.isPresent()) {
+                            this.setState(x, bottom - 1, z, material.get());
+                        }
+                    }
+                }
+                if (top == Integer.MIN_VALUE) continue;
+
+                for (Heightmap.Types type : this.chunk.getPersistedStatus().heightmapsAfter()) {
+                    this.chunk.getOrCreateHeightmapUnprimed(type).update(x, top, z, AIR);
+                }
+            }
+        }
+    }
+
+    private BlockState getState(int x, int y, int z) {
+        return this.chunk.getSection(this.chunk.getSectionIndex(y)).getBlockState(x, y & 15, z);
+    }
+
+    private void setState(int x, int y, int z, BlockState state) {
+        this.chunk.getSection(this.chunk.getSectionIndex(y)).setBlockState(x, y & 15, z, state, false);
+    }
+
+    private record Crater(int x, int y, int z, double radius, double depthMultiplier, boolean fresh) {
+    }
+}
@@ -75,7 +75,8 @@ public static void bootstrapRegistries(BootstrapContext<ConfiguredWorldCarver<?>
                 CarverDebugSettings.DEFAULT,
                 27,
                 8,
-                8
+                8,
+                true
         )));
         context.register(MOON_HIGHLANDS_CAVE_CARVER, GCCarvers.LUNAR_CAVE.configured(new CaveCarverConfiguration(
                 0.15f,
@@ -40,17 +40,24 @@ public class CraterCarverConfig extends CarverConfiguration {
             CarverDebugSettings.CODEC.fieldOf("debug_settings").forGetter(i -> i.debugSettings),
             Codec.INT.fieldOf("max_radius").forGetter(i -> i.maxRadius),
             Codec.INT.fieldOf("min_radius").forGetter(i -> i.minRadius),
-            Codec.INT.fieldOf("ideal_range_offset").forGetter(i -> i.idealRangeOffset)
+            Codec.INT.fieldOf("ideal_range_offset").forGetter(i -> i.idealRangeOffset),
+            Codec.BOOL.optionalFieldOf("field", false).forGetter(i -> i.field)
     ).apply(instance, CraterCarverConfig::new));
 
     public final int maxRadius;
     public final int minRadius;
     public final int idealRangeOffset;
+    /**
+     * Whether to collect all craters reaching into a chunk and dig them in one pass, instead of digging each crater on its own.
+     * Both ways dig the same terrain, so this can be switched on for an existing dimension.
+     */
+    public final boolean field;
 
-    public CraterCarverConfig(float probability, HeightProvider y, FloatProvider yScale, CarverDebugSettings carverDebugConfig, int maxRadius, int minRadius, int idealRangeOffset) {
+    public CraterCarverConfig(float probability, HeightProvider y, FloatProvider yScale, CarverDebugSettings carverDebugConfig, int maxRadius, int minRadius, int idealRangeOffset, boolean field) {
         super(probability, y, yScale, VerticalAnchor.bottom(), carverDebugConfig, BuiltInRegistries.BLOCK.getOrCreateTag(GCTags.MOON_CRATER_CARVER_REPLACEABLES)); // TODO: Crater replaceables
         this.maxRadius = maxRadius;
         this.minRadius = minRadius;
         this.idealRangeOffset = idealRangeOffset;
+        this.field = field;
     }
 }
@@ -31,12 +31,10 @@
 import dev.galacticraft.api.vector.BlockVec3;
 import dev.galacticraft.mod.content.GCBlocks;
 import dev.galacticraft.mod.world.gen.base.MapGenAbandonedBase;
-import net.minecraft.client.Minecraft;
+import net.minecraft.Util;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Holder;
 import net.minecraft.nbt.CompoundTag;
-import net.minecraft.nbt.ListTag;
-import net.minecraft.nbt.NbtIo;
 import net.minecraft.resources.ResourceKey;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
@@ -44,6 +42,7 @@
 import net.minecraft.world.level.Level;
 import net.minecraft.world.level.LevelHeightAccessor;
 import net.minecraft.world.level.NoiseColumn;
+import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.StructureManager;
 import net.minecraft.world.level.biome.BiomeManager;
 import net.minecraft.world.level.biome.BiomeSource;
@@ -59,12 +58,12 @@
 import net.minecraft.world.level.levelgen.blending.Blender;
 import net.minecraft.world.level.storage.DimensionDataStorage;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static dev.galacticraft.impl.internal.fabric.GalacticraftAPI.currentWorldSaveDirectory;
 import static dev.galacticraft.mod.world.gen.custom.AsteroidSaveData.saveDataID;
@@ -73,20 +72,17 @@
 public class AsteroidChunkGenerator extends ChunkGenerator {
 
     //from WorldAsteroidProvider
-    private HashSet<AsteroidData> asteroids = new HashSet<>();
-    private boolean dataNotLoaded = true;
-    private AsteroidSaveData datafile;
+    private @Nullable AsteroidRegistry registry;
     private double solarMultiplier = -1D;
 
-    private int largeCount = 0;
-    private final Random rand;
     private final NoiseModule asteroidDensity;
+    private final AsteroidPlacementIndex placementIndex;
     private final NoiseModule asteroidTurbulance;
     private final ResourceKey<Level> dimensionKey;
 
-    private final NoiseModule asteroidSkewX;
-    private final NoiseModule asteroidSkewY;
-    private final NoiseModule asteroidSkewZ;
+    // The skew noise frequency depends on the asteroid size, so each size gets its own modules
+    // instead of mutating shared ones while chunks are generated in parallel
+    private final SkewNoise[] asteroidSkew;
 
     private final SpecialAsteroidBlockHandler coreHandler;
     private final SpecialAsteroidBlockHandler shellHandler;
@@ -95,17 +91,17 @@ public class AsteroidChunkGenerator extends ChunkGenerator {
     private static final int CHUNK_SIZE_Y = 384;
     private static final int CHUNK_SIZE_Z = 16;
 
-    private static final int MAX_ASTEROID_RADIUS = 25;
-    private static final int MIN_ASTEROID_RADIUS = 5;
+    static final int MAX_ASTEROID_RADIUS = 25;
+    static final int MIN_ASTEROID_RADIUS = 5;
 
-    private static final int MAX_ASTEROID_SKEW = 8;
+    static final int MAX_ASTEROID_SKEW = 8;
 
     //MIN_ASTEROID_Y is -64 + 48
-    private static final int MIN_ASTEROID_Y = -16;
+    static final int MIN_ASTEROID_Y = -16;
     //MAX_ASTEROID_Y is 384 - 64 - 48
-    private static final int MAX_ASTEROID_Y = AsteroidChunkGenerator.CHUNK_SIZE_Y - 64 - 48;
+    static final int MAX_ASTEROID_Y = AsteroidChunkGenerator.CHUNK_SIZE_Y - 64 - 48;
     //default is 800
-    private static final int ASTEROID_CHANCE = 800;
+    static final int ASTEROID_CHANCE = 800;
     private static final int ASTEROID_CORE_CHANCE = 2; //1 / n chance per asteroid
     private static final int ASTEROID_SHELL_CHANCE = 2; //1 / n chance per asteroid
 
@@ -135,10 +131,7 @@ public class AsteroidChunkGenerator extends ChunkGenerator {
     private static final int LAVA_CHANCE = 2;
     private static final int GLOWSTONE_CHANCE = 20;
 
-    private LinkedList<AsteroidData> largeAsteroids = new LinkedList<AsteroidData>();
-    private static HashSet<BlockVec3> chunksDone = new HashSet<BlockVec3>();
-    private int largeAsteroidsLastChunkX;
-    private int largeAsteroidsLastChunkZ;
+    private final Set<Long> chunksDone = ConcurrentHashMap.newKeySet();
     private final MapGenAbandonedBase dungeonGenerator = new MapGenAbandonedBase();
 
     public static final MapCodec<AsteroidChunkGenerator> CODEC = RecordCodecBuilder.mapCodec(instance ->
@@ -152,27 +145,25 @@ public class AsteroidChunkGenerator extends ChunkGenerator {
     public AsteroidChunkGenerator(BiomeSource biomeSource, ResourceKey<Level> dimensionKey, long par2) {
         super(biomeSource);
         this.dimensionKey = dimensionKey;
-        this.rand = new Random(par2);
+        Random rand = new Random(par2);
 
-        this.asteroidDensity = new Billowed(this.rand.nextLong(), 2, .25F);
+        this.asteroidDensity = new Billowed(rand.nextLong(), 2, .25F);
         this.asteroidDensity.setFrequency(.009F);
         this.asteroidDensity.amplitude = .6F;
+        this.placementIndex = new AsteroidPlacementIndex(this.asteroidDensity);
 
-        this.asteroidTurbulance = new Gradient(this.rand.nextLong(), 1, .2F);
+        this.asteroidTurbulance = new Gradient(rand.nextLong(), 1, .2F);
         this.asteroidTurbulance.setFrequency(.08F);
         this.asteroidTurbulance.amplitude = .5F;
 
-        this.asteroidSkewX = new Gradient(this.rand.nextLong(), 1, 1);
-        this.asteroidSkewX.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
-        this.asteroidSkewX.frequencyX = 0.005F;
-
-        this.asteroidSkewY = new Gradient(this.rand.nextLong(), 1, 1);
-        this.asteroidSkewY.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
-        this.asteroidSkewY.frequencyY = 0.005F;
-
-        this.asteroidSkewZ = new Gradient(this.rand.nextLong(), 1, 1);
-        this.asteroidSkewZ.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
-        this.asteroidSkewZ.frequencyZ = 0.005F;
+        long skewSeedX = rand.nextLong();
+        long skewSeedY = rand.nextLong();
+        long skewSeedZ = rand.nextLong();
+        this.asteroidSkew = new SkewNoise[AsteroidChunkGenerator.MAX_ASTEROID_RADIUS - AsteroidChunkGenerator.MIN_ASTEROID_RADIUS];
+        for (int i = 0; i < this.asteroidSkew.length; i++) {
+            int size = i + AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
+            this.asteroidSkew[i] = SkewNoise.create(skewSeedX, skewSeedY, skewSeedZ, 1F / (size * 2F / 2F));
+        }
 
         this.coreHandler = new SpecialAsteroidBlockHandler();
         this.coreHandler.addBlock(new SpecialAsteroidBlock(GCBlocks.ASTEROID_ROCK_2, 5, .3));
@@ -204,44 +195,35 @@ public AsteroidChunkGenerator(BiomeSource biomeSource, ResourceKey<Level> dimens
     }
 
     private ChunkAccess generateChunkData(Blender blender, RandomState randomState, StructureManager structureManager, ChunkAccess chunkAccess) {
-        int heightLimit = chunkAccess.getHeight();
-        int chunkX = chunkAccess.getPos().x;
-        int chunkZ = chunkAccess.getPos().z;
+        this.generateLargeAsteroids(chunkAccess.getPos().x, chunkAccess.getPos().z, chunkAccess);
+        return chunkAccess;
+    }
 
-        this.largeAsteroids.clear();
-        this.largeCount = 0;
+    /**
+     * Generates the parts of all large asteroids which are in the given chunk.
+     * All scratch state is local to the call, so chunks can be generated in parallel.
+     *
+     * @param primer the chunk to place blocks in, or {@code null} to only collect the asteroids
+     * @return the asteroids which overlap the given chunk
+     */
+    private List<AsteroidData> generateLargeAsteroids(int chunkX, int chunkZ, @Nullable ChunkAccess primer) {
+        List<AsteroidData> largeAsteroids = new ArrayList<>();
         final Random random = new Random();
-        final int asteroidChance = AsteroidChunkGenerator.ASTEROID_CHANCE;
-        final int rangeY = AsteroidChunkGenerator.MAX_ASTEROID_Y - AsteroidChunkGenerator.MIN_ASTEROID_Y;
-        final int rangeSize = AsteroidChunkGenerator.MAX_ASTEROID_RADIUS - AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
-
-        //If asteroid centre is nearby might need to generate some asteroid parts in this chunk
-        for (int i = chunkX - 3; i < chunkX + 3; i++) {
-            int minX = i * 16;
-            int maxX = minX + AsteroidChunkGenerator.CHUNK_SIZE_X;
-            for (int k = chunkZ - 3; k < chunkZ + 3; k++) {
-                int minZ = k * 16;
-                int maxZ = minZ + AsteroidChunkGenerator.CHUNK_SIZE_Z;
-
-                //something about redundant code in gc4's code
-                for (int x = minX; x < maxX; x += 2) {
-                    for (int z = minZ; z < maxZ; z += 2) {
-                        //the next line is called 3136 times per chunk generated apparently? saying something about slow getNoise
-                        if (this.randFromPointPos(x, z) < (this.asteroidDensity.getNoise(x, z) + .4) / asteroidChance) {
-                            random.setSeed(x + z * 3067);
-                            int y = random.nextInt(rangeY) + AsteroidChunkGenerator.MIN_ASTEROID_Y;
-                            int size = random.nextInt(rangeSize) + AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
-
-                            //generate the parts of the asteroid which are in this chunk
-                            this.generateAsteroid(random, x, y, z, chunkX << 4, chunkZ << 4, size, chunkAccess);
-                            this.largeCount++;
-                        }
-                    }
-                }
+        final int minX = chunkX << 4;
+        final int minZ = chunkZ << 4;
+
+        //Only asteroids whose bounding box reaches into this chunk need to generate anything here
+        for (AsteroidPlacementIndex.AsteroidPlacement placement : this.placementIndex.query(minX, minZ, minX + AsteroidChunkGenerator.CHUNK_SIZE_X, minZ + AsteroidChunkGenerator.CHUNK_SIZE_Z)) {
+            AsteroidPlacementIndex.roll(random, placement.x(), placement.z());
+
+            //generate the parts of the asteroid which are in this chunk
+            AsteroidData asteroidData = this.generateAsteroid(random, placement.x(), placement.y(), placement.z(), minX, minZ, placement.radius(), primer);
+            if (asteroidData != null) {
+                largeAsteroids.add(asteroidData);
             }
         }
 
-        return chunkAccess;
+        return largeAsteroids;
     }
 
     public DimensionDataStorage getDimensionDataStorage(MinecraftServer server) {
@@ -252,7 +234,7 @@ public DimensionDataStorage getDimensionDataStorage(MinecraftServer server) {
         return level.getDataStorage();
     }
 
-    private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int asteroidZ, int chunkX, int chunkZ, int size, ChunkAccess primer) {
+    private @Nullable AsteroidData generateAsteroid(Random rand, int asteroidX, int asteroidY, int asteroidZ, int chunkX, int chunkZ, int size, @Nullable ChunkAccess primer) {
         SpecialAsteroidBlock core = this.coreHandler.getBlock(rand, size);
 
         SpecialAsteroidBlock shell = null;
@@ -281,46 +263,27 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
         final int zSize = zMax - zMin;
 
         if (xSize <= 0 || ySize <= 0 || zSize <= 0) {
-            return;
+            return null;
         }
 
         final float noiseOffsetX = this.randFromPoint(asteroidX, asteroidY, asteroidZ) * AsteroidChunkGenerator.NOISE_OFFSET_SIZE + chunkX;
         final float noiseOffsetY = this.randFromPoint(asteroidX * 7, asteroidY * 11, asteroidZ * 13) * AsteroidChunkGenerator.NOISE_OFFSET_SIZE;
         final float noiseOffsetZ = this.randFromPoint(asteroidX * 17, asteroidY * 23, asteroidZ * 29) * AsteroidChunkGenerator.NOISE_OFFSET_SIZE + chunkZ;
-        this.setOtherAxisFrequency(1F / (size * 2F / 2F));
+        final SkewNoise skew = this.asteroidSkew[size - AsteroidChunkGenerator.MIN_ASTEROID_RADIUS];
 
         float[] sizeXArray = new float[ySize * zSize];
         float[] sizeZArray = new float[xSize * ySize];
         float[] sizeYArray = new float[xSize * zSize];
 
-        for (int x = 0; x < xSize; x++) {
-            int xx = x * zSize;
-            float xxx = x + noiseOffsetX;
-            for (int z = 0; z < zSize; z++) {
-                sizeYArray[xx + z] = this.asteroidSkewY.getNoise(xxx, z + noiseOffsetZ);
-            }
-        }
+        skew.y().fill2d(sizeYArray, noiseOffsetX, noiseOffsetZ, 1, 1, xSize, zSize);
 
         AsteroidData asteroidData = new AsteroidData(isHollow, sizeYArray, xMin, zMin, xMax, zMax, zSize, size, asteroidX, asteroidY, asteroidZ);
-        this.largeAsteroids.add(asteroidData);
-        this.largeAsteroidsLastChunkX = chunkX;
-        this.largeAsteroidsLastChunkZ = chunkZ;
-
-        for (int y = 0; y < ySize; y++) {
-            int yy = y * zSize;
-            float yyy = y + noiseOffsetY;
-            for (int z = 0; z < zSize; z++) {
-                sizeXArray[yy + z] = this.asteroidSkewX.getNoise(yyy, z + noiseOffsetZ);
-            }
+        if (primer == null) {
+            return asteroidData;
         }
 
-        for (int x = 0; x < xSize; x++) {
-            int xx = x * ySize;
-            float xxx = x + noiseOffsetX;
-            for (int y = 0; y < ySize; y++) {
-                sizeZArray[xx + y] = this.asteroidSkewZ.getNoise(xxx, y + noiseOffsetY);
-            }
-        }
+        skew.x().fill2d(sizeXArray, noiseOffsetY, noiseOffsetZ, 1, 1, ySize, zSize);
+        skew.z().fill2d(sizeZArray, noiseOffsetX, noiseOffsetY, 1, 1, xSize, ySize);
 
         double shellThickness = 0;
         int terrainY = 0;
@@ -451,7 +414,7 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
                             BlockState state = primer.getBlockState(new BlockPos(x, y, z));
                             BlockState stateAbove = primer.getBlockState(new BlockPos(x, y + 1, z));
                             if (Blocks.AIR == stateAbove.getBlock() && (state.getBlock() == GCBlocks.ASTEROID_ROCK || state.getBlock() == GCBlocks.ASTEROID_ROCK_1 || state.getBlock() == GCBlocks.ASTEROID_ROCK_2 || state.getBlock() == Blocks.GRASS_BLOCK)) {
-                                if (this.rand.nextInt(GLOWSTONE_CHANCE) == 0) {
+                                if (rand.nextInt(GLOWSTONE_CHANCE) == 0) {
                                     primer.setBlockState(new BlockPos(x, y, z), Blocks.GLOWSTONE.defaultBlockState(), false);
 //                                    blockArray[index] = this.LIGHT;
 //                                    metaArray[index] = this.LIGHT_META;
@@ -462,6 +425,7 @@ private void generateAsteroid(Random rand, int asteroidX, int asteroidY, int ast
                 }
             }
         }
+        return asteroidData;
     }
 
     private final int getTerrainHeightFor(float yMod, int asteroidY, int asteroidSize) {
@@ -489,7 +453,7 @@ public void applyCarvers(WorldGenRegion region, long seed, RandomState randomSta
 
         int x = chunkX << 4;
         int z = chunkZ << 4;
-        if (!AsteroidChunkGenerator.chunksDone.add(new BlockVec3(x, 0, z))) {
+        if (!this.chunksDone.add(ChunkPos.asLong(chunkX, chunkZ))) {
             return;
         }
 
@@ -497,36 +461,36 @@ public void applyCarvers(WorldGenRegion region, long seed, RandomState randomSta
 //        this.world.getBiome(new BlockPos(x + 16, 0, z + 16));
 //        BlockFalling.fallInstantly = false;
 
-        this.rand.setSeed(seed);
-        long var7 = this.rand.nextLong() / 2L * 2L + 1L;
-        long var9 = this.rand.nextLong() / 2L * 2L + 1L;
-        this.rand.setSeed(chunkX * var7 + chunkZ * var9 ^ seed);
+        Random rand = new Random(seed);
+        long var7 = rand.nextLong() / 2L * 2L + 1L;
+        long var9 = rand.nextLong() / 2L * 2L + 1L;
+        rand.setSeed(chunkX * var7 + chunkZ * var9 ^ seed);
 
         //50:50 chance to include small blocks each chunk
-        if (this.rand.nextBoolean()) {
+        if (rand.nextBoolean()) {
             double density = this.asteroidDensity.getNoise(chunkX * 16, chunkZ * 16) * 0.54;
             double numOfBlocks = this.clamp(this.randFromPoint(chunkX, chunkZ), .4, 1) * AsteroidChunkGenerator.MAX_BLOCKS_PER_CHUNK * density + AsteroidChunkGenerator.MIN_BLOCKS_PER_CHUNK;
-            int y0 = this.rand.nextInt(2);
+            int y0 = rand.nextInt(2);
             Block block;
             int yRange = AsteroidChunkGenerator.MAX_ASTEROID_Y - AsteroidChunkGenerator.MIN_ASTEROID_Y;
             x += 4;
             z += 4;
 
             for (int i = 0; i < numOfBlocks; i++) {
-                int y = this.rand.nextInt(yRange) + AsteroidChunkGenerator.MIN_ASTEROID_Y;
+                int y = rand.nextInt(yRange) + AsteroidChunkGenerator.MIN_ASTEROID_Y;
 
                 //50:50 chance vertically as well
                 if (y0 == (y / 16) % 2) {
-                    int px = x + this.rand.nextInt(AsteroidChunkGenerator.CHUNK_SIZE_X);
-                    int pz = z + this.rand.nextInt(AsteroidChunkGenerator.CHUNK_SIZE_Z);
+                    int px = x + rand.nextInt(AsteroidChunkGenerator.CHUNK_SIZE_X);
+                    int pz = z + rand.nextInt(AsteroidChunkGenerator.CHUNK_SIZE_Z);
 
                     block = GCBlocks.ASTEROID_ROCK;
 
-                    if (this.rand.nextInt(ILMENITE_CHANCE) == 0) {
+                    if (rand.nextInt(ILMENITE_CHANCE) == 0) {
                         block = GCBlocks.ILMENITE_ORE;
-                    } else if (this.rand.nextInt(IRON_CHANCE) == 0) {
+                    } else if (rand.nextInt(IRON_CHANCE) == 0) {
                         block = GCBlocks.MARS_IRON_ORE;
-                    } else if (this.rand.nextInt(ALUMINUM_CHANCE) == 0) {
+                    } else if (rand.nextInt(ALUMINUM_CHANCE) == 0) {
                         block = GCBlocks.ALUMINUM_ORE;
                     }
 
@@ -546,15 +510,13 @@ public void applyCarvers(WorldGenRegion region, long seed, RandomState randomSta
             }
         }
 
-        if (this.largeAsteroidsLastChunkX != chunkX || this.largeAsteroidsLastChunkZ != chunkZ) {
-            this.generateChunkData(null, null, null, chunkAccess);
-        }
+        List<AsteroidData> largeAsteroids = this.generateLargeAsteroids(chunkX, chunkZ, null);
 
-        this.rand.setSeed(chunkX * var7 + chunkZ * var9 ^ seed);
+        rand.setSeed(chunkX * var7 + chunkZ * var9 ^ seed);
 
         //Look for hollow asteroids to populate
-        if (!this.largeAsteroids.isEmpty()) {
-            for (AsteroidData asteroidIndex : new ArrayList<AsteroidData>(this.largeAsteroids)) {
+        if (!largeAsteroids.isEmpty()) {
+            for (AsteroidData asteroidIndex : largeAsteroids) {
                 if (asteroidIndex == null) return;
                 if (!asteroidIndex.isHollow) {
                     continue;
@@ -644,19 +606,7 @@ public int getGenDepth() {
 
     @Override
     public CompletableFuture<ChunkAccess> fillFromNoise(Blender blender, RandomState noiseConfig, StructureManager structureAccessor, ChunkAccess chunk) {
-        CompletableFuture<ChunkAccess> future = new CompletableFuture<>();
-
-        Minecraft.getInstance().submit(() -> {
-            try {
-                // This operation will now run on Minecraft's main thread
-                ChunkAccess result = generateChunkData(blender, noiseConfig, structureAccessor, chunk);
-                future.complete(result);
-            } catch (Exception e) {
-                future.completeExceptionally(e);
-            }
-        });
-
-        return future;
+        return CompletableFuture.supplyAsync(Util.wrapThreadWithTaskName("wgen_fill_noise", () -> this.generateChunkData(blender, noiseConfig, structureAccessor, chunk)), Util.backgroundExecutor());
     }
 
     public void resetBase() {
@@ -689,22 +639,27 @@ public void addDebugScreenInfo(List<String> list, RandomState randomState, Block
 
     }
 
-    private float randFromPointPos(int x, int z) {
-        int n = x + z * 57;
-        n ^= n << 13;
-        n = n * (n * n * 15731 + 789221) + 1376312589 & 0x3fffffff;
-        return 1.0F - n / 1073741824.0F;
-    }
-
-    private final void setOtherAxisFrequency(float frequency) {
-        this.asteroidSkewX.frequencyY = frequency;
-        this.asteroidSkewX.frequencyZ = frequency;
+    private record SkewNoise(NoiseModule x, NoiseModule y, NoiseModule z) {
+        private static SkewNoise create(long seedX, long seedY, long seedZ, float frequency) {
+            NoiseModule x = new Gradient(seedX, 1, 1);
+            x.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
+            x.frequencyX = 0.005F;
+            x.frequencyY = frequency;
+            x.frequencyZ = frequency;
 
-        this.asteroidSkewY.frequencyX = frequency;
-        this.asteroidSkewY.frequencyZ = frequency;
+            NoiseModule y = new Gradient(seedY, 1, 1);
+            y.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
+            y.frequencyX = frequency;
+            y.frequencyY = 0.005F;
+            y.frequencyZ = frequency;
 
-        this.asteroidSkewZ.frequencyX = frequency;
-        this.asteroidSkewZ.frequencyY = frequency;
+            NoiseModule z = new Gradient(seedZ, 1, 1);
+            z.amplitude = AsteroidChunkGenerator.MAX_ASTEROID_SKEW;
+            z.frequencyX = frequency;
+            z.frequencyY = frequency;
+            z.frequencyZ = 0.005F;
+            return new SkewNoise(x, y, z);
+        }
     }
 
     private final int clamp(int x, int min, int max) {
@@ -740,43 +695,32 @@ private float randFromPoint(int x, int z) {
     }
 
     public void addAsteroid(int x, int y, int z, int size, int core) {
-        AsteroidData coords = new AsteroidData(x, y, z, size, core);
-        if (!this.asteroids.contains(coords)) {
-            if (this.dataNotLoaded) {
-                this.loadAsteroidSavedData();
-            }
-            if (!this.asteroids.contains(coords)) {
-                this.addToNBT(this.datafile.datacompound, coords);
-                this.asteroids.add(coords);
-            }
-        }
+        this.getAsteroidRegistry().add(new AsteroidRegistry.Asteroid(x, y, z, size, core));
     }
 
-    private void addToNBT(CompoundTag nbt, AsteroidData coords) {
-        ListTag coordList = nbt.getList("coords", 10);
-        CompoundTag tag = new CompoundTag();
-        coords.writeToNBT(tag);
-        coordList.add(tag);
-        nbt.put("coords", coordList);
-        this.datafile.setDirty();
-        Path dataPath = Path.of(currentWorldSaveDirectory.toString(), saveDataID);
-        Path dataFile = dataPath.resolve("data.dat");
-        this.setData(dataFile, datafile);
+    /**
+     * Writes the asteroids recorded since the last save in the background.
+     *
+     * @param flush whether to wait for the writes to finish
+     */
+    public void saveAsteroids(boolean flush) {
+        AsteroidRegistry registry;
+        synchronized (this) {
+            registry = this.registry;
+        }
+        if (registry != null) {
+            registry.save(flush);
+        }
     }
 
-
-    private void writeToNBT(CompoundTag nbt) {
-        ListTag coordList = new ListTag();
-        for (AsteroidData coords : this.asteroids) {
-            CompoundTag tag = new CompoundTag();
-            coords.writeToNBT(tag);
-            coordList.add(tag);
+    /**
+     * @return the asteroids generated in this dimension so far
+     */
+    public synchronized AsteroidRegistry getAsteroidRegistry() {
+        if (this.registry == null) {
+            this.registry = new AsteroidRegistry(Path.of(currentWorldSaveDirectory.toString(), saveDataID));
         }
-        nbt.put("coords", coordList);
-        this.datafile.setDirty();
-        Path dataPath = Path.of(currentWorldSaveDirectory.toString(), saveDataID);
-        Path dataFile = dataPath.resolve("data.dat");
-        this.setData(dataFile, datafile);
+        return this.registry;
     }
 
     private static class AsteroidData {
@@ -880,122 +824,17 @@ private int getIndex(int x, int y, int z) {
         return x * AsteroidChunkGenerator.CHUNK_SIZE_Y * 16 | z * AsteroidChunkGenerator.CHUNK_SIZE_Y | y;
     }
 
-    public void loadAsteroidSavedData() {
-        Path dataPath = Path.of(currentWorldSaveDirectory.toString(), saveDataID);
-        Path dataFile = dataPath.resolve("data.dat");
-
-        this.datafile = this.loadData(dataFile);
-
-        if (this.datafile == null) {
-            if (!Files.exists(dataFile)) {
-                try {
-                    Files.createDirectories(dataPath);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-                try {
-                    Files.createFile(dataFile);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            }
-            this.datafile = new AsteroidSaveData("");
-            this.writeToNBT(this.datafile.datacompound);
-            this.setData(dataFile, this.datafile);
-        } else {
-            this.readFromNBT(this.datafile.datacompound);
-        }
-
-        this.dataNotLoaded = false;
-
-    }
-
-    public void setData(Path filePath, AsteroidSaveData data) {
-        try {
-            NbtIo.write(data.datacompound, filePath);
-        } catch (IOException e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    public AsteroidSaveData loadData(Path filePath) {
-        if (Files.exists(filePath)) {
-            CompoundTag tag;
-            try {
-                tag = NbtIo.read(filePath);
-            } catch (IOException e) {
-                throw new RuntimeException(e);
-            }
-            AsteroidSaveData saveData = new AsteroidSaveData("");
-            saveData.datacompound = tag;
-            return saveData;
-        } else {
+    /**
+     * Finds the closest large asteroid within 32 chunks, using the cached placements rather than sampling the noise again.
+     *
+     * @return the origin of the chunk the asteroid is centred in, or {@code null} if there is none in range
+     */
+    public @Nullable BlockVec3 isLargeAsteroidAt(int x0, int z0) {
+        AsteroidPlacementIndex.AsteroidPlacement nearest = this.placementIndex.nearest(x0, z0, 32 * 16);
+        if (nearest == null) {
             return null;
         }
-    }
-
-
-    private void readFromNBT(CompoundTag nbt) {
-        ListTag coordList = nbt.getList("coords", 10);
-        if (coordList.size() > 0) {
-            for (int j = 0; j < coordList.size(); j++) {
-                CompoundTag tag1 = coordList.getCompound(j);
-
-                if (tag1 != null) {
-                    this.asteroids.add(AsteroidData.readFromNBT(tag1));
-                }
-            }
-        }
-    }
-
-    public BlockVec3 isLargeAsteroidAt(int x0, int z0) {
-        int xToCheck;
-        int zToCheck;
-        for (int i0 = 0; i0 <= 32; i0++) {
-            for (int i1 = -i0; i1 <= i0; i1++) {
-                xToCheck = (x0 >> 4) + i0;
-                zToCheck = (z0 >> 4) + i1;
-
-                if (isLargeAsteroidAt0(xToCheck * 16, zToCheck * 16)) {
-                    return new BlockVec3(xToCheck * 16, 0, zToCheck * 16);
-                }
-
-                xToCheck = (x0 >> 4) + i0;
-                zToCheck = (z0 >> 4) - i1;
-
-                if (isLargeAsteroidAt0(xToCheck * 16, zToCheck * 16)) {
-                    return new BlockVec3(xToCheck * 16, 0, zToCheck * 16);
-                }
-
-                xToCheck = (x0 >> 4) - i0;
-                zToCheck = (z0 >> 4) + i1;
-
-                if (isLargeAsteroidAt0(xToCheck * 16, zToCheck * 16)) {
-                    return new BlockVec3(xToCheck * 16, 0, zToCheck * 16);
-                }
-
-                xToCheck = (x0 >> 4) - i0;
-                zToCheck = (z0 >> 4) - i1;
-
-                if (isLargeAsteroidAt0(xToCheck * 16, zToCheck * 16)) {
-                    return new BlockVec3(xToCheck * 16, 0, zToCheck * 16);
-                }
-            }
-        }
-
-        return null;
-    }
-
-    private boolean isLargeAsteroidAt0(int x0, int z0) {
-        for (int x = x0; x < x0 + AsteroidChunkGenerator.CHUNK_SIZE_X; x += 2) {
-            for (int z = z0; z < z0 + AsteroidChunkGenerator.CHUNK_SIZE_Z; z += 2) {
-                if ((Math.abs(this.randFromPoint(x, z)) < (this.asteroidDensity.getNoise(x, z) + .4) / AsteroidChunkGenerator.ASTEROID_CHANCE)) {
-                    return true;
-                }
-            }
-        }
-
-        return false;
+        return new BlockVec3(nearest.x() & ~15, 0, nearest.z() & ~15);
     }
 
 }
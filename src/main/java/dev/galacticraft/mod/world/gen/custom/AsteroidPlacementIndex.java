@@ -0,0 +1,178 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.custom;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Caches the centres and radii of large asteroids per region, so that neighbouring chunks
+ * don't have to re-sample the asteroid density noise for the same candidate positions.
+ * Safe to query from multiple worldgen threads.
+ */
+public class AsteroidPlacementIndex {
+    public static final int REGION_SHIFT = 7;
+    public static final int REGION_SIZE = 1 << REGION_SHIFT;
+    private static final int MAX_CACHED_REGIONS = 1024;
+    private static final int SAMPLE_STRIDE = 2;
+
+    /**
+     * The furthest an asteroid can reach horizontally from its centre, including skew.
+     */
+    public static final int MAX_REACH = AsteroidChunkGenerator.MAX_ASTEROID_RADIUS + AsteroidChunkGenerator.MAX_ASTEROID_SKEW + 2;
+
+    private static final int RANGE_Y = AsteroidChunkGenerator.MAX_ASTEROID_Y - AsteroidChunkGenerator.MIN_ASTEROID_Y;
+    private static final int RANGE_RADIUS = AsteroidChunkGenerator.MAX_ASTEROID_RADIUS - AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
+
+    private final NoiseModule asteroidDensity;
+    private final Long2ObjectLinkedOpenHashMap<AsteroidPlacement[]> regions = new Long2ObjectLinkedOpenHashMap<>();
+
+    public AsteroidPlacementIndex(NoiseModule asteroidDensity) {
+        this.asteroidDensity = asteroidDensity;
+    }
+
+    /**
+     * Finds all asteroids whose bounding box overlaps the given block area.
+     *
+     * @param minX the minimum x coordinate (inclusive)
+     * @param minZ the minimum z coordinate (inclusive)
+     * @param maxX the maximum x coordinate (exclusive)
+     * @param maxZ the maximum z coordinate (exclusive)
+     * @return the overlapping asteroids, ordered by region and then by position
+     */
+    public List<AsteroidPlacement> query(int minX, int minZ, int maxX, int maxZ) {
+        List<AsteroidPlacement> placements = new ArrayList<>();
+        int regionMinX = (minX - MAX_REACH) >> REGION_SHIFT;
+        int regionMinZ = (minZ - MAX_REACH) >> REGION_SHIFT;
+        int regionMaxX = (maxX + MAX_REACH) >> REGION_SHIFT;
+        int regionMaxZ = (maxZ + MAX_REACH) >> REGION_SHIFT;
+
+        for (int regionX = regionMinX; regionX <= regionMaxX; regionX++) {
+            for (int regionZ = regionMinZ; regionZ <= regionMaxZ; regionZ++) {
+                for (AsteroidPlacement placement : this.getRegion(regionX, regionZ)) {
+                    if (placement.overlaps(minX, minZ, maxX, maxZ)) {
+                        placements.add(placement);
+                    }
+                }
+            }
+        }
+        return placements;
+    }
+
+    /**
+     * Finds the asteroid whose centre is horizontally closest to the given column, whether or not it has been generated yet.
+     *
+     * @param maxDistance the furthest the centre may be from the column
+     * @return the closest asteroid, or {@code null} if there is none within range
+     */
+    public @Nullable AsteroidPlacement nearest(int x, int z, int maxDistance) {
+        return RegionSearch.nearest(x, z, maxDistance, REGION_SHIFT, (regionX, regionZ) -> Arrays.asList(this.getRegion(regionX, regionZ)), AsteroidPlacement::distanceSqr);
+    }
+
+    /**
+     * Samples the density noise to check whether a large asteroid is centred at the given column.
+     * This is the uncached test the index is built from.
+     */
+    public boolean isAsteroidCentre(int x, int z) {
+        return randFromPointPos(x, z) < (this.asteroidDensity.getNoise(x, z) + .4) / AsteroidChunkGenerator.ASTEROID_CHANCE;
+    }
+
+    /**
+     * Seeds the random for the asteroid centred at the given column and rolls its height and radius.
+     * The random is left in the state that the rest of the asteroid is generated from.
+     */
+    public static AsteroidPlacement roll(Random random, int x, int z) {
+        random.setSeed(x + z * 3067);
+        int y = random.nextInt(RANGE_Y) + AsteroidChunkGenerator.MIN_ASTEROID_Y;
+        int radius = random.nextInt(RANGE_RADIUS) + AsteroidChunkGenerator.MIN_ASTEROID_RADIUS;
+        return new AsteroidPlacement(x, y, z, radius);
+    }
+
+    private AsteroidPlacement[] getRegion(int regionX, int regionZ) {
+        long key = ChunkPos.asLong(regionX, regionZ);
+        synchronized (this.regions) {
+            AsteroidPlacement[] placements = this.regions.getAndMoveToFirst(key);
+            if (placements != null) {
+                return placements;
+            }
+        }
+
+        // Scanning is deterministic, so two threads racing on the same region just do the work twice
+        AsteroidPlacement[] placements = this.scanRegion(regionX, regionZ);
+        synchronized (this.regions) {
+            this.regions.putAndMoveToFirst(key, placements);
+            if (this.regions.size() > MAX_CACHED_REGIONS) {
+                this.regions.removeLast();
+            }
+        }
+        return placements;
+    }
+
+    private AsteroidPlacement[] scanRegion(int regionX, int regionZ) {
+        List<AsteroidPlacement> placements = new ArrayList<>();
+        Random random = new Random();
+        int minX = regionX << REGION_SHIFT;
+        int minZ = regionZ << REGION_SHIFT;
+
+        for (int x = minX; x < minX + REGION_SIZE; x += SAMPLE_STRIDE) {
+            for (int z = minZ; z < minZ + REGION_SIZE; z += SAMPLE_STRIDE) {
+                if (this.isAsteroidCentre(x, z)) {
+                    placements.add(roll(random, x, z));
+                }
+            }
+        }
+        return placements.toArray(new AsteroidPlacement[0]);
+    }
+
+    private static float randFromPointPos(int x, int z) {
+        int n = x + z * 57;
+        n ^= n << 13;
+        n = n * (n * n * 15731 + 789221) + 1376312589 & 0x3fffffff;
+        return 1.0F - n / 1073741824.0F;
+    }
+
+    public record AsteroidPlacement(int x, int y, int z, int radius) {
+        public int reach() {
+            return this.radius + AsteroidChunkGenerator.MAX_ASTEROID_SKEW + 2;
+        }
+
+        public long distanceSqr(int x, int z) {
+            long dx = this.x - x;
+            long dz = this.z - z;
+            return dx * dx + dz * dz;
+        }
+
+        public boolean overlaps(int minX, int minZ, int maxX, int maxZ) {
+            int reach = this.reach();
+            return this.x - reach < maxX && this.x + reach > minX
+                    && this.z - reach < maxZ && this.z + reach > minZ;
+        }
+    }
+}
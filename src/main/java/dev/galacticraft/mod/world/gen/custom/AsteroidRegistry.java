@@ -0,0 +1,361 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.custom;
+
+import dev.galacticraft.mod.Constant;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMap;
+import it.unimi.dsi.fastutil.longs.Long2ObjectMaps;
+import it.unimi.dsi.fastutil.longs.Long2ObjectOpenHashMap;
+import net.fabricmc.fabric.api.util.NbtType;
+import net.minecraft.Util;
+import net.minecraft.core.BlockPos;
+import net.minecraft.nbt.CompoundTag;
+import net.minecraft.nbt.ListTag;
+import net.minecraft.nbt.NbtAccounter;
+import net.minecraft.nbt.NbtIo;
+import net.minecraft.world.level.ChunkPos;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Remembers the large asteroids that have been generated, sharded into files of 512x512 blocks.
+ * A region is only loaded once an asteroid inside it is recorded, and only regions with new asteroids
+ * are rewritten - on the IO pool, when the level saves. Safe to use from multiple worldgen threads.
+ * <p>
+ * The regions double as a spatial index, so nearby asteroids can be found without sampling any noise.
+ * Queries read regions that aren't loaded straight from disk without keeping them.
+ */
+public class AsteroidRegistry {
+    private static final int REGION_SHIFT = 9;
+    private static final int MAX_LOADED_REGIONS = 256;
+    private static final String LEGACY_FILE = "data.dat";
+
+    private final Path directory;
+    private final Long2ObjectMap<Region> regions = new Long2ObjectOpenHashMap<>();
+    // Each future completes with whether its last write succeeded
+    private final Long2ObjectMap<CompletableFuture<Boolean>> pending = new Long2ObjectOpenHashMap<>();
+    private boolean legacyChecked = false;
+    private boolean legacyMigrated = false;
+    // Counts how often regions were dropped, so a region read outside the lock can tell if it may be stale
+    private int evictions = 0;
+    // Completes with whether the old data.dat was removed
+    private @Nullable CompletableFuture<Boolean> migration = null;
+
+    public AsteroidRegistry(Path directory) {
+        this.directory = directory;
+    }
+
+    /**
+     * Records an asteroid, loading its region first if needed.
+     * The region's file is read without holding the lock, so other worldgen threads aren't held up by disk IO.
+     *
+     * @return whether the asteroid was not known before
+     */
+    public boolean add(Asteroid asteroid) {
+        long key = regionKey(asteroid.x(), asteroid.z());
+        while (true) {
+            int evictions;
+            synchronized (this) {
+                this.migrateLegacy();
+                Region region = this.regions.get(key);
+                if (region != null) {
+                    return region.add(asteroid);
+                }
+                evictions = this.evictions;
+            }
+
+            List<Asteroid> stored = this.readRegion(key);
+            synchronized (this) {
+                Region region = this.regions.get(key);
+                if (region == null) {
+                    // The region may have been loaded, written and dropped again while it was read, so read it once more
+                    if (evictions != this.evictions) continue;
+                    region = new Region(stored);
+                    this.regions.put(key, region);
+                }
+                return region.add(asteroid);
+            }
+        }
+    }
+
+    /**
+     * Finds the recorded asteroid whose centre is horizontally closest to the given column.
+     *
+     * @param maxDistance the furthest the centre may be from the column
+     * @return the closest asteroid, or {@code null} if there is none within range
+     */
+    public @Nullable Asteroid nearest(int x, int z, int maxDistance) {
+        return RegionSearch.nearest(x, z, maxDistance, REGION_SHIFT, this::lookup, Asteroid::distanceSqr);
+    }
+
+    /**
+     * Finds every recorded asteroid whose centre is within the given horizontal distance of a column.
+     */
+    public List<Asteroid> within(int x, int z, int radius) {
+        List<Asteroid> asteroids = new ArrayList<>();
+        long radiusSqr = (long) radius * radius;
+        for (int regionX = (x - radius) >> REGION_SHIFT; regionX <= (x + radius) >> REGION_SHIFT; regionX++) {
+            for (int regionZ = (z - radius) >> REGION_SHIFT; regionZ <= (z + radius) >> REGION_SHIFT; regionZ++) {
+                for (Asteroid asteroid : this.lookup(regionX, regionZ)) {
+                    if (asteroid.distanceSqr(x, z) <= radiusSqr) {
+                        asteroids.add(asteroid);
+                    }
+                }
+            }
+        }
+        return asteroids;
+    }
+
+    /**
+     * Queues every region that gained asteroids since it was last written, then drops clean regions if too many are loaded.
+     *
+     * @param flush whether to block until all queued writes have finished
+     */
+    public void save(boolean flush) {
+        CompletableFuture<?>[] writes;
+        synchronized (this) {
+            this.pending.values().removeIf(CompletableFuture::isDone);
+            if (this.migration != null && this.migration.isDone() && !this.migration.join()) {
+                // A write failed and marked its region dirty again, so retry the migration along with it
+                this.migration = null;
+            }
+
+            for (Long2ObjectMap.Entry<Region> entry : Long2ObjectMaps.fastIterable(this.regions)) {
+                Region region = entry.getValue();
+                if (!region.dirty) continue;
+
+                ListTag coords = new ListTag();
+                for (Asteroid asteroid : region.asteroids.values()) {
+                    coords.add(asteroid.write());
+                }
+                CompoundTag compound = new CompoundTag();
+                compound.put("coords", coords);
+                region.dirty = false;
+
+                long key = entry.getLongKey();
+                Path file = this.getFile(key);
+                this.schedule(key, () -> {
+                    try {
+                        write(file, compound);
+                        return true;
+                    } catch (Throwable exception) {
+                        Constant.LOGGER.error("Failed to write asteroid data to {}!", file, exception);
+                        region.dirty = true;
+                        return false;
+                    }
+                });
+            }
+
+            if (this.migration == null && this.legacyMigrated) {
+                // Every migrated asteroid was queued above, so the old file can go once those writes are done
+                Path legacy = this.directory.resolve(LEGACY_FILE);
+                List<CompletableFuture<Boolean>> writes = List.copyOf(this.pending.values());
+                this.migration = CompletableFuture.allOf(writes.toArray(new CompletableFuture[0])).thenApplyAsync(ignored -> {
+                    for (CompletableFuture<Boolean> write : writes) {
+                        if (!write.join()) {
+                            Constant.LOGGER.warn("Keeping old asteroid data until every region has been written");
+                            return false;
+                        }
+                    }
+                    try {
+                        Files.deleteIfExists(legacy);
+                        return true;
+                    } catch (IOException exception) {
+                        Constant.LOGGER.error("Failed to remove old asteroid data!", exception);
+                        return false;
+                    }
+                }, Util.ioPool());
+            }
+
+            if (this.regions.size() > MAX_LOADED_REGIONS) {
+                this.regions.long2ObjectEntrySet().removeIf(entry -> !entry.getValue().dirty && !this.pending.containsKey(entry.getLongKey()));
+                this.evictions++;
+            }
+
+            if (!flush) return;
+            writes = this.pending.values().toArray(new CompletableFuture[0]);
+        }
+
+        // Join outside the lock, a failed write marks its region dirty again
+        CompletableFuture.allOf(writes).join();
+        if (this.migration != null) {
+            this.migration.join();
+        }
+    }
+
+    /**
+     * Gets the asteroids of a region for a read-only query. Regions that aren't loaded are read from disk
+     * but not kept, as most probed regions are empty or never touched again.
+     */
+    private List<Asteroid> lookup(int regionX, int regionZ) {
+        long key = ChunkPos.asLong(regionX, regionZ);
+        synchronized (this) {
+            this.migrateLegacy();
+            Region region = this.regions.get(key);
+            if (region != null) {
+                return new ArrayList<>(region.asteroids.values());
+            }
+        }
+        // Only clean regions without pending writes are dropped, so the file is up to date
+        return this.readRegion(key);
+    }
+
+    private List<Asteroid> readRegion(long key) {
+        Path file = this.getFile(key);
+        if (!Files.exists(file)) {
+            return List.of();
+        }
+        try {
+            return read(NbtIo.readCompressed(file, NbtAccounter.unlimitedHeap()));
+        } catch (IOException exception) {
+            Constant.LOGGER.error("Skipping unreadable asteroid data {}", file, exception);
+            return List.of();
+        }
+    }
+
+    /**
+     * Moves the asteroids from the old single {@code data.dat} file into their regions the first time the registry is used.
+     */
+    private void migrateLegacy() {
+        if (this.legacyChecked) return;
+        this.legacyChecked = true;
+
+        Path legacy = this.directory.resolve(LEGACY_FILE);
+        if (!Files.exists(legacy)) return;
+
+        List<Asteroid> asteroids;
+        try {
+            asteroids = read(NbtIo.read(legacy));
+        } catch (IOException exception) {
+            Constant.LOGGER.error("Skipping unreadable asteroid data {}", legacy, exception);
+            return;
+        }
+
+        for (Asteroid asteroid : asteroids) {
+            this.regions.computeIfAbsent(regionKey(asteroid.x(), asteroid.z()), key -> new Region(this.readRegion(key))).add(asteroid);
+        }
+        this.legacyMigrated = true;
+    }
+
+    private void schedule(long key, Supplier<Boolean> task) {
+        CompletableFuture<Boolean> previous = this.pending.get(key);
+        this.pending.put(key, previous == null ? CompletableFuture.supplyAsync(task, Util.ioPool()) : previous.thenApplyAsync(ignored -> task.get(), Util.ioPool()));
+    }
+
+    private Path getFile(long key) {
+        return this.directory.resolve("r." + ChunkPos.getX(key) + "." + ChunkPos.getZ(key) + ".dat");
+    }
+
+    private static long regionKey(int x, int z) {
+        return ChunkPos.asLong(x >> REGION_SHIFT, z >> REGION_SHIFT);
+    }
+
+    private static List<Asteroid> read(@Nullable CompoundTag compound) {
+        List<Asteroid> asteroids = new ArrayList<>();
+        if (compound != null) {
+            ListTag coords = compound.getList("coords", NbtType.COMPOUND);
+            for (int i = 0; i < coords.size(); i++) {
+                asteroids.add(Asteroid.read(coords.getCompound(i)));
+            }
+        }
+        return asteroids;
+    }
+
+    private static void write(Path file, CompoundTag compound) throws IOException {
+        Files.createDirectories(file.getParent());
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        NbtIo.writeCompressed(compound, temp);
+        try {
+            Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * A generated asteroid.
+     *
+     * @param size the radius of the asteroid
+     * @param core the index of its core block, or {@code -1} if it is hollow
+     */
+    public record Asteroid(int x, int y, int z, int size, int core) {
+        public boolean isHollow() {
+            return this.core == -1;
+        }
+
+        public long distanceSqr(int x, int z) {
+            long dx = this.x - x;
+            long dz = this.z - z;
+            return dx * dx + dz * dz;
+        }
+
+        private long key() {
+            return BlockPos.asLong(this.x, this.y, this.z);
+        }
+
+        private CompoundTag write() {
+            CompoundTag tag = new CompoundTag();
+            tag.putInt("x", this.x);
+            tag.putInt("y", this.y);
+            tag.putInt("z", this.z);
+            tag.putInt("coreAndFlag", this.core);
+            tag.putInt("sizeAndFlag", this.size);
+            return tag;
+        }
+
+        private static Asteroid read(CompoundTag tag) {
+            return new Asteroid(tag.getInt("x"), tag.getInt("y"), tag.getInt("z"),
+                    tag.contains("sizeAndFlag") ? tag.getInt("sizeAndFlag") : 15,
+                    tag.contains("coreAndFlag") ? tag.getInt("coreAndFlag") : -2);
+        }
+    }
+
+    private static class Region {
+        // keyed by centre, so an asteroid is only recorded once however many chunks it spans
+        private final Long2ObjectMap<Asteroid> asteroids = new Long2ObjectOpenHashMap<>();
+        private volatile boolean dirty = false;
+
+        private Region(List<Asteroid> stored) {
+            for (Asteroid asteroid : stored) {
+                this.asteroids.put(asteroid.key(), asteroid);
+            }
+        }
+
+        private boolean add(Asteroid asteroid) {
+            if (this.asteroids.putIfAbsent(asteroid.key(), asteroid) == null) {
+                this.dirty = true;
+                return true;
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.world.gen.custom;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Nearest-neighbour search over values bucketed into square regions, shared by the asteroid indexes.
+ */
+final class RegionSearch {
+    private RegionSearch() {
+    }
+
+    /**
+     * Finds the value horizontally closest to the given column. Regions are searched in rings around the column,
+     * stopping once no further ring can hold anything closer.
+     *
+     * @param maxDistance the furthest the value may be from the column
+     * @param regionShift the log2 of the region size in blocks
+     * @return the closest value, or {@code null} if there is none within range
+     */
+    static <T> @Nullable T nearest(int x, int z, int maxDistance, int regionShift, Buckets<T> buckets, Distance<T> distance) {
+        int regionX = x >> regionShift;
+        int regionZ = z >> regionShift;
+        int rings = (maxDistance >> regionShift) + 1;
+        long best = (long) maxDistance * maxDistance;
+        T nearest = null;
+
+        for (int ring = 0; ring <= rings; ring++) {
+            // the column lies in the centre region, so every region of this ring is at least (ring - 1) regions away
+            long ringDistance = (long) Math.max(ring - 1, 0) << regionShift;
+            if (ringDistance * ringDistance > best) break;
+
+            for (int dx = -ring; dx <= ring; dx++) {
+                for (int dz = -ring; dz <= ring; dz++) {
+                    if (Math.max(Math.abs(dx), Math.abs(dz)) != ring) continue;
+
+                    for (T value : buckets.get(regionX + dx, regionZ + dz)) {
+                        long distanceSqr = distance.distanceSqr(value, x, z);
+                        if (distanceSqr <= best) {
+                            best = distanceSqr;
+                            nearest = value;
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    @FunctionalInterface
+    interface Buckets<T> {
+        Iterable<T> get(int regionX, int regionZ);
+    }
+
+    @FunctionalInterface
+    interface Distance<T> {
+        long distanceSqr(T value, int x, int z);
+    }
+}
@@ -33,6 +33,11 @@
  * Vanilla copy of {@link net.minecraft.world.inventory.PlayerEnderChestContainer} save methods
  */
 public class GearInventory extends SimpleContainer {
+    /**
+     * The slots other players are sent: thermal armor (0-3) and accessories (6-11), but not the oxygen tanks (4-5).
+     */
+    public static final int VISIBLE_SLOTS = 0b1111_1100_1111;
+
     public GearInventory() {
         super(12);
     }
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.world.gen.custom.AsteroidPlacementIndex;
+import dev.galacticraft.mod.world.gen.custom.AsteroidRegistry;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class AsteroidGenTestSuite extends SimpleGameTest {
+    @BasicTest(batch = "asteroid")
+    public void placementIndexMatchesScan() {
+        AsteroidPlacementIndex index = new AsteroidPlacementIndex(createDensity());
+        Random random = new Random();
+
+        for (int chunkX = -20; chunkX < 20; chunkX += 3) {
+            for (int chunkZ = -20; chunkZ < 20; chunkZ += 3) {
+                int minX = chunkX << 4;
+                int minZ = chunkZ << 4;
+
+                Set<AsteroidPlacementIndex.AsteroidPlacement> expected = new HashSet<>();
+                // sample every even column that could possibly reach into the chunk
+                for (int x = (minX - AsteroidPlacementIndex.MAX_REACH) & ~1; x < minX + 16 + AsteroidPlacementIndex.MAX_REACH; x += 2) {
+                    for (int z = (minZ - AsteroidPlacementIndex.MAX_REACH) & ~1; z < minZ + 16 + AsteroidPlacementIndex.MAX_REACH; z += 2) {
+                        if (index.isAsteroidCentre(x, z)) {
+                            AsteroidPlacementIndex.AsteroidPlacement placement = AsteroidPlacementIndex.roll(random, x, z);
+                            if (placement.overlaps(minX, minZ, minX + 16, minZ + 16)) {
+                                expected.add(placement);
+                            }
+                        }
+                    }
+                }
+
+                assertEquals(expected, new HashSet<>(index.query(minX, minZ, minX + 16, minZ + 16)), "Placement index disagrees with the density scan for chunk " + chunkX + ", " + chunkZ);
+            }
+        }
+    }
+
+    @BasicTest(batch = "asteroid")
+    public void nearestMatchesQuery() {
+        AsteroidPlacementIndex index = new AsteroidPlacementIndex(createDensity());
+        int range = 300;
+
+        for (int x = -1000; x <= 1000; x += 237) {
+            for (int z = -1000; z <= 1000; z += 191) {
+                long best = (long) range * range;
+                AsteroidPlacementIndex.AsteroidPlacement expected = null;
+                for (AsteroidPlacementIndex.AsteroidPlacement placement : index.query(x - range, z - range, x + range + 1, z + range + 1)) {
+                    long distance = placement.distanceSqr(x, z);
+                    if (distance <= best) {
+                        best = distance;
+                        expected = placement;
+                    }
+                }
+
+                AsteroidPlacementIndex.AsteroidPlacement nearest = index.nearest(x, z, range);
+                assertEquals(expected == null ? null : best, nearest == null ? null : nearest.distanceSqr(x, z), "Nearest asteroid to " + x + ", " + z + " is not the closest one");
+            }
+        }
+    }
+
+    @BasicTest(batch = "asteroid")
+    public void registryQueriesMatchRecorded() {
+        Path directory = createTempDirectory();
+        try {
+            Random random = new Random(42L);
+            List<AsteroidRegistry.Asteroid> recorded = new ArrayList<>();
+            AsteroidRegistry registry = new AsteroidRegistry(directory);
+            for (int i = 0; i < 200; i++) {
+                AsteroidRegistry.Asteroid asteroid = new AsteroidRegistry.Asteroid(random.nextInt(6000) - 3000, random.nextInt(100) + 48, random.nextInt(6000) - 3000, random.nextInt(20) + 5, -1);
+                assertTrue(registry.add(asteroid), "Asteroid was already recorded");
+                recorded.add(asteroid);
+            }
+            assertQueriesMatch(registry, recorded);
+
+            // a fresh registry only has what reached disk, and answers queries without loading regions
+            registry.save(true);
+            AsteroidRegistry reloaded = new AsteroidRegistry(directory);
+            assertQueriesMatch(reloaded, recorded);
+            for (AsteroidRegistry.Asteroid asteroid : recorded) {
+                assertFalse(reloaded.add(asteroid), "Saved asteroid was recorded again");
+            }
+        } finally {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            } catch (IOException exception) {
+                throw new UncheckedIOException(exception);
+            }
+        }
+    }
+
+    private static Path createTempDirectory() {
+        try {
+            return Files.createTempDirectory("galacticraft-asteroids");
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    private static void assertQueriesMatch(AsteroidRegistry registry, List<AsteroidRegistry.Asteroid> recorded) {
+        int range = 700;
+        for (int x = -3500; x <= 3500; x += 613) {
+            for (int z = -3500; z <= 3500; z += 587) {
+                long best = (long) range * range;
+                AsteroidRegistry.Asteroid expected = null;
+                Set<AsteroidRegistry.Asteroid> within = new HashSet<>();
+                for (AsteroidRegistry.Asteroid asteroid : recorded) {
+                    long distance = asteroid.distanceSqr(x, z);
+                    if (distance <= best) {
+                        best = distance;
+                        expected = asteroid;
+                    }
+                    if (distance <= (long) range * range) {
+                        within.add(asteroid);
+                    }
+                }
+
+                AsteroidRegistry.Asteroid nearest = registry.nearest(x, z, range);
+                assertEquals(expected == null ? null : best, nearest == null ? null : nearest.distanceSqr(x, z), "Nearest recorded asteroid to " + x + ", " + z + " is not the closest one");
+                assertEquals(within, new HashSet<>(registry.within(x, z, range)), "Recorded asteroids within range of " + x + ", " + z + " differ");
+            }
+        }
+    }
+
+    private static NoiseModule createDensity() {
+        NoiseModule density = new Billowed(new Random(1000L).nextLong(), 2, .25F);
+        density.setFrequency(.009F);
+        density.amplitude = .6F;
+        return density;
+    }
+}
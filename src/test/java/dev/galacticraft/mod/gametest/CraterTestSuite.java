@@ -0,0 +1,161 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.world.biome.GCBiomes;
+import dev.galacticraft.mod.world.gen.carver.CraterField;
+import dev.galacticraft.mod.world.gen.carver.GCCarvers;
+import dev.galacticraft.mod.world.gen.carver.config.CraterCarverConfig;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.Holder;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.util.RandomSource;
+import net.minecraft.util.valueproviders.UniformFloat;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.Biome;
+import net.minecraft.world.level.biome.FixedBiomeSource;
+import net.minecraft.world.level.block.Blocks;
+import net.minecraft.world.level.chunk.CarvingMask;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Aquifer;
+import net.minecraft.world.level.levelgen.NoiseBasedChunkGenerator;
+import net.minecraft.world.level.levelgen.NoiseGeneratorSettings;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.SurfaceRules;
+import net.minecraft.world.level.levelgen.VerticalAnchor;
+import net.minecraft.world.level.levelgen.carver.CarverDebugSettings;
+import net.minecraft.world.level.levelgen.carver.CarvingContext;
+import net.minecraft.world.level.levelgen.heightproviders.ConstantHeight;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CraterTestSuite extends SimpleGameTest {
+    private static final int CRATER_Y = 128;
+    private static final int SEEDS = 8;
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void fieldMatchesSingleCrater(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        Holder<Biome> biome = level.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(GCBiomes.Moon.LUNAR_HIGHLANDS);
+        NoiseBasedChunkGenerator generator = new NoiseBasedChunkGenerator(new FixedBiomeSource(biome), level.registryAccess().registryOrThrow(Registries.NOISE_SETTINGS).getHolderOrThrow(NoiseGeneratorSettings.OVERWORLD));
+        RandomState randomState = RandomState.create(level.registryAccess(), NoiseGeneratorSettings.OVERWORLD, 0L);
+        ChunkPos pos = new ChunkPos(3, -2);
+
+        for (long seed = 0; seed < SEEDS; seed++) {
+            ProtoChunk single = createTerrain(level, pos);
+            ProtoChunk field = createTerrain(level, pos);
+            carve(level, generator, randomState, single, biome, RandomSource.create(seed), pos, createMask(single), false);
+            carve(level, generator, randomState, field, biome, RandomSource.create(seed), pos, createMask(field), true);
+            CraterField.apply(field);
+
+            boolean dug = false;
+            BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int y = level.getMinBuildHeight(); y < CRATER_Y; y++) {
+                        mutable.set(x, y, z);
+                        assertEquals(single.getBlockState(mutable), field.getBlockState(mutable), "Crater field disagrees with the single crater at " + mutable + " (seed " + seed + ")");
+                        dug |= y <= surface(x, z) && single.getBlockState(mutable).isAir();
+                    }
+                }
+            }
+            assertTrue(dug, "Crater did not dig into the chunk (seed " + seed + ")");
+        }
+        context.succeed();
+    }
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void fieldMatchesOverlappingCraters(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        Holder<Biome> biome = level.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(GCBiomes.Moon.LUNAR_HIGHLANDS);
+        NoiseBasedChunkGenerator generator = new NoiseBasedChunkGenerator(new FixedBiomeSource(biome), level.registryAccess().registryOrThrow(Registries.NOISE_SETTINGS).getHolderOrThrow(NoiseGeneratorSettings.OVERWORLD));
+        RandomState randomState = RandomState.create(level.registryAccess(), NoiseGeneratorSettings.OVERWORLD, 0L);
+        ChunkPos pos = new ChunkPos(-5, 7);
+
+        // Several craters started in and around the chunk, so that they overlap and are carved into each other
+        for (long seed = 0; seed < SEEDS; seed++) {
+            ProtoChunk single = createTerrain(level, pos);
+            ProtoChunk field = createTerrain(level, pos);
+            CarvingMask singleMask = createMask(single);
+            CarvingMask fieldMask = createMask(field);
+            for (int crater = 0; crater < 6; crater++) {
+                ChunkPos start = new ChunkPos(pos.x + crater % 3 - 1, pos.z + (crater == 4 ? 1 : 0));
+                long craterSeed = seed * 31 + crater;
+                carve(level, generator, randomState, single, biome, RandomSource.create(craterSeed), start, singleMask, false);
+                carve(level, generator, randomState, field, biome, RandomSource.create(craterSeed), start, fieldMask, true);
+            }
+            CraterField.apply(field);
+
+            BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    for (int y = level.getMinBuildHeight(); y < CRATER_Y; y++) {
+                        mutable.set(x, y, z);
+                        assertEquals(single.getBlockState(mutable), field.getBlockState(mutable), "Crater field disagrees with digging craters one by one at " + mutable + " (seed " + seed + ")");
+                    }
+                    for (int y = level.getMinBuildHeight(); y < level.getMaxBuildHeight(); y++) {
+                        assertEquals(singleMask.get(x, y, z), fieldMask.get(x, y, z), "Crater field marked the carving mask differently at " + x + ", " + y + ", " + z + " (seed " + seed + ")");
+                    }
+                }
+            }
+        }
+        context.succeed();
+    }
+
+    private static void carve(ServerLevel level, NoiseBasedChunkGenerator generator, RandomState randomState, ProtoChunk chunk, Holder<Biome> biome, RandomSource random, ChunkPos start, CarvingMask mask, boolean field) {
+        // a surface rule that does not depend on the position, so the topping block doesn't depend on how the position is given
+        CarvingContext carvingContext = new CarvingContext(generator, level.registryAccess(), chunk, null, randomState, SurfaceRules.state(GCBlocks.MOON_TURF.defaultBlockState()));
+        CraterCarverConfig config = new CraterCarverConfig(1.0f, ConstantHeight.of(VerticalAnchor.absolute(CRATER_Y)), UniformFloat.of(0.4f, 0.6f), CarverDebugSettings.DEFAULT, 27, 8, 8, field);
+        Aquifer aquifer = Aquifer.createDisabled((x, y, z) -> new Aquifer.FluidStatus(chunk.getMinBuildHeight(), Blocks.AIR.defaultBlockState()));
+        GCCarvers.CRATERS.carve(carvingContext, config, chunk, p -> biome, random, aquifer, start, mask);
+    }
+
+    private static CarvingMask createMask(ProtoChunk chunk) {
+        return new CarvingMask(chunk.getHeight(), chunk.getMinBuildHeight());
+    }
+
+    private static ProtoChunk createTerrain(ServerLevel level, ChunkPos pos) {
+        ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, level, level.registryAccess().registryOrThrow(Registries.BIOME), null);
+        BlockPos.MutableBlockPos mutable = new BlockPos.MutableBlockPos();
+        for (int x = 0; x < 16; x++) {
+            for (int z = 0; z < 16; z++) {
+                for (int y = level.getMinBuildHeight(); y <= surface(x, z); y++) {
+                    chunk.setBlockState(mutable.set(x, y, z), GCBlocks.MOON_ROCK.defaultBlockState(), false);
+                }
+            }
+        }
+        return chunk;
+    }
+
+    private static int surface(int x, int z) {
+        return 80 + (x * 3 + z * 5) % 7;
+    }
+}
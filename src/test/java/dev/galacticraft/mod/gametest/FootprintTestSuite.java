@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.misc.footprint.Footprint;
+import dev.galacticraft.mod.misc.footprint.FootprintChunk;
+import dev.galacticraft.mod.misc.footprint.FootprintMesh;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FootprintTestSuite extends SimpleGameTest {
+    @BasicTest(batch = "footprint")
+    public void ringOverwritesOldest() {
+        FootprintChunk chunk = new FootprintChunk();
+        int total = FootprintChunk.CAPACITY + 10;
+        for (int i = 0; i < total; i++) {
+            chunk.add(i + 0.5, 64, 0.5, 0, 0, i);
+        }
+
+        assertEquals(FootprintChunk.CAPACITY, chunk.size());
+        assertEquals(FootprintChunk.CAPACITY, chunk.takeUnsynced());
+        // the oldest footprints were overwritten, the rest stay in creation order
+        for (int n = 0; n < chunk.size(); n++) {
+            assertEquals(total - FootprintChunk.CAPACITY + n, chunk.created(chunk.index(n)));
+        }
+    }
+
+    @BasicTest(batch = "footprint")
+    public void footprintsExpireByAge() {
+        FootprintChunk chunk = new FootprintChunk();
+        chunk.add(0.5, 64, 0.5, 0, 0, 0);
+        chunk.add(1.5, 64, 0.5, 0, 0, 100);
+
+        chunk.expire(Footprint.MAX_AGE - 1);
+        assertEquals(2, chunk.size());
+        chunk.expire(Footprint.MAX_AGE);
+        assertEquals(1, chunk.size());
+        assertTrue(chunk.isAlive(chunk.index(0), Footprint.MAX_AGE));
+        chunk.expire(Footprint.MAX_AGE + 100);
+        assertTrue(chunk.isEmpty());
+    }
+
+    @BasicTest(batch = "footprint")
+    public void removeClearsBlockColumn() {
+        FootprintChunk chunk = new FootprintChunk();
+        chunk.add(0.5, 64, 0.5, 0, 0, 0);
+        chunk.add(1.5, 64, 0.5, 0, 0, 0);
+        chunk.add(0.25, 65, 0.75, 0, 0, 0);
+
+        assertEquals(2, chunk.remove(0, 0));
+        assertEquals(0, chunk.remove(0, 0));
+        assertTrue(chunk.isAlive(chunk.index(1), 0));
+
+        // removed footprints are dropped once they reach the oldest end
+        chunk.expire(0);
+        assertEquals(2, chunk.size());
+    }
+
+    @BasicTest(batch = "footprint")
+    public void meshFadesWithAge() {
+        FootprintChunk chunk = new FootprintChunk();
+        chunk.add(10.5, 64, 20.5, 0, 0, 0);
+        chunk.add(11.5, 64, 20.5, 90, 0, Footprint.MAX_AGE / 2);
+        chunk.add(12.5, 64, 20.5, 0, 0, Footprint.MAX_AGE / 2);
+        chunk.remove(12, 20);
+
+        IntArrayList colours = new IntArrayList();
+        float[] bounds = {Float.MAX_VALUE, -Float.MAX_VALUE};
+        int quads = FootprintMesh.build(chunk, 10.0, 60.0, 20.0, Footprint.MAX_AGE / 2, (x, y, z, u, v, colour) -> {
+            colours.add(colour);
+            bounds[0] = Math.min(bounds[0], x);
+            bounds[1] = Math.max(bounds[1], x);
+            assertEquals(4.001F, y, 0.0001F);
+        });
+
+        assertEquals(2, quads);
+        assertEquals(8, colours.size());
+        // half way through its life a footprint is drawn at half brightness and opacity
+        assertEquals(127, colours.getInt(0) >>> 24);
+        assertEquals(127, colours.getInt(0) & 0xFF);
+        assertEquals(255, colours.getInt(4) >>> 24);
+        // vertices are relative to the camera and stay within half a block of the footprint
+        assertTrue(bounds[0] >= 0.5F - FootprintMesh.SCALE && bounds[1] <= 1.5F + FootprintMesh.SCALE);
+    }
+
+    @BasicTest(batch = "footprint")
+    public void meshClampsFutureFootprints() {
+        FootprintChunk chunk = new FootprintChunk();
+        chunk.add(0.5, 64, 0.5, 0, 0, 100);
+
+        IntArrayList colours = new IntArrayList();
+        assertEquals(1, FootprintMesh.build(chunk, 0.0, 0.0, 0.0, 90, (x, y, z, u, v, colour) -> colours.add(colour)));
+        // a footprint from slightly in the future is drawn fully opaque instead of overflowing into the other channels
+        assertEquals(0xFFFFFFFF, colours.getInt(0));
+    }
+}
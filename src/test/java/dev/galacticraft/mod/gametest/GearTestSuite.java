@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.impl.network.s2c.GearInvPayload;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.mod.world.inventory.GearInventory;
+import io.netty.buffer.Unpooled;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.RegistryFriendlyByteBuf;
+import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.Items;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GearTestSuite extends SimpleGameTest {
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void gearUpdateOnlyTouchesIncludedSlots(GameTestHelper context) {
+        GearInventory source = new GearInventory();
+        source.setItem(0, new ItemStack(Items.LEATHER_HELMET));
+        source.setItem(4, new ItemStack(Items.BUCKET));
+        source.setItem(9, new ItemStack(Items.DIAMOND, 3));
+        // slot 7 stays empty, so the update has to clear it
+        int slots = 1 << 0 | 1 << 4 | 1 << 7;
+
+        GearInvPayload payload = GearInvPayload.of(42, source, slots);
+        RegistryFriendlyByteBuf buf = new RegistryFriendlyByteBuf(Unpooled.buffer(), context.getLevel().registryAccess());
+        GearInvPayload.CODEC.encode(buf, payload);
+        GearInvPayload decoded = GearInvPayload.CODEC.decode(buf);
+        assertEquals(0, buf.readableBytes(), "Gear update was not fully read");
+        assertEquals(42, decoded.entityId());
+        assertEquals(slots, decoded.slots());
+        assertEquals(3, decoded.items().length, "Gear update should only carry the included slots");
+
+        GearInventory target = new GearInventory();
+        for (int i = 0; i < target.getContainerSize(); i++) {
+            target.setItem(i, new ItemStack(Items.STONE));
+        }
+        decoded.apply(target);
+
+        for (int i = 0; i < target.getContainerSize(); i++) {
+            ItemStack expected = (slots & 1 << i) != 0 ? source.getItem(i) : new ItemStack(Items.STONE);
+            assertTrue(ItemStack.matches(expected, target.getItem(i)), "Gear slot " + i + " is " + target.getItem(i) + " instead of " + expected);
+        }
+
+        // other players are never sent the oxygen tanks
+        GearInvPayload visible = GearInvPayload.of(42, source, slots & GearInventory.VISIBLE_SLOTS);
+        assertEquals(1 << 0 | 1 << 7, visible.slots());
+        assertEquals(2, visible.items().length);
+        context.succeed();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.perlin.NoiseModule;
+import dev.galacticraft.api.perlin.generator.Billowed;
+import dev.galacticraft.api.perlin.generator.Gradient;
+import dev.galacticraft.api.perlin.generator.RidgedMulti;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NoiseTestSuite extends SimpleGameTest {
+    @BasicTest(batch = "noise")
+    public void fillMatchesPointSamples() {
+        NoiseModule[] modules = {new Gradient(5L, 1, 1), new Gradient(7L, 4, .5F), new Billowed(9L, 2, .25F), new Billowed(11L, 3, .5F), new RidgedMulti(13L, 4)};
+        for (NoiseModule module : modules) {
+            module.setFrequency(.013F);
+            module.amplitude = 8;
+
+            for (int t = 0; t < 20; t++) {
+                float originX = t * 37.3F - 900;
+                float originY = t * -11.7F + 3;
+                float stepX = t % 3 + .5F;
+                int width = 5 + t % 20;
+                int height = 3 + t % 17;
+
+                float[] out = new float[width * height];
+                module.fill2d(out, originX, originY, stepX, 1, width, height);
+                for (int i = 0; i < width; i++) {
+                    for (int j = 0; j < height; j++) {
+                        assertEquals(module.getNoise(originX + i * stepX, originY + j), out[i * height + j], module.getClass().getSimpleName() + " grid sample differs at " + i + ", " + j);
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,238 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package dev.galacticraft.mod.gametest;
+
+import com.mojang.authlib.GameProfile;
+import dev.galacticraft.impl.internal.accessor.ChunkSectionOxygenAccessor;
+import dev.galacticraft.impl.internal.accessor.InternalLevelOxygenAccessor;
+import dev.galacticraft.impl.network.s2c.OxygenUpdatePayload;
+import dev.galacticraft.impl.oxygen.SectionMasks;
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.machinelib.api.gametest.annotation.BasicTest;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenBubbleDistributorBlockEntity;
+import dev.galacticraft.mod.data.OxygenBlockDataManager;
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import net.fabricmc.fabric.api.entity.FakePlayer;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.network.Connection;
+import net.minecraft.network.FriendlyByteBuf;
+import net.minecraft.network.PacketSendListener;
+import net.minecraft.network.protocol.Packet;
+import net.minecraft.network.protocol.PacketFlow;
+import net.minecraft.network.protocol.common.ClientboundCustomPayloadPacket;
+import net.minecraft.server.level.ChunkHolder;
+import net.minecraft.server.level.ChunkLevel;
+import net.minecraft.server.level.FullChunkStatus;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.server.level.ServerPlayer;
+import net.minecraft.server.network.CommonListenerCookie;
+import net.minecraft.server.network.ServerGamePacketListenerImpl;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.block.Block;
+import net.minecraft.world.level.block.state.BlockState;
+import net.minecraft.world.level.chunk.LevelChunk;
+import net.minecraft.world.level.chunk.LevelChunkSection;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OxygenTestSuite extends SimpleGameTest {
+    @BasicTest(batch = "oxygen")
+    public void bakedOxygenMatchesRules() {
+        for (BlockState state : Block.BLOCK_STATE_REGISTRY) {
+            assertFalse(Float.isNaN(state.galacticraft$getOxygen()), "Oxygen was not baked into " + state);
+            assertEquals(OxygenBlockDataManager.computeOxygen(state), OxygenBlockDataManager.getOxygen(state), "Baked oxygen disagrees for " + state);
+        }
+    }
+
+    @BasicTest(batch = "oxygen")
+    public void oxygenUpdateRoundTrip() {
+        long[] previous = new long[SectionMasks.WORDS];
+        long[] storage = new long[SectionMasks.WORDS];
+        SectionMasks.shell(previous, 8, 8, 8, -1, 36);
+        SectionMasks.shell(storage, 8, 8, 8, -1, 49);
+
+        long dirty = 0;
+        for (int i = 0; i < SectionMasks.WORDS; i++) {
+            if (storage[i] != previous[i]) {
+                dirty |= 1L << i;
+            }
+        }
+
+        OxygenUpdatePayload.OxygenData[] data = {
+                OxygenUpdatePayload.OxygenData.of(3, dirty, storage),
+                OxygenUpdatePayload.OxygenData.of(17, -1L, storage)
+        };
+        OxygenUpdatePayload payload = new OxygenUpdatePayload(0x1234_5678_9ABCL, data);
+
+        ByteBuf buf = Unpooled.buffer();
+        OxygenUpdatePayload.CODEC.encode(buf, payload);
+        OxygenUpdatePayload decoded = OxygenUpdatePayload.CODEC.decode(buf);
+        assertEquals(0, buf.readableBytes(), "Oxygen update left unread bytes");
+        assertEquals(payload.chunk(), decoded.chunk());
+        assertEquals(data.length, decoded.data().length);
+
+        for (int i = 0; i < data.length; i++) {
+            OxygenUpdatePayload.OxygenData expected = data[i];
+            OxygenUpdatePayload.OxygenData actual = decoded.data()[i];
+            assertEquals(expected.section(), actual.section());
+            assertEquals(expected.full(), actual.full());
+            assertEquals(expected.mask(), actual.mask());
+            assertArrayEquals(expected.words(), actual.words());
+
+            long[] applied = expected.full() ? new long[SectionMasks.WORDS] : previous.clone();
+            actual.apply(applied);
+            assertArrayEquals(storage, applied, "Applying the decoded update did not reproduce the section");
+        }
+    }
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void sectionStorageRoundTrip(GameTestHelper context) {
+        LevelChunkSection section = new LevelChunkSection(context.getLevel().registryAccess().registryOrThrow(Registries.BIOME));
+        ChunkSectionOxygenAccessor accessor = (ChunkSectionOxygenAccessor) section;
+        long[] all = new long[SectionMasks.WORDS];
+        Arrays.fill(all, -1L);
+        long[] sphere = new long[SectionMasks.WORDS];
+        SectionMasks.shell(sphere, 8, 8, 8, -1, 25);
+        long[] out = new long[SectionMasks.WORDS];
+
+        assertSectionRoundTrip(context, section, new long[SectionMasks.WORDS]);
+
+        accessor.galacticraft$applyMask(sphere, true);
+        assertEquals(Arrays.stream(sphere).map(Long::bitCount).sum(), accessor.galacticraft$getCount());
+        assertSectionRoundTrip(context, section, sphere);
+
+        accessor.galacticraft$applyMask(all, true);
+        assertEquals(SectionMasks.WORDS * Long.SIZE, accessor.galacticraft$getCount());
+        assertSectionRoundTrip(context, section, all);
+
+        // clearing a single position has to copy the shared full storage, not modify it
+        accessor.galacticraft$setInverted(0, false);
+        LevelChunkSection other = new LevelChunkSection(context.getLevel().registryAccess().registryOrThrow(Registries.BIOME));
+        ((ChunkSectionOxygenAccessor) other).galacticraft$applyMask(all, true);
+        ((ChunkSectionOxygenAccessor) other).galacticraft$getMask(out);
+        assertArrayEquals(all, out, "Full sections share modified storage");
+
+        accessor.galacticraft$applyMask(all, false);
+        assertEquals(0, accessor.galacticraft$getCount());
+        assertSectionRoundTrip(context, section, new long[SectionMasks.WORDS]);
+        context.succeed();
+    }
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void overlappingBubblesSurviveShrink(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        InternalLevelOxygenAccessor oxygen = (InternalLevelOxygenAccessor) level;
+        boolean breathable = oxygen.getDefaultBreathable();
+        oxygen.setDefaultBreathable(false);
+
+        try {
+            context.setBlock(1, 2, 1, GCBlocks.OXYGEN_BUBBLE_DISTRIBUTOR);
+            context.setBlock(5, 2, 1, GCBlocks.OXYGEN_BUBBLE_DISTRIBUTOR);
+            OxygenBubbleDistributorBlockEntity first = context.getBlockEntity(new BlockPos(1, 2, 1));
+            OxygenBubbleDistributorBlockEntity second = context.getBlockEntity(new BlockPos(5, 2, 1));
+            BlockPos overlap = context.absolutePos(new BlockPos(3, 2, 1));
+            BlockPos secondOnly = context.absolutePos(new BlockPos(7, 2, 1));
+
+            first.updateBubble(9);
+            second.updateBubble(9);
+            assertTrue(level.isBreathable(overlap), "Overlap of two bubbles is not breathable");
+            assertTrue(level.isBreathable(secondOnly), "Bubble is not breathable");
+
+            second.updateBubble(1);
+            assertTrue(level.isBreathable(overlap), "Shrinking a bubble cleared the overlap with its neighbour");
+            assertFalse(level.isBreathable(secondOnly), "Shrinking a bubble did not clear its shell");
+
+            second.updateBubble(-1);
+            assertTrue(level.isBreathable(overlap), "Removing a bubble cleared the overlap with its neighbour");
+
+            first.updateBubble(-1);
+            assertFalse(level.isBreathable(overlap), "Removing both bubbles left the overlap breathable");
+        } finally {
+            oxygen.setDefaultBreathable(breathable);
+        }
+        context.succeed();
+    }
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void oxygenChangeIsSentToWatchers(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        BlockPos pos = context.absolutePos(new BlockPos(1, 2, 1));
+        LevelChunk chunk = level.getChunkAt(pos);
+        ChunkPos chunkPos = chunk.getPos();
+
+        // A watching player whose connection records what it is sent
+        List<Packet<?>> sent = new ArrayList<>();
+        ServerPlayer player = FakePlayer.get(level, new GameProfile(UUID.randomUUID(), "oxygen-sync-test"));
+        new ServerGamePacketListenerImpl(level.getServer(), new Connection(PacketFlow.CLIENTBOUND), player, CommonListenerCookie.createInitial(player.getGameProfile(), false)) {
+            @Override
+            public void send(Packet<?> packet, @Nullable PacketSendListener listener) {
+                sent.add(packet);
+            }
+        };
+        ChunkHolder holder = new ChunkHolder(chunkPos, ChunkLevel.byStatus(FullChunkStatus.FULL), level, level.getLightEngine(),
+                (holderPos, oldLevel, newLevel, setLevel) -> {}, (watchedPos, onlyOnEdge) -> List.of(player));
+
+        level.setBreathable(pos, !level.isBreathable(pos));
+        holder.broadcastChanges(chunk);
+
+        OxygenUpdatePayload update = null;
+        for (Packet<?> packet : sent) {
+            if (packet instanceof ClientboundCustomPayloadPacket custom && custom.payload() instanceof OxygenUpdatePayload payload) {
+                update = payload;
+            }
+        }
+        assertNotNull(update, "Oxygen change was not sent to the watching player");
+        assertEquals(chunkPos.toLong(), update.chunk());
+        assertEquals(1, update.data().length, "Only the changed section should be sent");
+        context.succeed();
+    }
+
+    private static void assertSectionRoundTrip(GameTestHelper context, LevelChunkSection section, long[] expected) {
+        FriendlyByteBuf buf = new FriendlyByteBuf(Unpooled.buffer());
+        section.write(buf);
+        assertEquals(section.getSerializedSize(), buf.readableBytes(), "Section packet size disagrees with the written data");
+
+        LevelChunkSection read = new LevelChunkSection(context.getLevel().registryAccess().registryOrThrow(Registries.BIOME));
+        read.read(buf);
+        long[] words = new long[SectionMasks.WORDS];
+        ((ChunkSectionOxygenAccessor) read).galacticraft$getMask(words);
+        assertArrayEquals(expected, words, "Section oxygen did not survive the packet round trip");
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.machinelib.api.gametest.SimpleGameTest;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.world.biome.GCBiomes;
+import dev.galacticraft.mod.world.gen.GCNoiseGeneratorSettings;
+import dev.galacticraft.mod.world.gen.PlanetChunkGenerator;
+import net.fabricmc.fabric.api.gametest.v1.FabricGameTest;
+import net.minecraft.core.BlockPos;
+import net.minecraft.core.registries.Registries;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.server.level.ServerLevel;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.biome.BiomeSource;
+import net.minecraft.world.level.biome.FixedBiomeSource;
+import net.minecraft.world.level.chunk.ChunkGenerator;
+import net.minecraft.world.level.chunk.ProtoChunk;
+import net.minecraft.world.level.chunk.UpgradeData;
+import net.minecraft.world.level.levelgen.Heightmap;
+import net.minecraft.world.level.levelgen.RandomState;
+import net.minecraft.world.level.levelgen.blending.Blender;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PlanetGenTestSuite extends SimpleGameTest {
+    private static final long SEED = 1000L;
+
+    @GameTest(template = FabricGameTest.EMPTY_STRUCTURE)
+    public void fillMatchesBaseHeight(GameTestHelper context) {
+        ServerLevel level = context.getLevel();
+        PlanetChunkGenerator generator = createPlanetGenerator(level);
+        RandomState randomState = RandomState.create(level.registryAccess(), GCNoiseGeneratorSettings.VENUS, SEED);
+
+        for (int i = 0; i < 4; i++) {
+            ProtoChunk chunk = fill(level, generator, randomState, new ChunkPos(i * 7, -i * 5));
+            for (int x = 0; x < 16; x++) {
+                for (int z = 0; z < 16; z++) {
+                    BlockPos top = chunk.getPos().getBlockAt(x, chunk.getHeight(Heightmap.Types.WORLD_SURFACE_WG, x, z), z);
+                    assertEquals(generator.getBaseHeight(top.getX(), top.getZ(), Heightmap.Types.WORLD_SURFACE_WG, chunk, randomState), top.getY() + 1, "Filled column disagrees with the base height at " + top);
+                    assertEquals(GCBlocks.MOON_TURF.defaultBlockState(), chunk.getBlockState(top), "Column is not topped with the surface block at " + top);
+                    assertTrue(chunk.getBlockState(top.above()).isAir(), "Column continues above the surface at " + top);
+                    assertEquals(GCBlocks.MOON_ROCK.defaultBlockState(), chunk.getBlockState(top.atY(level.getMinBuildHeight())), "Column does not reach down to the bottom at " + top);
+                }
+            }
+        }
+        context.succeed();
+    }
+
+    private static ProtoChunk fill(ServerLevel level, ChunkGenerator generator, RandomState randomState, ChunkPos pos) {
+        ProtoChunk chunk = new ProtoChunk(pos, UpgradeData.EMPTY, level, level.registryAccess().registryOrThrow(Registries.BIOME), null);
+        generator.fillFromNoise(Blender.empty(), randomState, level.structureManager(), chunk).join();
+        return chunk;
+    }
+
+    private static BiomeSource createBiomeSource(ServerLevel level) {
+        return new FixedBiomeSource(level.registryAccess().registryOrThrow(Registries.BIOME).getHolderOrThrow(GCBiomes.Moon.LUNAR_HIGHLANDS));
+    }
+
+    private static PlanetChunkGenerator createPlanetGenerator(ServerLevel level) {
+        return new PlanetChunkGenerator(createBiomeSource(level), new PlanetChunkGenerator.TerrainSettings(
+                level.getMinBuildHeight(), level.getHeight(), 64, 24, .01F, 4, .5F,
+                GCBlocks.MOON_ROCK.defaultBlockState(), GCBlocks.MOON_TURF.defaultBlockState(), GCBlocks.MOON_DIRT.defaultBlockState(), 3,
+                Optional.of(new PlanetChunkGenerator.CraterSettings(.05F, 8, 32))
+        ));
+    }
+}
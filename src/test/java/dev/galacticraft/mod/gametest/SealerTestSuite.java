@@ -0,0 +1,204 @@
+/*
+ * Copyright (c) 2019-2025 Team Galacticraft
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package dev.galacticraft.mod.gametest;
+
+import dev.galacticraft.api.gas.Gases;
+import dev.galacticraft.mod.Galacticraft;
+import dev.galacticraft.mod.accessor.GCLevelAccessor;
+import dev.galacticraft.mod.config.ConfigImpl;
+import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.content.block.entity.machine.OxygenSealerBlockEntity;
+import dev.galacticraft.mod.machine.SealerManager;
+import net.minecraft.core.BlockPos;
+import net.minecraft.gametest.framework.GameTest;
+import net.minecraft.gametest.framework.GameTestHelper;
+import net.minecraft.world.level.block.Blocks;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SealerTestSuite implements GalacticraftGameTest {
+    // Ticks for a freshly powered sealer to notice its energy
+    private static final int POWER_UP = 2;
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void enclosedRoomSeals(GameTestHelper context) {
+        OxygenSealerBlockEntity sealer = buildRoom(context, 0, 0, 3, 3);
+        runFinalTaskAt(context, POWER_UP, () -> {
+            manager(context).recalculateSealingStatus(sealer.getBlockPos(), context.getLevel());
+            assertTrue(sealer.isSealed(), "Sealer of an enclosed room is not sealed");
+            assertSealed(context, true, new BlockPos(1, 2, 1), new BlockPos(2, 3, 2));
+            assertSealed(context, false, new BlockPos(0, 2, 0), new BlockPos(1, 5, 1));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void breakingWallUnseals(GameTestHelper context) {
+        OxygenSealerBlockEntity sealer = buildRoom(context, 0, 0, 3, 3);
+        runFinalTaskAt(context, POWER_UP, () -> {
+            manager(context).recalculateSealingStatus(sealer.getBlockPos(), context.getLevel());
+            assertTrue(sealer.isSealed(), "Sealer of an enclosed room is not sealed");
+
+            context.setBlock(new BlockPos(0, 2, 1), Blocks.AIR);
+            assertFalse(sealer.isSealed(), "Room with a hole in its wall is still sealed");
+            assertSealed(context, false, new BlockPos(1, 2, 1), new BlockPos(2, 3, 2), new BlockPos(0, 2, 1));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void placingBlockSplitsRoom(GameTestHelper context) {
+        // a corridor from x 1 to 5 with the sealer under its west end
+        buildBox(context, 0, 1, 0, 6, 3, 2);
+        context.setBlock(1, 1, 1, GCBlocks.OXYGEN_SEALER);
+        OxygenSealerBlockEntity sealer = power(context, new BlockPos(1, 1, 1));
+
+        runFinalTaskAt(context, POWER_UP, () -> {
+            manager(context).recalculateSealingStatus(sealer.getBlockPos(), context.getLevel());
+            assertSealed(context, true, new BlockPos(1, 2, 1), new BlockPos(3, 2, 1), new BlockPos(5, 2, 1));
+
+            // the east end is cut off from the sealer
+            context.setBlock(new BlockPos(3, 2, 1), Blocks.STONE);
+            assertTrue(sealer.isSealed(), "Splitting a room unsealed the part with the sealer");
+            assertSealed(context, true, new BlockPos(1, 2, 1), new BlockPos(2, 2, 1));
+            assertSealed(context, false, new BlockPos(3, 2, 1), new BlockPos(4, 2, 1), new BlockPos(5, 2, 1));
+
+            // and joined up again
+            context.setBlock(new BlockPos(3, 2, 1), Blocks.AIR);
+            assertTrue(sealer.isSealed(), "Rejoining a room unsealed it");
+            assertSealed(context, true, new BlockPos(1, 2, 1), new BlockPos(3, 2, 1), new BlockPos(5, 2, 1));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void removingSealerUnseals(GameTestHelper context) {
+        OxygenSealerBlockEntity sealer = buildRoom(context, 0, 0, 3, 3);
+        runFinalTaskAt(context, POWER_UP, () -> {
+            manager(context).recalculateSealingStatus(sealer.getBlockPos(), context.getLevel());
+            assertSealed(context, true, new BlockPos(1, 2, 1));
+
+            context.setBlock(new BlockPos(1, 1, 1), Blocks.STONE);
+            assertSealed(context, false, new BlockPos(1, 2, 1), new BlockPos(2, 3, 2));
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void unpoweringSealerUnseals(GameTestHelper context) {
+        OxygenSealerBlockEntity sealer = buildRoom(context, 0, 0, 3, 3);
+        runAt(context, POWER_UP, () -> {
+            manager(context).recalculateSealingStatus(sealer.getBlockPos(), context.getLevel());
+            assertTrue(sealer.isSealed(), "Sealer of an enclosed room is not sealed");
+            assertSealed(context, true, new BlockPos(1, 2, 1));
+
+            // the sealer re-checks its room on the tick it runs out of energy
+            sealer.energyStorage().setEnergy(0);
+            runFinalTaskAt(context, POWER_UP, () -> {
+                assertFalse(sealer.isSealed(), "Sealer without energy is still sealed");
+                assertSealed(context, false, new BlockPos(1, 2, 1), new BlockPos(2, 3, 2));
+            });
+        });
+    }
+
+    @GameTest(template = EMPTY_STRUCTURE, timeoutTicks = 15)
+    public void offThreadCheckMatchesSync(GameTestHelper context) {
+        // two identical rooms, one checked on the server thread and one on a worker
+        OxygenSealerBlockEntity sync = buildRoom(context, 0, 0, 3, 3);
+        OxygenSealerBlockEntity async = buildRoom(context, 4, 4, 7, 7);
+        SealerManager manager = manager(context);
+
+        Runnable agree = () -> {
+            assertFalse(manager.hasPendingChecks(), "Off-thread seal check has not been applied");
+            assertTrue(async.isSealed(), "Sealer of an enclosed room is not sealed");
+            assertEquals(sync.isSealed(), async.isSealed(), "Off-thread check disagrees on whether the room is sealed");
+            for (int x = 0; x <= 3; x++) {
+                for (int y = 1; y <= 4; y++) {
+                    for (int z = 0; z <= 3; z++) {
+                        assertEquals(manager.isSealed(context.absolutePos(new BlockPos(x, y, z))), manager.isSealed(context.absolutePos(new BlockPos(x + 4, y, z + 4))),
+                                "Off-thread check disagrees at " + x + ", " + y + ", " + z);
+                    }
+                }
+            }
+        };
+
+        // the sealers' own periodic checks only start after the timeout
+        runAt(context, POWER_UP, () -> {
+            manager.recalculateSealingStatus(sync.getBlockPos(), context.getLevel());
+            checkOffThread(context, async);
+            context.startSequence()
+                    .thenWaitUntil(agree)
+                    // a second check finds the same, unchanged room
+                    .thenExecute(() -> checkOffThread(context, async))
+                    .thenWaitUntil(agree)
+                    .thenSucceed();
+        });
+    }
+
+    private static void checkOffThread(GameTestHelper context, OxygenSealerBlockEntity sealer) {
+        ConfigImpl config = (ConfigImpl) Galacticraft.CONFIG;
+        boolean asyncSealing = config.asyncSealing();
+        config.setAsyncSealing(true);
+        try {
+            manager(context).checkSealingStatus(sealer.getBlockPos(), context.getLevel());
+        } finally {
+            config.setAsyncSealing(asyncSealing);
+        }
+    }
+
+    /**
+     * Builds a closed room with a 2x2x2 interior and a powered sealer in its floor.
+     */
+    private static OxygenSealerBlockEntity buildRoom(GameTestHelper context, int minX, int minZ, int maxX, int maxZ) {
+        buildBox(context, minX, 1, minZ, maxX, 4, maxZ);
+        BlockPos sealer = new BlockPos(minX + 1, 1, minZ + 1);
+        context.setBlock(sealer, GCBlocks.OXYGEN_SEALER);
+        return power(context, sealer);
+    }
+
+    private static void buildBox(GameTestHelper context, int minX, int minY, int minZ, int maxX, int maxY, int maxZ) {
+        for (int x = minX; x <= maxX; x++) {
+            for (int y = minY; y <= maxY; y++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    boolean wall = x == minX || x == maxX || y == minY || y == maxY || z == minZ || z == maxZ;
+                    context.setBlock(x, y, z, wall ? Blocks.STONE : Blocks.AIR);
+                }
+            }
+        }
+    }
+
+    private static OxygenSealerBlockEntity power(GameTestHelper context, BlockPos pos) {
+        OxygenSealerBlockEntity sealer = context.getBlockEntity(pos);
+        sealer.energyStorage().setEnergy(Long.MAX_VALUE / 2);
+        sealer.fluidStorage().slot(OxygenSealerBlockEntity.OXYGEN_TANK).insert(Gases.OXYGEN, OxygenSealerBlockEntity.MAX_OXYGEN);
+        return sealer;
+    }
+
+    private static SealerManager manager(GameTestHelper context) {
+        return ((GCLevelAccessor) context.getLevel()).getSealerManager();
+    }
+
+    private static void assertSealed(GameTestHelper context, boolean sealed, BlockPos... positions) {
+        for (BlockPos pos : positions) {
+            assertEquals(sealed, manager(context).isSealed(context.absolutePos(pos)), pos + (sealed ? " is not sealed" : " is sealed"));
+        }
+    }
+}
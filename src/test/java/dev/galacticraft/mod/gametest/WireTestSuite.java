@@ -25,9 +25,17 @@
 import dev.galacticraft.mod.api.wire.Wire;
 import dev.galacticraft.mod.api.wire.impl.WireNetworkImpl;
 import dev.galacticraft.mod.content.GCBlocks;
+import dev.galacticraft.mod.machine.storage.DistributionEngine;
+import net.fabricmc.fabric.api.transfer.v1.transaction.Transaction;
 import net.minecraft.core.BlockPos;
 import net.minecraft.gametest.framework.GameTest;
 import net.minecraft.gametest.framework.GameTestHelper;
+import team.reborn.energy.api.EnergyStorage;
+import team.reborn.energy.api.base.SimpleEnergyStorage;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class WireTestSuite implements GalacticraftGameTest {
     @GameTest(template = EMPTY_STRUCTURE)
@@ -82,4 +90,30 @@ public void wireConnectionTest(GameTestHelper context) {
             }
         }
     }
+
+    @GameTest(template = EMPTY_STRUCTURE)
+    public void distributionSurvivesRollback(GameTestHelper context) {
+        SimpleEnergyStorage[] storages = {new SimpleEnergyStorage(100, 100, 0), new SimpleEnergyStorage(100, 100, 0), new SimpleEnergyStorage(100, 100, 0)};
+        DistributionEngine<EnergyStorage, Void> engine = new DistributionEngine<>(() -> List.<EnergyStorage>of(storages), (storage, resource, amount, transaction) -> storage.insert(amount, transaction));
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            assertEquals(300, engine.distribute(null, 300, 1000, 1, transaction));
+            // closed without committing, so the demand used up here has to come back
+        }
+
+        try (Transaction transaction = Transaction.openOuter()) {
+            long inserted = 0;
+            // single units must not be lost to rounding when they are split between the endpoints
+            for (int i = 0; i < 300; i++) {
+                inserted += engine.distribute(null, 1, 1000, 1, transaction);
+            }
+            assertEquals(300, inserted, "Distribution lost demand to a rolled back transaction");
+            transaction.commit();
+        }
+
+        for (SimpleEnergyStorage storage : storages) {
+            assertEquals(100, storage.amount, "Endpoint was not filled");
+        }
+        context.succeed();
+    }
 }